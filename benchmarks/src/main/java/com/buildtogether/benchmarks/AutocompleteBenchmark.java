@@ -0,0 +1,102 @@
+package com.buildtogether.benchmarks;
+
+import com.buildtogether.dto.SuggestionDTO;
+import com.buildtogether.repository.SkillRepository;
+import com.buildtogether.repository.TeamRepository;
+import com.buildtogether.repository.UserRepository;
+import com.buildtogether.search.AutocompleteIndex;
+import com.buildtogether.search.SearchIndex.DocType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Typeahead lookups against the in-memory tries: random two-word user names, 500 skills, 2 000 teams
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class AutocompleteBenchmark {
+
+    private static final String[] FIRST = {"ada", "alan", "grace", "john", "joan", "linus", "barbara", "ken",
+            "dennis", "margaret", "donald", "edsger", "tim", "guido", "james", "bjarne"};
+
+    @Param({"10000", "100000"})
+    private int users;
+
+    private AutocompleteIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<SuggestionDTO> userRows = new ArrayList<>(users);
+        for (long id = 1; id <= users; id++) {
+            String name = FIRST[random.nextInt(FIRST.length)] + " " + randomWord(random);
+            userRows.add(new SuggestionDTO(id, name, (long) random.nextInt(10)));
+        }
+        List<SuggestionDTO> skillRows = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            skillRows.add(new SuggestionDTO(id, randomWord(random), (long) random.nextInt(users)));
+        }
+        List<SuggestionDTO> teamRows = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            teamRows.add(new SuggestionDTO(id, "Team " + randomWord(random), (long) random.nextInt(6)));
+        }
+        index = new AutocompleteIndex(repositoryReturning(SkillRepository.class, skillRows),
+                repositoryReturning(UserRepository.class, userRows),
+                repositoryReturning(TeamRepository.class, teamRows));
+        index.onApplicationReady();
+    }
+
+    @Benchmark
+    public List<SuggestionDTO> oneLetterAllTypes() {
+        return index.suggest("j", Set.of(), 10);
+    }
+
+    @Benchmark
+    public List<SuggestionDTO> lastNamePrefixUsers() {
+        return index.suggest("ma", Set.of(DocType.USER), 10);
+    }
+
+    @Benchmark
+    public List<SuggestionDTO> fullNamePrefixUsers() {
+        return index.suggest("grace ho", Set.of(DocType.USER), 10);
+    }
+
+    private static String randomWord(Random random) {
+        int length = 4 + random.nextInt(6);
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+
+    // Serves findSuggestions from memory; the index uses nothing else during a full load
+    @SuppressWarnings("unchecked")
+    private static <R> R repositoryReturning(Class<R> type, List<SuggestionDTO> rows) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (!method.getName().equals("findSuggestions")) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            return rows;
+        });
+    }
+}
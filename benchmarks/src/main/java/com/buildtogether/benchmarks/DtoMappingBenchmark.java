@@ -0,0 +1,63 @@
+package com.buildtogether.benchmarks;
+
+import com.buildtogether.dto.SubmissionDTO;
+import com.buildtogether.dto.TeamMemberDTO;
+import com.buildtogether.dto.UserDTO;
+import com.buildtogether.entity.Submission;
+import com.buildtogether.entity.Team;
+import com.buildtogether.entity.TeamMember;
+import com.buildtogether.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Entity -> DTO factory cost per row; run with -prof gc for allocation rate
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    // Size in characters of each CLOB field (projectDescription, technologies, features)
+    @Param({"256", "65536"})
+    private int clobSize;
+
+    private User user;
+    private Submission submission;
+    private TeamMember teamMember;
+
+    @Setup
+    public void setUp() {
+        user = Fixtures.user(1);
+        Team team = Fixtures.team(1, Fixtures.hackathon(1, user), user);
+        submission = Fixtures.submission(1, team, user, clobSize);
+        teamMember = Fixtures.teamMember(team, user);
+    }
+
+    @Benchmark
+    public UserDTO userFromUser() {
+        return UserDTO.fromUser(user);
+    }
+
+    @Benchmark
+    public SubmissionDTO submissionFromSubmission() {
+        return SubmissionDTO.fromSubmission(submission);
+    }
+
+    @Benchmark
+    public TeamMemberDTO teamMemberFromTeamMember() {
+        return TeamMemberDTO.fromTeamMember(teamMember);
+    }
+}
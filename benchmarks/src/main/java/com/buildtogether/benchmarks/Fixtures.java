@@ -0,0 +1,100 @@
+package com.buildtogether.benchmarks;
+
+import com.buildtogether.entity.Hackathon;
+import com.buildtogether.entity.Submission;
+import com.buildtogether.entity.Team;
+import com.buildtogether.entity.TeamMember;
+import com.buildtogether.entity.TeamMemberId;
+import com.buildtogether.entity.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// In-memory entity graphs shaped like production rows; no database involved
+final class Fixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+    private Fixtures() {
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setName("Participant " + id);
+        user.setEmail("participant" + id + "@buildtogether.com");
+        user.setPassword("password123");
+        user.setPhone("+1-555-0" + (100 + id % 900));
+        user.setRole(User.UserRole.DEVELOPER);
+        user.setGithubLink("https://github.com/participant" + id);
+        user.setLinkedinLink("https://linkedin.com/in/participant" + id);
+        user.setCreatedAt(NOW);
+        user.setUpdatedAt(NOW);
+        return user;
+    }
+
+    static Hackathon hackathon(long id, User createdBy) {
+        Hackathon hackathon = new Hackathon();
+        hackathon.setId(id);
+        hackathon.setTitle("AI Innovation Challenge " + id);
+        hackathon.setDescription("Build innovative AI solutions for real-world problems");
+        hackathon.setStartDate(LocalDate.of(2024, 3, 1));
+        hackathon.setEndDate(LocalDate.of(2024, 3, 3));
+        hackathon.setMaxTeamSize(5);
+        hackathon.setCreatedBy(createdBy);
+        hackathon.setCreatedAt(NOW);
+        hackathon.setUpdatedAt(NOW);
+        return hackathon;
+    }
+
+    static Team team(long id, Hackathon hackathon, User createdBy) {
+        Team team = new Team();
+        team.setId(id);
+        team.setTeamName("Team " + id);
+        team.setHackathon(hackathon);
+        team.setCreatedBy(createdBy);
+        team.setCreatedAt(NOW);
+        team.setUpdatedAt(NOW);
+        return team;
+    }
+
+    static TeamMember teamMember(Team team, User user) {
+        TeamMember teamMember = new TeamMember();
+        teamMember.setId(new TeamMemberId(team.getId(), user.getId()));
+        teamMember.setTeam(team);
+        teamMember.setUser(user);
+        teamMember.setRoleInTeam(TeamMember.RoleInTeam.DEVELOPER);
+        teamMember.setCreatedAt(NOW);
+        teamMember.setUpdatedAt(NOW);
+        return teamMember;
+    }
+
+    static Submission submission(long id, Team team, User submittedBy, int clobSize) {
+        Submission submission = new Submission();
+        submission.setId(id);
+        submission.setTeam(team);
+        submission.setHackathon(team.getHackathon());
+        submission.setSubmittedBy(submittedBy);
+        submission.setProjectTitle("Project " + id);
+        submission.setProjectDescription(text("An assistant that pairs hackathon teams by skill. ", clobSize));
+        submission.setTechnologies(text("Java, Spring Boot, Oracle, React, ", clobSize));
+        submission.setFeatures(text("Realtime leaderboard, skill matching, ", clobSize));
+        submission.setJudgeComments(text("Strong demo and clean architecture. ", clobSize / 4));
+        submission.setGithubLink("https://github.com/buildtogether/project" + id);
+        submission.setDemoLink("https://demo.buildtogether.com/" + id);
+        submission.setStatus(Submission.SubmissionStatus.SUBMITTED);
+        submission.setScore(BigDecimal.valueOf(8.75));
+        submission.setSubmittedAt(NOW);
+        return submission;
+    }
+
+    static String text(String phrase, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            builder.append(phrase);
+        }
+        builder.setLength(length);
+        return builder.toString();
+    }
+}
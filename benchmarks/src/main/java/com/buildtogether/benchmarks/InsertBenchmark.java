@@ -0,0 +1,149 @@
+package com.buildtogether.benchmarks;
+
+import com.buildtogether.entity.PooledSequenceGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Hibernate insert cost per transaction of `rows` persists, IDENTITY keys (before) vs PooledSequenceGenerator (after),
+// with the application's batch_size/order_inserts settings. H2 in-memory, so it understates the gap on a networked Oracle.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InsertBenchmark {
+
+    @Param({"identity", "sequence"})
+    private String keys;
+
+    @Param({"1000"})
+    private int rows;
+
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+
+    @Entity
+    @Table(name = "bench_identity_row")
+    public static class IdentityRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @Column(nullable = false)
+        String name;
+        @Column(nullable = false)
+        String email;
+        @Column(name = "created_at", nullable = false)
+        LocalDateTime createdAt;
+    }
+
+    @Entity
+    @Table(name = "bench_sequence_row")
+    public static class SequenceRow {
+        @Id
+        @GeneratedValue(generator = "bench_sequence_row_seq")
+        @GenericGenerator(name = "bench_sequence_row_seq", type = PooledSequenceGenerator.class,
+                parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "bench_sequence_row_seq"))
+        Long id;
+        @Column(nullable = false)
+        String name;
+        @Column(nullable = false)
+        String email;
+        @Column(name = "created_at", nullable = false)
+        LocalDateTime createdAt;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:inserts;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DATASOURCE, dataSource)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 20)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .applySetting(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING, PooledSequenceGenerator.DEFAULT_ALLOCATION_SIZE)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(SequenceRow.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createNativeMutationQuery("delete from " + ("identity".equals(keys) ? "bench_identity_row" : "bench_sequence_row"))
+                    .executeUpdate();
+            session.getTransaction().commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public void insertRows() {
+        LocalDateTime now = LocalDateTime.now();
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < rows; i++) {
+                session.persist("identity".equals(keys) ? identityRow(i, now) : sequenceRow(i, now));
+            }
+            session.getTransaction().commit();
+        }
+    }
+
+    private static IdentityRow identityRow(int i, LocalDateTime now) {
+        IdentityRow row = new IdentityRow();
+        row.name = "Participant " + i;
+        row.email = "participant" + i + "@buildtogether.com";
+        row.createdAt = now;
+        return row;
+    }
+
+    private static SequenceRow sequenceRow(int i, LocalDateTime now) {
+        SequenceRow row = new SequenceRow();
+        row.name = "Participant " + i;
+        row.email = "participant" + i + "@buildtogether.com";
+        row.createdAt = now;
+        return row;
+    }
+}
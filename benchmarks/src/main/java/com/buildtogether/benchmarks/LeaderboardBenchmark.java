@@ -0,0 +1,110 @@
+package com.buildtogether.benchmarks;
+
+import com.buildtogether.dto.LeaderboardEntryDTO;
+import com.buildtogether.dto.LeaderboardPageDTO;
+import com.buildtogether.entity.Submission;
+import com.buildtogether.event.EntityChangedEvent;
+import com.buildtogether.repository.SubmissionRepository;
+import com.buildtogether.service.LeaderboardIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// One hackathon with `submissions` ranked entries. rescore moves one submission after a judge's update (the
+// incremental path), topPage reads the first 50 ranks; sortAll is what every poll costs today once the rows are
+// loaded: sort all of them and take the top 50
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class LeaderboardBenchmark {
+
+    private static final Comparator<LeaderboardEntryDTO> BY_SCORE = Comparator
+            .comparing(LeaderboardEntryDTO::getScore, Comparator.reverseOrder())
+            .thenComparing(LeaderboardEntryDTO::getSubmissionId);
+
+    @Param({"1000", "10000"})
+    private int submissions;
+
+    private final Random random = new Random(42);
+    private List<LeaderboardEntryDTO> rows;
+    private LeaderboardIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rows = new ArrayList<>(submissions);
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= submissions; id++) {
+            rows.add(new LeaderboardEntryDTO(0, id, 1L, id, "Team " + id, "Project " + id, randomScore(), "SUBMITTED", now));
+        }
+        index = new LeaderboardIndex(repository(), new ObjectMapper(), Duration.ofMinutes(1));
+        index.onApplicationReady();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        index.close();
+    }
+
+    @Benchmark
+    public void rescore() {
+        int position = random.nextInt(submissions);
+        rows.get(position).setScore(randomScore());
+        index.onEntityChanged(new EntityChangedEvent(Submission.class, (long) position + 1, EntityChangedEvent.Change.UPDATED));
+    }
+
+    @Benchmark
+    public LeaderboardPageDTO topPage() {
+        return index.page(1L, 0, 50);
+    }
+
+    @Benchmark
+    public List<LeaderboardEntryDTO> sortAll() {
+        List<LeaderboardEntryDTO> sorted = new ArrayList<>(rows);
+        sorted.sort(BY_SCORE);
+        return sorted.subList(0, 50);
+    }
+
+    private BigDecimal randomScore() {
+        return BigDecimal.valueOf(random.nextInt(10_001), 2);
+    }
+
+    // Serves the leaderboard projections from the in-memory rows; the index uses nothing else
+    private SubmissionRepository repository() {
+        return (SubmissionRepository) Proxy.newProxyInstance(SubmissionRepository.class.getClassLoader(),
+                new Class<?>[]{SubmissionRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findLeaderboardEntries" -> rows;
+                    case "findLeaderboardEntryById" -> Optional.of(copy(rows.get((int) (long) (Long) args[0] - 1)));
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static LeaderboardEntryDTO copy(LeaderboardEntryDTO row) {
+        return new LeaderboardEntryDTO(0, row.getSubmissionId(), row.getHackathonId(), row.getTeamId(),
+                row.getTeamName(), row.getProjectTitle(), row.getScore(), row.getStatus(), row.getSubmittedAt());
+    }
+}
@@ -0,0 +1,96 @@
+package com.buildtogether.benchmarks;
+
+import com.buildtogether.dto.SubmissionDTO;
+import com.buildtogether.dto.TeamMemberDTO;
+import com.buildtogether.dto.UserDTO;
+import com.buildtogether.entity.Submission;
+import com.buildtogether.entity.Team;
+import com.buildtogether.entity.TeamMember;
+import com.buildtogether.entity.User;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Full list read path: entity list -> DTO list -> JSON, as the "get all" endpoints do it
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ListSerializationBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int size;
+
+    @Param({"1024"})
+    private int clobSize;
+
+    private ObjectWriter writer;
+    private List<User> users;
+    private List<Submission> submissions;
+    private List<TeamMember> teamMembers;
+    private List<SubmissionDTO> submissionDTOs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Same defaults Spring Boot applies to the MVC ObjectMapper (JavaTimeModule, no timestamps)
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        users = new ArrayList<>(size);
+        submissions = new ArrayList<>(size);
+        teamMembers = new ArrayList<>(size);
+        User organizer = Fixtures.user(0);
+        Team team = Fixtures.team(1, Fixtures.hackathon(1, organizer), organizer);
+        for (int i = 1; i <= size; i++) {
+            User user = Fixtures.user(i);
+            users.add(user);
+            submissions.add(Fixtures.submission(i, team, user, clobSize));
+            teamMembers.add(Fixtures.teamMember(team, user));
+        }
+        submissionDTOs = submissions.stream().map(SubmissionDTO::fromSubmission).toList();
+    }
+
+    @Benchmark
+    public void users() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), users.stream().map(UserDTO::fromUser).toList());
+    }
+
+    @Benchmark
+    public void submissions() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), submissions.stream().map(SubmissionDTO::fromSubmission).toList());
+    }
+
+    @Benchmark
+    public void teamMembers() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), teamMembers.stream().map(TeamMemberDTO::fromTeamMember).toList());
+    }
+
+    // Serialization alone, isolating Jackson from the mapping step
+    @Benchmark
+    public void submissionDTOsOnly() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), submissionDTOs);
+    }
+
+    // Spring buffers into a byte[] before writing when content length is computed; measure that shape too
+    @Benchmark
+    public byte[] submissionDTOsToBytes() throws IOException {
+        return writer.writeValueAsBytes(submissionDTOs);
+    }
+}
@@ -0,0 +1,98 @@
+package com.buildtogether.benchmarks;
+
+import com.buildtogether.dto.UserSkillDTO;
+import com.buildtogether.entity.UserSkill;
+import com.buildtogether.repository.UserSkillRepository;
+import com.buildtogether.service.SkillMatchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Candidate ranking against the in-memory skill index: users with ~5 of 200 skills each, 3-skill requirement
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class SkillMatchBenchmark {
+
+    private static final int SKILLS = 200;
+    private static final int SKILLS_PER_USER = 5;
+
+    @Param({"10000", "100000"})
+    private int users;
+
+    private SkillMatchIndex index;
+    private final List<Long> required = List.of(1L, 2L, 3L);
+    private final List<Long> members = List.of(1L, 2L, 3L, 4L);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<UserSkillDTO> rows = new ArrayList<>(users * SKILLS_PER_USER);
+        UserSkill.ProficiencyLevel[] levels = UserSkill.ProficiencyLevel.values();
+        for (long userId = 1; userId <= users; userId++) {
+            // Ascending, distinct skill ids per user, as the keyset load returns them
+            long skillId = 0;
+            for (int i = 0; i < SKILLS_PER_USER; i++) {
+                skillId += 1 + random.nextInt(SKILLS / SKILLS_PER_USER);
+                rows.add(new UserSkillDTO(userId, null, null, skillId, null,
+                        levels[random.nextInt(levels.length)], null, null));
+            }
+        }
+        index = new SkillMatchIndex(repositoryReturning(rows));
+        index.rebuild();
+    }
+
+    @Benchmark
+    public List<SkillMatchIndex.Candidate> rankTop20() {
+        return index.rank(required, UserSkill.ProficiencyLevel.BEGINNER, members, 20);
+    }
+
+    @Benchmark
+    public List<SkillMatchIndex.Candidate> rankTop20Advanced() {
+        return index.rank(required, UserSkill.ProficiencyLevel.ADVANCED, members, 20);
+    }
+
+    // Serves findDtoPageAfter from memory; the index uses nothing else during a rebuild
+    private static UserSkillRepository repositoryReturning(List<UserSkillDTO> rows) {
+        return (UserSkillRepository) Proxy.newProxyInstance(UserSkillRepository.class.getClassLoader(),
+                new Class<?>[]{UserSkillRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findDtoPageAfter")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    long userId = (Long) args[0];
+                    long skillId = (Long) args[1];
+                    int size = ((Pageable) args[2]).getPageSize();
+                    List<UserSkillDTO> page = new ArrayList<>(size);
+                    for (UserSkillDTO row : rows) {
+                        boolean after = row.getUserId() > userId
+                                || (row.getUserId() == userId && row.getSkillId() > skillId);
+                        if (after) {
+                            page.add(row);
+                            if (page.size() == size) {
+                                break;
+                            }
+                        }
+                    }
+                    return page;
+                });
+    }
+}
@@ -0,0 +1,136 @@
+package com.buildtogether.benchmarks;
+
+import com.buildtogether.BuildTogetherApplication;
+import com.buildtogether.dto.SubmissionDTO;
+import com.buildtogether.dto.SubmissionSummaryDTO;
+import com.buildtogether.projection.FieldSelection;
+import com.buildtogether.projection.SparseFieldsets;
+import com.buildtogether.service.SubmissionQueryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// GET /submissions read path (query -> DTOs -> JSON bytes) against H2 with `rows` submissions whose four CLOB
+// columns hold ~clobSize characters each. full selects every column, which is what the list endpoints did before
+// the summary view; summary is the default list now; description adds one CLOB to the summary fields through fields=;
+// mobile is fields=id,teamName,status. The JSON size of each variant is printed at the end of the trial (with the
+// response filter applied, as the endpoints write it).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class SubmissionListBenchmark {
+
+    private static final FieldSelection SUMMARY_FIELDS =
+            FieldSelection.of("id", "teamId", "teamName", "hackathonId", "projectTitle", "status", "score", "submittedAt");
+    private static final FieldSelection ALL_FIELDS = FieldSelection.of(SUMMARY_FIELDS.toString(), "hackathonTitle",
+            "projectDescription", "githubLink", "demoLink", "presentationLink", "technologies", "features", "judgeComments");
+    private static final FieldSelection DESCRIPTION_FIELDS =
+            FieldSelection.of(SUMMARY_FIELDS.toString(), "projectDescription");
+    private static final FieldSelection MOBILE_FIELDS = FieldSelection.of("id", "teamName", "status");
+
+    @Param({"1000"})
+    private int rows;
+
+    @Param({"4096"})
+    private int clobSize;
+
+    private ConfigurableApplicationContext context;
+    private SubmissionQueryService submissionQueryService;
+    private ObjectWriter writer;
+    private SparseFieldsets sparseFieldsets;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BuildTogetherApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:submissions;MODE=Oracle;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.file.name=");
+        seed(context.getBean(JdbcTemplate.class));
+        submissionQueryService = context.getBean(SubmissionQueryService.class);
+        writer = context.getBean(ObjectMapper.class).writer();
+        sparseFieldsets = context.getBean(SparseFieldsets.class);
+    }
+
+    private void seed(JdbcTemplate jdbc) {
+        jdbc.update("insert into dr_users(id, name, email, password, role, created_at, updated_at) " +
+                "values(1, 'Organizer', 'organizer@example.com', 'secret1', 'DEVELOPER', current_timestamp, current_timestamp)");
+        jdbc.update("insert into dr_hackathon(id, title, start_date, end_date, max_team_size, created_by, created_at, updated_at) " +
+                "values(1, 'AI Innovation Challenge', current_date, current_date + 2, 5, 1, current_timestamp, current_timestamp)");
+        jdbc.update("insert into dr_team(id, hackathon_id, created_by, team_name, created_at, updated_at) " +
+                "values(1, 1, 1, 'Team 1', current_timestamp, current_timestamp)");
+        List<Object[]> submissions = new ArrayList<>(rows);
+        for (int i = 1; i <= rows; i++) {
+            submissions.add(new Object[]{i, "Project " + i,
+                    Fixtures.text("An assistant that pairs hackathon teams by skill. ", clobSize),
+                    Fixtures.text("Java, Spring Boot, Oracle, React, ", clobSize),
+                    Fixtures.text("Realtime leaderboard, skill matching, ", clobSize),
+                    Fixtures.text("Strong demo and clean architecture. ", clobSize / 4),
+                    "https://github.com/buildtogether/project" + i});
+        }
+        jdbc.batchUpdate("insert into dr_submission(id, team_id, hackathon_id, project_title, project_description, " +
+                "technologies, features, judge_comments, github_link, status, score, submitted_by, submitted_at) " +
+                "values(?, 1, 1, ?, ?, ?, ?, ?, ?, 'SUBMITTED', 8.75, 1, current_timestamp)", submissions);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.out.printf("%nJSON bytes for %d submissions: full %d, summary %d, description %d, mobile %d%n", rows,
+                full().length, summary().length, description().length, mobile().length);
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] full() throws IOException {
+        return write(submissionQueryService.findAll(ALL_FIELDS), ALL_FIELDS);
+    }
+
+    @Benchmark
+    public byte[] summary() throws IOException {
+        return write(submissionQueryService.findAll(FieldSelection.all()), FieldSelection.all());
+    }
+
+    @Benchmark
+    public byte[] description() throws IOException {
+        return write(submissionQueryService.findAll(DESCRIPTION_FIELDS), DESCRIPTION_FIELDS);
+    }
+
+    @Benchmark
+    public byte[] mobile() throws IOException {
+        return write(submissionQueryService.findAll(MOBILE_FIELDS), MOBILE_FIELDS);
+    }
+
+    private byte[] write(List<SubmissionSummaryDTO> submissions, FieldSelection fields) throws IOException {
+        return sparseFieldsets.shape(writer, SubmissionDTO.class, fields).writeValueAsBytes(submissions);
+    }
+}
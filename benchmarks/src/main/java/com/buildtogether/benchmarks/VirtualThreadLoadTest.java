@@ -0,0 +1,222 @@
+package com.buildtogether.benchmarks;
+
+import com.buildtogether.BuildTogetherApplication;
+import com.buildtogether.search.AutocompleteIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Closed-loop HTTP load against the real application, once on Tomcat's platform-thread pool and once with the
+// "virtual" profile (virtual threads + connection admission). H2 in-memory stands in for Oracle, with a fixed
+// delay added to every statement to model the network round trip. Each client loops over a mix of database-bound
+// requests (GET /users/{id}) and in-memory ones (GET /search/autocomplete), so the report shows both how many
+// requests the pool can serve and how long requests that never touch the database wait behind those that do.
+//
+//   java -cp target/benchmarks.jar com.buildtogether.benchmarks.VirtualThreadLoadTest [clients] [seconds] [statementDelayMs]
+public class VirtualThreadLoadTest {
+
+    private static final int USERS = 1000;
+    // One request in four needs a database connection
+    private static final int DB_SHARE_PERCENT = 25;
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        long statementDelayMs = args.length > 2 ? Long.parseLong(args[2]) : 2;
+
+        List<String> report = new ArrayList<>();
+        for (String mode : new String[]{"platform", "virtual"}) {
+            report.addAll(run(mode, clients, seconds, statementDelayMs));
+        }
+        System.out.printf("%n%d clients, %d s, %d ms per statement, %d%% database-bound requests%n",
+                clients, seconds, statementDelayMs, DB_SHARE_PERCENT);
+        System.out.printf("%-9s %-9s %10s %9s %9s %9s %8s%n", "mode", "requests", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        report.forEach(System.out::println);
+    }
+
+    private static List<String> run(String mode, int clients, int seconds, long statementDelayMs) throws Exception {
+        List<String> properties = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load-" + mode + ";MODE=Oracle;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.buildtogether=WARN",
+                "--logging.file.name=",
+                "--load-test.statement-delay-ms=" + statementDelayMs));
+        if (mode.equals("virtual")) {
+            properties.add("--spring.profiles.active=virtual");
+        }
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BuildTogetherApplication.class, StatementDelay.class)
+                .run(properties.toArray(String[]::new))) {
+            seed(context.getBean(JdbcTemplate.class));
+            context.getBean(AutocompleteIndex.class).onApplicationReady();
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            // Warm up JIT and pools before measuring
+            drive(port, clients, Math.max(3, seconds / 4));
+            Result[] results = drive(port, clients, seconds);
+            return List.of(results[0].line(mode, "database", seconds), results[1].line(mode, "in-memory", seconds));
+        }
+    }
+
+    private static void seed(JdbcTemplate jdbc) {
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (int i = 1; i <= USERS; i++) {
+            users.add(new Object[]{i, "User " + i, "user" + i + "@example.com"});
+        }
+        jdbc.batchUpdate("insert into dr_users(id, name, email, password, role, created_at, updated_at) " +
+                "values(?, ?, ?, 'secret1', 'DEVELOPER', current_timestamp, current_timestamp)", users);
+    }
+
+    // Index 0: database-bound requests, index 1: in-memory requests
+    private static Result[] drive(int port, int clients, int seconds) throws InterruptedException {
+        Result[] results = {new Result(), new Result()};
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                workers.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        boolean database = random.nextInt(100) < DB_SHARE_PERCENT;
+                        String path = database
+                                ? "/api/v1/users/" + (1 + random.nextInt(USERS))
+                                : "/api/v1/search/autocomplete?q=user%20" + (1 + random.nextInt(9));
+                        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                                .timeout(Duration.ofSeconds(90))
+                                .build();
+                        long start = System.nanoTime();
+                        boolean ok;
+                        try {
+                            ok = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        results[database ? 0 : 1].record(System.nanoTime() - start, ok);
+                    }
+                });
+            }
+        }
+        return results;
+    }
+
+    private static final class Result {
+        private long[] latencies = new long[1 << 16];
+        private int count;
+        private final AtomicLong errors = new AtomicLong();
+
+        private synchronized void record(long nanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        private synchronized String line(String mode, String kind, int seconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return String.format("%-9s %-9s %10.0f %9.1f %9.1f %9.1f %8d", mode, kind, (double) count / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), count > 0 ? sorted[count - 1] / 1e6 : 0.0,
+                    errors.get());
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+        }
+    }
+
+    // Registered as an extra source (not component-scanned) so it only applies to load-test runs
+    public static class StatementDelay {
+
+        @Bean
+        public static BeanPostProcessor statementDelayPostProcessor(
+                @Value("${load-test.statement-delay-ms}") long delayMs) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof DelayingDataSource)) {
+                        return new DelayingDataSource(dataSource, delayMs);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    private static class DelayingDataSource extends DelegatingDataSource {
+
+        private final long delayMs;
+
+        DelayingDataSource(DataSource target, long delayMs) {
+            super(target);
+            this.delayMs = delayMs;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return (Connection) delaying(Connection.class, super.getConnection());
+        }
+
+        private Object delaying(Class<?> type, Object target) {
+            return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (target instanceof Statement && method.getName().startsWith("execute")) {
+                    Thread.sleep(delayMs);
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+                if (result instanceof CallableStatement callable) {
+                    return delaying(CallableStatement.class, callable);
+                }
+                if (result instanceof PreparedStatement prepared) {
+                    return delaying(PreparedStatement.class, prepared);
+                }
+                if (result instanceof Statement statement) {
+                    return delaying(Statement.class, statement);
+                }
+                return result;
+            });
+        }
+    }
+}
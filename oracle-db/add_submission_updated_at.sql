@@ -0,0 +1,19 @@
+-- =====================================================
+-- BuildTogether - Add dr_submission.updated_at
+-- The column tr_submission_updated_at maintains; it feeds the ETag and
+-- Last-Modified headers of the submission endpoints. Run with the application stopped.
+-- =====================================================
+
+ALTER TABLE dr_submission ADD (updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP);
+
+UPDATE dr_submission SET updated_at = submitted_at;
+
+CREATE OR REPLACE TRIGGER tr_submission_updated_at
+    BEFORE UPDATE ON dr_submission
+    FOR EACH ROW
+BEGIN
+    :NEW.updated_at := CURRENT_TIMESTAMP;
+END;
+/
+
+COMMIT;
@@ -0,0 +1,83 @@
+-- =====================================================
+-- BuildTogether - Add dr_team.member_count
+-- Seats taken per team, used to enforce the hackathon's max_team_size without
+-- counting members on every join. Run with the application stopped.
+-- =====================================================
+
+ALTER TABLE dr_team ADD (member_count NUMBER(10) DEFAULT 0 NOT NULL);
+
+UPDATE dr_team t SET member_count = (SELECT COUNT(*) FROM dr_team_member m WHERE m.team_id = t.id);
+
+ALTER TABLE dr_team ADD CONSTRAINT chk_team_member_count CHECK (member_count >= 0);
+
+-- Created after the backfill so teams that are already over capacity still migrate;
+-- they can shrink but not grow until they are back under max_team_size
+CREATE OR REPLACE TRIGGER tr_team_member_count_cap
+    BEFORE UPDATE OF member_count ON dr_team
+    FOR EACH ROW
+    WHEN (NEW.member_count > OLD.member_count)
+DECLARE
+    v_max_team_size dr_hackathon.max_team_size%TYPE;
+BEGIN
+    SELECT max_team_size INTO v_max_team_size FROM dr_hackathon WHERE id = :NEW.hackathon_id;
+    IF :NEW.member_count > NVL(v_max_team_size, 5) THEN
+        RAISE_APPLICATION_ERROR(-20001, 'Team ' || :NEW.id || ' is full');
+    END IF;
+END;
+/
+
+-- Keeps member_count in step with member rows inserted or deleted without the application's seat claim
+-- (TeamRepository.claimSeat/releaseSeat): after each statement every touched team's count is raised to at least,
+-- or lowered to at most, its member rows. Raising it goes through tr_team_member_count_cap, so a direct INSERT
+-- cannot overfill a team either. Seats claimed by the application already match the rows and are left alone.
+CREATE OR REPLACE TRIGGER tr_team_member_count_sync
+    FOR INSERT OR DELETE ON dr_team_member
+    COMPOUND TRIGGER
+    -- Team id -> TRUE when a member was added, FALSE when one was removed
+    TYPE t_teams IS TABLE OF BOOLEAN INDEX BY PLS_INTEGER;
+    v_teams t_teams;
+    e_mutating EXCEPTION;
+    PRAGMA EXCEPTION_INIT(e_mutating, -4091);
+
+    AFTER EACH ROW IS
+    BEGIN
+        IF INSERTING THEN
+            v_teams(:NEW.team_id) := TRUE;
+        ELSE
+            v_teams(:OLD.team_id) := FALSE;
+        END IF;
+    END AFTER EACH ROW;
+
+    AFTER STATEMENT IS
+        v_team_id PLS_INTEGER := v_teams.FIRST;
+    BEGIN
+        WHILE v_team_id IS NOT NULL LOOP
+            IF v_teams(v_team_id) THEN
+                UPDATE dr_team t SET member_count = (SELECT COUNT(*) FROM dr_team_member m WHERE m.team_id = t.id)
+                WHERE t.id = v_team_id
+                  AND t.member_count < (SELECT COUNT(*) FROM dr_team_member m WHERE m.team_id = t.id);
+            ELSE
+                UPDATE dr_team t SET member_count = (SELECT COUNT(*) FROM dr_team_member m WHERE m.team_id = t.id)
+                WHERE t.id = v_team_id
+                  AND t.member_count > (SELECT COUNT(*) FROM dr_team_member m WHERE m.team_id = t.id);
+            END IF;
+            v_team_id := v_teams.NEXT(v_team_id);
+        END LOOP;
+    EXCEPTION
+        -- Members cascading from a team or user delete: dr_team is mid-statement, and the application has
+        -- already released the seats of a deleted user (the team rows of a deleted team go with it)
+        WHEN e_mutating THEN
+            NULL;
+    END AFTER STATEMENT;
+END tr_team_member_count_sync;
+/
+
+COMMIT;
+
+-- =====================================================
+-- VERIFICATION: teams whose count disagrees with their members (expect none)
+-- =====================================================
+SELECT t.id, t.member_count, COUNT(m.user_id) AS members
+FROM dr_team t LEFT JOIN dr_team_member m ON m.team_id = t.id
+GROUP BY t.id, t.member_count
+HAVING t.member_count <> COUNT(m.user_id);
@@ -0,0 +1,45 @@
+-- =====================================================
+-- BuildTogether - Migrate IDENTITY primary keys to pooled sequences
+-- For databases created with the earlier IDENTITY-based oracle_schema.sql.
+-- Existing ids and foreign keys are kept; run with the application stopped.
+-- =====================================================
+
+-- =====================================================
+-- 1. DROP IDENTITY FROM id COLUMNS
+-- =====================================================
+ALTER TABLE dr_users MODIFY (id DROP IDENTITY);
+ALTER TABLE dr_skill MODIFY (id DROP IDENTITY);
+ALTER TABLE dr_hackathon MODIFY (id DROP IDENTITY);
+ALTER TABLE dr_team MODIFY (id DROP IDENTITY);
+ALTER TABLE dr_join_request MODIFY (id DROP IDENTITY);
+ALTER TABLE dr_submission MODIFY (id DROP IDENTITY);
+
+-- =====================================================
+-- 2. CREATE SEQUENCES ABOVE THE CURRENT MAX(id)
+-- =====================================================
+@@resync_id_sequences.sql
+
+-- =====================================================
+-- 3. SEQUENCE DEFAULTS FOR PLAIN SQL INSERTS
+-- =====================================================
+ALTER TABLE dr_users MODIFY (id DEFAULT dr_users_seq.NEXTVAL);
+ALTER TABLE dr_skill MODIFY (id DEFAULT dr_skill_seq.NEXTVAL);
+ALTER TABLE dr_hackathon MODIFY (id DEFAULT dr_hackathon_seq.NEXTVAL);
+ALTER TABLE dr_team MODIFY (id DEFAULT dr_team_seq.NEXTVAL);
+ALTER TABLE dr_join_request MODIFY (id DEFAULT dr_join_request_seq.NEXTVAL);
+ALTER TABLE dr_submission MODIFY (id DEFAULT dr_submission_seq.NEXTVAL);
+
+-- =====================================================
+-- VERIFICATION
+-- =====================================================
+SELECT table_name, column_name, identity_column, data_default
+FROM user_tab_columns
+WHERE table_name LIKE 'DR_%' AND column_name = 'ID'
+ORDER BY table_name;
+
+SELECT sequence_name, increment_by, last_number
+FROM user_sequences
+WHERE sequence_name LIKE 'DR_%_SEQ'
+ORDER BY sequence_name;
+
+PROMPT 'IDENTITY columns migrated to pooled sequences!';
@@ -1,5 +1,5 @@
 -- =====================================================
--- BuildTogether Oracle Sample Data (IDENTITY Compatible)
+-- BuildTogether Oracle Sample Data (explicit ids, sequences resynced afterwards)
 -- Comprehensive sample data for testing all functionality
 -- =====================================================
 
@@ -17,84 +17,84 @@ DELETE FROM dr_users;
 -- INSERT SAMPLE DATA
 -- =====================================================
 
--- Insert Users (IDENTITY columns will auto-generate IDs)
-INSERT INTO dr_users (name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
-('John Smith', 'john.smith@email.com', 'password123', '+1-555-0101', 'DEVELOPER', 'https://github.com/johnsmith', 'https://linkedin.com/in/johnsmith', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+-- Insert Users (explicit ids so the foreign keys below line up)
+INSERT INTO dr_users (id, name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
+(1, 'John Smith', 'john.smith@email.com', 'password123', '+1-555-0101', 'DEVELOPER', 'https://github.com/johnsmith', 'https://linkedin.com/in/johnsmith', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_users (name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
-('Sarah Johnson', 'sarah.johnson@email.com', 'password123', '+1-555-0102', 'DESIGNER', 'https://github.com/sarahjohnson', 'https://linkedin.com/in/sarahjohnson', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_users (id, name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
+(2, 'Sarah Johnson', 'sarah.johnson@email.com', 'password123', '+1-555-0102', 'DESIGNER', 'https://github.com/sarahjohnson', 'https://linkedin.com/in/sarahjohnson', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_users (name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
-('Mike Chen', 'mike.chen@email.com', 'password123', '+1-555-0103', 'PRODUCT_MANAGER', 'https://github.com/mikechen', 'https://linkedin.com/in/mikechen', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_users (id, name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
+(3, 'Mike Chen', 'mike.chen@email.com', 'password123', '+1-555-0103', 'PRODUCT_MANAGER', 'https://github.com/mikechen', 'https://linkedin.com/in/mikechen', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_users (name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
-('Emily Davis', 'emily.davis@email.com', 'password123', '+1-555-0104', 'DATA_SCIENTIST', 'https://github.com/emilydavis', 'https://linkedin.com/in/emilydavis', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_users (id, name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
+(4, 'Emily Davis', 'emily.davis@email.com', 'password123', '+1-555-0104', 'DATA_SCIENTIST', 'https://github.com/emilydavis', 'https://linkedin.com/in/emilydavis', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_users (name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
-('Alex Rodriguez', 'alex.rodriguez@email.com', 'password123', '+1-555-0105', 'DEVOPS', 'https://github.com/alexrodriguez', 'https://linkedin.com/in/alexrodriguez', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_users (id, name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
+(5, 'Alex Rodriguez', 'alex.rodriguez@email.com', 'password123', '+1-555-0105', 'DEVOPS', 'https://github.com/alexrodriguez', 'https://linkedin.com/in/alexrodriguez', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_users (name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
-('Lisa Wang', 'lisa.wang@email.com', 'password123', '+1-555-0106', 'UI_UX_DESIGNER', 'https://github.com/lisawang', 'https://linkedin.com/in/lisawang', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_users (id, name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
+(6, 'Lisa Wang', 'lisa.wang@email.com', 'password123', '+1-555-0106', 'UI_UX_DESIGNER', 'https://github.com/lisawang', 'https://linkedin.com/in/lisawang', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_users (name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
-('David Brown', 'david.brown@email.com', 'password123', '+1-555-0107', 'DEVELOPER', 'https://github.com/davidbrown', 'https://linkedin.com/in/davidbrown', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_users (id, name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
+(7, 'David Brown', 'david.brown@email.com', 'password123', '+1-555-0107', 'DEVELOPER', 'https://github.com/davidbrown', 'https://linkedin.com/in/davidbrown', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_users (name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
-('Maria Garcia', 'maria.garcia@email.com', 'password123', '+1-555-0108', 'DESIGNER', 'https://github.com/mariagarcia', 'https://linkedin.com/in/mariagarcia', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_users (id, name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) VALUES
+(8, 'Maria Garcia', 'maria.garcia@email.com', 'password123', '+1-555-0108', 'DESIGNER', 'https://github.com/mariagarcia', 'https://linkedin.com/in/mariagarcia', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- Insert Skills
-INSERT INTO dr_skill (skill_name, created_at, updated_at) VALUES
-('Java', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_skill (id, skill_name, created_at, updated_at) VALUES
+(1, 'Java', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_skill (skill_name, created_at, updated_at) VALUES
-('Python', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_skill (id, skill_name, created_at, updated_at) VALUES
+(2, 'Python', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_skill (skill_name, created_at, updated_at) VALUES
-('JavaScript', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_skill (id, skill_name, created_at, updated_at) VALUES
+(3, 'JavaScript', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_skill (skill_name, created_at, updated_at) VALUES
-('React', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_skill (id, skill_name, created_at, updated_at) VALUES
+(4, 'React', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_skill (skill_name, created_at, updated_at) VALUES
-('Node.js', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_skill (id, skill_name, created_at, updated_at) VALUES
+(5, 'Node.js', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_skill (skill_name, created_at, updated_at) VALUES
-('Spring Boot', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_skill (id, skill_name, created_at, updated_at) VALUES
+(6, 'Spring Boot', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_skill (skill_name, created_at, updated_at) VALUES
-('Docker', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_skill (id, skill_name, created_at, updated_at) VALUES
+(7, 'Docker', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_skill (skill_name, created_at, updated_at) VALUES
-('AWS', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_skill (id, skill_name, created_at, updated_at) VALUES
+(8, 'AWS', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_skill (skill_name, created_at, updated_at) VALUES
-('Figma', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_skill (id, skill_name, created_at, updated_at) VALUES
+(9, 'Figma', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_skill (skill_name, created_at, updated_at) VALUES
-('Machine Learning', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_skill (id, skill_name, created_at, updated_at) VALUES
+(10, 'Machine Learning', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- Insert Hackathons (using user IDs from above)
-INSERT INTO dr_hackathon (title, description, start_date, end_date, max_team_size, created_by, created_at, updated_at) VALUES
-('Tech Innovation Challenge 2024', 'A 48-hour hackathon focused on innovative solutions for modern problems using cutting-edge technology.', DATE '2024-10-15', DATE '2024-10-17', 5, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_hackathon (id, title, description, start_date, end_date, max_team_size, created_by, created_at, updated_at) VALUES
+(1, 'Tech Innovation Challenge 2024', 'A 48-hour hackathon focused on innovative solutions for modern problems using cutting-edge technology.', DATE '2024-10-15', DATE '2024-10-17', 5, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_hackathon (title, description, start_date, end_date, max_team_size, created_by, created_at, updated_at) VALUES
-('AI for Good Hackathon', 'Build AI-powered solutions that make a positive impact on society and the environment.', DATE '2024-11-20', DATE '2024-11-22', 4, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_hackathon (id, title, description, start_date, end_date, max_team_size, created_by, created_at, updated_at) VALUES
+(2, 'AI for Good Hackathon', 'Build AI-powered solutions that make a positive impact on society and the environment.', DATE '2024-11-20', DATE '2024-11-22', 4, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_hackathon (title, description, start_date, end_date, max_team_size, created_by, created_at, updated_at) VALUES
-('FinTech Revolution', 'Create innovative financial technology solutions for the digital economy.', DATE '2024-12-10', DATE '2024-12-12', 6, 3, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_hackathon (id, title, description, start_date, end_date, max_team_size, created_by, created_at, updated_at) VALUES
+(3, 'FinTech Revolution', 'Create innovative financial technology solutions for the digital economy.', DATE '2024-12-10', DATE '2024-12-12', 6, 3, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- Insert Teams
-INSERT INTO dr_team (hackathon_id, created_by, team_name, created_at, updated_at) VALUES
-(1, 1, 'Code Warriors', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_team (id, hackathon_id, created_by, team_name, created_at, updated_at) VALUES
+(1, 1, 1, 'Code Warriors', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_team (hackathon_id, created_by, team_name, created_at, updated_at) VALUES
-(1, 2, 'Design Masters', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_team (id, hackathon_id, created_by, team_name, created_at, updated_at) VALUES
+(2, 1, 2, 'Design Masters', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_team (hackathon_id, created_by, team_name, created_at, updated_at) VALUES
-(2, 4, 'AI Innovators', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_team (id, hackathon_id, created_by, team_name, created_at, updated_at) VALUES
+(3, 2, 4, 'AI Innovators', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_team (hackathon_id, created_by, team_name, created_at, updated_at) VALUES
-(3, 5, 'FinTech Pioneers', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_team (id, hackathon_id, created_by, team_name, created_at, updated_at) VALUES
+(4, 3, 5, 'FinTech Pioneers', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- Insert User Skills
 INSERT INTO dr_user_skill (user_id, skill_id, proficiency_level, created_at, updated_at) VALUES
@@ -167,31 +167,34 @@ INSERT INTO dr_team_member (team_id, user_id, role_in_team, created_at, updated_
 INSERT INTO dr_team_member (team_id, user_id, role_in_team, created_at, updated_at) VALUES
 (4, 6, 'UI_UX_DESIGNER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
+-- Seats taken per team (kept up to date by the application from here on)
+UPDATE dr_team t SET member_count = (SELECT COUNT(*) FROM dr_team_member m WHERE m.team_id = t.id);
+
 -- Insert Join Requests
-INSERT INTO dr_join_request (team_id, user_id, status, requested_at, updated_at) VALUES
-(1, 3, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_join_request (id, team_id, user_id, status, requested_at, updated_at) VALUES
+(1, 1, 3, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_join_request (team_id, user_id, status, requested_at, updated_at) VALUES
-(2, 4, 'APPROVED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_join_request (id, team_id, user_id, status, requested_at, updated_at) VALUES
+(2, 2, 4, 'APPROVED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_join_request (team_id, user_id, status, requested_at, updated_at) VALUES
-(3, 1, 'REJECTED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_join_request (id, team_id, user_id, status, requested_at, updated_at) VALUES
+(3, 3, 1, 'REJECTED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO dr_join_request (team_id, user_id, status, requested_at, updated_at) VALUES
-(4, 2, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO dr_join_request (id, team_id, user_id, status, requested_at, updated_at) VALUES
+(4, 4, 2, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- Insert Submissions
-INSERT INTO dr_submission (team_id, hackathon_id, project_title, project_description, github_link, demo_link, presentation_link, technologies, features, submitted_at, status, score, judge_comments, submitted_by) VALUES
-(1, 1, 'Smart Task Manager', 'An intelligent task management system that uses AI to prioritize and schedule tasks automatically.', 'https://github.com/codewarriors/smart-task-manager', 'https://demo.smarttaskmanager.com', 'https://presentation.smarttaskmanager.com', 'Java, Spring Boot, React, PostgreSQL', 'AI-powered prioritization, Real-time collaboration, Mobile responsive', CURRENT_TIMESTAMP, 'UNDER_REVIEW', 85.50, 'Excellent concept and implementation. Great use of AI for task prioritization.', 1);
+INSERT INTO dr_submission (id, team_id, hackathon_id, project_title, project_description, github_link, demo_link, presentation_link, technologies, features, submitted_at, status, score, judge_comments, submitted_by) VALUES
+(1, 1, 1, 'Smart Task Manager', 'An intelligent task management system that uses AI to prioritize and schedule tasks automatically.', 'https://github.com/codewarriors/smart-task-manager', 'https://demo.smarttaskmanager.com', 'https://presentation.smarttaskmanager.com', 'Java, Spring Boot, React, PostgreSQL', 'AI-powered prioritization, Real-time collaboration, Mobile responsive', CURRENT_TIMESTAMP, 'UNDER_REVIEW', 85.50, 'Excellent concept and implementation. Great use of AI for task prioritization.', 1);
 
-INSERT INTO dr_submission (team_id, hackathon_id, project_title, project_description, github_link, demo_link, presentation_link, technologies, features, submitted_at, status, score, judge_comments, submitted_by) VALUES
-(2, 1, 'EcoTracker', 'A mobile app that helps users track their carbon footprint and suggests eco-friendly alternatives.', 'https://github.com/designmasters/ecotracker', 'https://demo.ecotracker.com', 'https://presentation.ecotracker.com', 'React Native, Node.js, MongoDB', 'Carbon footprint tracking, Eco-friendly suggestions, Social sharing', CURRENT_TIMESTAMP, 'APPROVED', 92.00, 'Outstanding design and user experience. Very relevant to current environmental concerns.', 2);
+INSERT INTO dr_submission (id, team_id, hackathon_id, project_title, project_description, github_link, demo_link, presentation_link, technologies, features, submitted_at, status, score, judge_comments, submitted_by) VALUES
+(2, 2, 1, 'EcoTracker', 'A mobile app that helps users track their carbon footprint and suggests eco-friendly alternatives.', 'https://github.com/designmasters/ecotracker', 'https://demo.ecotracker.com', 'https://presentation.ecotracker.com', 'React Native, Node.js, MongoDB', 'Carbon footprint tracking, Eco-friendly suggestions, Social sharing', CURRENT_TIMESTAMP, 'APPROVED', 92.00, 'Outstanding design and user experience. Very relevant to current environmental concerns.', 2);
 
-INSERT INTO dr_submission (team_id, hackathon_id, project_title, project_description, github_link, demo_link, presentation_link, technologies, features, submitted_at, status, score, judge_comments, submitted_by) VALUES
-(3, 2, 'AI Health Assistant', 'An AI-powered health monitoring system that provides personalized health recommendations.', 'https://github.com/aiinnovators/health-assistant', 'https://demo.aihealthassistant.com', 'https://presentation.aihealthassistant.com', 'Python, TensorFlow, Flask, SQLite', 'Health monitoring, AI recommendations, Data visualization', CURRENT_TIMESTAMP, 'SUBMITTED', 0.00, NULL, 4);
+INSERT INTO dr_submission (id, team_id, hackathon_id, project_title, project_description, github_link, demo_link, presentation_link, technologies, features, submitted_at, status, score, judge_comments, submitted_by) VALUES
+(3, 3, 2, 'AI Health Assistant', 'An AI-powered health monitoring system that provides personalized health recommendations.', 'https://github.com/aiinnovators/health-assistant', 'https://demo.aihealthassistant.com', 'https://presentation.aihealthassistant.com', 'Python, TensorFlow, Flask, SQLite', 'Health monitoring, AI recommendations, Data visualization', CURRENT_TIMESTAMP, 'SUBMITTED', 0.00, NULL, 4);
 
-INSERT INTO dr_submission (team_id, hackathon_id, project_title, project_description, github_link, demo_link, presentation_link, technologies, features, submitted_at, status, score, judge_comments, submitted_by) VALUES
-(4, 3, 'Blockchain Payment Gateway', 'A secure and fast payment gateway using blockchain technology for cryptocurrency transactions.', 'https://github.com/fintechpioneers/blockchain-gateway', 'https://demo.blockchaingateway.com', 'https://presentation.blockchaingateway.com', 'Solidity, Web3.js, Node.js, Ethereum', 'Blockchain transactions, Security features, Real-time processing', CURRENT_TIMESTAMP, 'UNDER_REVIEW', 78.25, 'Good technical implementation. Security features need improvement.', 5);
+INSERT INTO dr_submission (id, team_id, hackathon_id, project_title, project_description, github_link, demo_link, presentation_link, technologies, features, submitted_at, status, score, judge_comments, submitted_by) VALUES
+(4, 4, 3, 'Blockchain Payment Gateway', 'A secure and fast payment gateway using blockchain technology for cryptocurrency transactions.', 'https://github.com/fintechpioneers/blockchain-gateway', 'https://demo.blockchaingateway.com', 'https://presentation.blockchaingateway.com', 'Solidity, Web3.js, Node.js, Ethereum', 'Blockchain transactions, Security features, Real-time processing', CURRENT_TIMESTAMP, 'UNDER_REVIEW', 78.25, 'Good technical implementation. Security features need improvement.', 5);
 
 -- =====================================================
 -- COMMIT TRANSACTION
@@ -199,6 +202,9 @@ INSERT INTO dr_submission (team_id, hackathon_id, project_title, project_descrip
 
 COMMIT;
 
+-- Move the id sequences past the explicit ids above
+@@resync_id_sequences.sql
+
 -- =====================================================
 -- VERIFICATION QUERIES
 -- =====================================================
@@ -233,4 +239,4 @@ SELECT id, title, start_date, end_date FROM dr_hackathon ORDER BY id;
 SELECT 'Sample Teams:' as info FROM dual;
 SELECT id, team_name, hackathon_id FROM dr_team ORDER BY id;
 
-PROMPT 'Oracle sample data inserted successfully (IDENTITY compatible)!';
\ No newline at end of file
+PROMPT 'Oracle sample data inserted successfully!';
\ No newline at end of file
@@ -1,6 +1,6 @@
 -- =====================================================
 -- BuildTogether Oracle Database Schema (12c+ Optimized)
--- No Sequences, using IDENTITY columns
+-- Primary keys from pooled sequences (dr_*_seq)
 -- =====================================================
 
 -- Drop tables in correct order
@@ -13,13 +13,34 @@ DROP TABLE dr_hackathon CASCADE CONSTRAINTS;
 DROP TABLE dr_skill CASCADE CONSTRAINTS;
 DROP TABLE dr_users CASCADE CONSTRAINTS;
 
+DROP SEQUENCE dr_submission_seq;
+DROP SEQUENCE dr_join_request_seq;
+DROP SEQUENCE dr_team_seq;
+DROP SEQUENCE dr_hackathon_seq;
+DROP SEQUENCE dr_skill_seq;
+DROP SEQUENCE dr_users_seq;
+
+-- =====================================================
+-- CREATE SEQUENCES
+-- =====================================================
+-- Hibernate's pooled-lo optimizer takes one NEXTVAL per block of ids, so INCREMENT BY
+-- must equal app.id.allocation-size (checked by Hibernate at startup).
+-- The column defaults below keep plain SQL inserts working; each such row uses up one block.
+
+CREATE SEQUENCE dr_users_seq START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE dr_skill_seq START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE dr_hackathon_seq START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE dr_team_seq START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE dr_join_request_seq START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE dr_submission_seq START WITH 1 INCREMENT BY 50 CACHE 20;
+
 -- =====================================================
 -- CREATE TABLES
 -- =====================================================
 
 -- Users
 CREATE TABLE dr_users (
-    id NUMBER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    id NUMBER DEFAULT dr_users_seq.NEXTVAL PRIMARY KEY,
     name VARCHAR2(100) NOT NULL,
     email VARCHAR2(255) UNIQUE NOT NULL,
     password VARCHAR2(255) NOT NULL,
@@ -33,7 +54,7 @@ CREATE TABLE dr_users (
 
 -- Skills
 CREATE TABLE dr_skill (
-    id NUMBER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    id NUMBER DEFAULT dr_skill_seq.NEXTVAL PRIMARY KEY,
     skill_name VARCHAR2(100) UNIQUE NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
@@ -41,7 +62,7 @@ CREATE TABLE dr_skill (
 
 -- Hackathons
 CREATE TABLE dr_hackathon (
-    id NUMBER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    id NUMBER DEFAULT dr_hackathon_seq.NEXTVAL PRIMARY KEY,
     title VARCHAR2(255) NOT NULL,
     description CLOB,
     start_date DATE NOT NULL,
@@ -56,12 +77,14 @@ CREATE TABLE dr_hackathon (
 
 -- Teams
 CREATE TABLE dr_team (
-    id NUMBER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    id NUMBER DEFAULT dr_team_seq.NEXTVAL PRIMARY KEY,
     hackathon_id NUMBER NOT NULL,
     created_by NUMBER NOT NULL,
     team_name VARCHAR2(255) NOT NULL,
+    member_count NUMBER(10) DEFAULT 0 NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_team_member_count CHECK (member_count >= 0),
     CONSTRAINT fk_team_hackathon FOREIGN KEY (hackathon_id) REFERENCES dr_hackathon(id) ON DELETE CASCADE,
     CONSTRAINT fk_team_created_by FOREIGN KEY (created_by) REFERENCES dr_users(id) ON DELETE CASCADE,
     CONSTRAINT uq_team_name_per_hackathon UNIQUE (hackathon_id, team_name)
@@ -95,7 +118,7 @@ CREATE TABLE dr_team_member (
 
 -- Join Requests
 CREATE TABLE dr_join_request (
-    id NUMBER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    id NUMBER DEFAULT dr_join_request_seq.NEXTVAL PRIMARY KEY,
     team_id NUMBER NOT NULL,
     user_id NUMBER NOT NULL,
     status VARCHAR2(20) DEFAULT 'PENDING',
@@ -109,7 +132,7 @@ CREATE TABLE dr_join_request (
 
 -- Submissions
 CREATE TABLE dr_submission (
-    id NUMBER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    id NUMBER DEFAULT dr_submission_seq.NEXTVAL PRIMARY KEY,
     team_id NUMBER NOT NULL,
     hackathon_id NUMBER NOT NULL,
     project_title VARCHAR2(255) NOT NULL,
@@ -120,6 +143,7 @@ CREATE TABLE dr_submission (
     technologies VARCHAR2(4000),
     features VARCHAR2(4000),
     submitted_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     status VARCHAR2(20) DEFAULT 'SUBMITTED',
     score NUMBER(5,2) DEFAULT 0.00,
     judge_comments CLOB,
@@ -206,6 +230,73 @@ BEGIN
 END;
 /
 
+-- =====================================================
+-- TEAM CAPACITY
+-- =====================================================
+
+-- Backstop for the application's seat claim: no update may take a team past its
+-- hackathon's max_team_size (decrements are always allowed). Member rows added directly
+-- reach it through tr_team_member_count_sync below.
+CREATE OR REPLACE TRIGGER tr_team_member_count_cap
+    BEFORE UPDATE OF member_count ON dr_team
+    FOR EACH ROW
+    WHEN (NEW.member_count > OLD.member_count)
+DECLARE
+    v_max_team_size dr_hackathon.max_team_size%TYPE;
+BEGIN
+    SELECT max_team_size INTO v_max_team_size FROM dr_hackathon WHERE id = :NEW.hackathon_id;
+    IF :NEW.member_count > NVL(v_max_team_size, 5) THEN
+        RAISE_APPLICATION_ERROR(-20001, 'Team ' || :NEW.id || ' is full');
+    END IF;
+END;
+/
+
+-- Keeps member_count in step with member rows inserted or deleted without the application's seat claim
+-- (TeamRepository.claimSeat/releaseSeat): after each statement every touched team's count is raised to at least,
+-- or lowered to at most, its member rows. Raising it goes through tr_team_member_count_cap, so a direct INSERT
+-- cannot overfill a team either. Seats claimed by the application already match the rows and are left alone.
+CREATE OR REPLACE TRIGGER tr_team_member_count_sync
+    FOR INSERT OR DELETE ON dr_team_member
+    COMPOUND TRIGGER
+    -- Team id -> TRUE when a member was added, FALSE when one was removed
+    TYPE t_teams IS TABLE OF BOOLEAN INDEX BY PLS_INTEGER;
+    v_teams t_teams;
+    e_mutating EXCEPTION;
+    PRAGMA EXCEPTION_INIT(e_mutating, -4091);
+
+    AFTER EACH ROW IS
+    BEGIN
+        IF INSERTING THEN
+            v_teams(:NEW.team_id) := TRUE;
+        ELSE
+            v_teams(:OLD.team_id) := FALSE;
+        END IF;
+    END AFTER EACH ROW;
+
+    AFTER STATEMENT IS
+        v_team_id PLS_INTEGER := v_teams.FIRST;
+    BEGIN
+        WHILE v_team_id IS NOT NULL LOOP
+            IF v_teams(v_team_id) THEN
+                UPDATE dr_team t SET member_count = (SELECT COUNT(*) FROM dr_team_member m WHERE m.team_id = t.id)
+                WHERE t.id = v_team_id
+                  AND t.member_count < (SELECT COUNT(*) FROM dr_team_member m WHERE m.team_id = t.id);
+            ELSE
+                UPDATE dr_team t SET member_count = (SELECT COUNT(*) FROM dr_team_member m WHERE m.team_id = t.id)
+                WHERE t.id = v_team_id
+                  AND t.member_count > (SELECT COUNT(*) FROM dr_team_member m WHERE m.team_id = t.id);
+            END IF;
+            v_team_id := v_teams.NEXT(v_team_id);
+        END LOOP;
+    EXCEPTION
+        -- Members cascading from a team or user delete: dr_team is mid-statement, and the application has
+        -- already released the seats of a deleted user (the team rows of a deleted team go with it)
+        WHEN e_mutating THEN
+            NULL;
+    END AFTER STATEMENT;
+END tr_team_member_count_sync;
+/
+
 -- =====================================================
 -- CREATE INDEXES FOR PERFORMANCE
 -- =====================================================
@@ -252,7 +343,8 @@ COMMIT;
 -- VERIFICATION
 -- =====================================================
 SELECT table_name FROM user_tables WHERE table_name LIKE 'DR_%' ORDER BY table_name;
+SELECT sequence_name, increment_by FROM user_sequences WHERE sequence_name LIKE 'DR_%_SEQ' ORDER BY sequence_name;
 SELECT trigger_name FROM user_triggers WHERE trigger_name LIKE 'TR_%' ORDER BY trigger_name;
 SELECT index_name FROM user_indexes WHERE index_name LIKE 'IDX_%' ORDER BY index_name;
 
-PROMPT 'Oracle schema created successfully (12c+ with IDENTITY)!';
\ No newline at end of file
+PROMPT 'Oracle schema created successfully (12c+ with pooled sequences)!';
\ No newline at end of file
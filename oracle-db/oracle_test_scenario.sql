@@ -25,7 +25,7 @@ ORDER BY table_name;
 SELECT 'Sequences Check:' as test_name FROM dual;
 SELECT sequence_name, last_number 
 FROM user_sequences 
-WHERE sequence_name LIKE 'SEQ_%' 
+WHERE sequence_name LIKE 'DR_%_SEQ' 
 ORDER BY sequence_name;
 
 -- Check if all triggers exist
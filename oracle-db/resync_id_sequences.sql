@@ -0,0 +1,33 @@
+-- =====================================================
+-- BuildTogether - Resync id sequences
+-- Recreates every dr_*_seq sequence to start just above MAX(id) of its table.
+-- Run with the application stopped, after loading rows with explicit ids
+-- or while migrating from IDENTITY columns.
+-- =====================================================
+
+SET SERVEROUTPUT ON;
+
+DECLARE
+    -- Keep equal to app.id.allocation-size
+    c_increment CONSTANT NUMBER := 50;
+    TYPE t_names IS TABLE OF VARCHAR2(30);
+    v_tables   t_names := t_names('DR_USERS', 'DR_SKILL', 'DR_HACKATHON', 'DR_TEAM', 'DR_JOIN_REQUEST', 'DR_SUBMISSION');
+    v_sequence VARCHAR2(30);
+    v_start    NUMBER;
+    v_exists   NUMBER;
+BEGIN
+    FOR i IN 1 .. v_tables.COUNT LOOP
+        v_sequence := v_tables(i) || '_SEQ';
+        EXECUTE IMMEDIATE 'SELECT NVL(MAX(id), 0) + 1 FROM ' || v_tables(i) INTO v_start;
+
+        SELECT COUNT(*) INTO v_exists FROM user_sequences WHERE sequence_name = v_sequence;
+        IF v_exists > 0 THEN
+            EXECUTE IMMEDIATE 'DROP SEQUENCE ' || v_sequence;
+        END IF;
+
+        EXECUTE IMMEDIATE 'CREATE SEQUENCE ' || v_sequence || ' START WITH ' || v_start
+            || ' INCREMENT BY ' || c_increment || ' CACHE 20';
+        DBMS_OUTPUT.PUT_LINE(v_sequence || ' starts at ' || v_start);
+    END LOOP;
+END;
+/
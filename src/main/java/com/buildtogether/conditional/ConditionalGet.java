@@ -0,0 +1,39 @@
+package com.buildtogether.conditional;
+
+import com.buildtogether.projection.FieldSelection;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.NativeWebRequest;
+
+// Conditional GET from a ResourceVersion, checked before any DTO is read, mapped or serialized. Sets ETag,
+// Last-Modified and Cache-Control: no-cache (clients revalidate every time instead of guessing a freshness
+// lifetime from Last-Modified). When If-None-Match / If-Modified-Since match, the status is already 304 and the
+// handler returns null, so nothing else runs.
+//
+// A single resource gets a strong ETag: the same row state always serializes to the same bytes. A collection gets
+// a weak one, since count and newest updatedAt stand in for the rows rather than hash them.
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    public static boolean isNotModified(NativeWebRequest request, ResourceVersion version) {
+        return check(request, version, false);
+    }
+
+    // Absent resources are never 304: the handler goes on to its usual 404
+    public static boolean isResourceNotModified(NativeWebRequest request, ResourceVersion version) {
+        return version.exists() && check(request, version, true);
+    }
+
+    private static boolean check(NativeWebRequest request, ResourceVersion version, boolean strong) {
+        HttpServletResponse response = request.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        }
+        FieldSelection fields = FieldSelection.parse(request.getParameter(FieldSelection.PARAMETER));
+        String tag = "\"" + version.tag(fields.isAll() ? null : fields.toString()) + "\"";
+        return request.checkNotModified(strong ? tag : "W/" + tag, version.lastModifiedMillis());
+    }
+}
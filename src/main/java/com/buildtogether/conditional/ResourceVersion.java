@@ -0,0 +1,80 @@
+package com.buildtogether.conditional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// What a representation's validators are derived from: how many rows it covers and the newest updatedAt among them
+// (and among the joined rows whose columns it shows). Any insert, update or delete behind it changes one of the two.
+public final class ResourceVersion {
+
+    private final long count;
+    private final LocalDateTime lastModified;
+
+    // Projection constructors used by the JPQL version queries in the repositories: COUNT(*) and the MAX(updatedAt)
+    // of each table the DTO reads from
+    public ResourceVersion(Long count, LocalDateTime updatedAt) {
+        this.count = count != null ? count : 0;
+        this.lastModified = updatedAt;
+    }
+
+    public ResourceVersion(Long count, LocalDateTime updatedAt, LocalDateTime joinedUpdatedAt) {
+        this(count, latest(updatedAt, joinedUpdatedAt));
+    }
+
+    public ResourceVersion(Long count, LocalDateTime updatedAt, LocalDateTime joinedUpdatedAt,
+                           LocalDateTime otherJoinedUpdatedAt) {
+        this(count, latest(updatedAt, joinedUpdatedAt, otherJoinedUpdatedAt));
+    }
+
+    public ResourceVersion(Long count, LocalDateTime updatedAt, LocalDateTime joinedUpdatedAt,
+                           LocalDateTime otherJoinedUpdatedAt, LocalDateTime lastJoinedUpdatedAt) {
+        this(count, latest(updatedAt, joinedUpdatedAt, otherJoinedUpdatedAt, lastJoinedUpdatedAt));
+    }
+
+    // For DTOs that are already in memory (cached lists)
+    public static <D> ResourceVersion of(Collection<D> items, Function<D, LocalDateTime> updatedAt) {
+        return new ResourceVersion((long) items.size(), latest(items.stream().map(updatedAt).toArray(LocalDateTime[]::new)));
+    }
+
+    public static <D> ResourceVersion of(D item, Function<D, LocalDateTime> updatedAt) {
+        return new ResourceVersion(1L, updatedAt.apply(item));
+    }
+
+    private static LocalDateTime latest(LocalDateTime... timestamps) {
+        return Stream.of(timestamps).filter(t -> t != null).max(LocalDateTime::compareTo).orElse(null);
+    }
+
+    public boolean exists() {
+        return count > 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+
+    // Epoch millis for Last-Modified; -1 (no header) when nothing carries a timestamp
+    public long lastModifiedMillis() {
+        return lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+
+    // Opaque tag value (without quotes); variant distinguishes representations of the same rows, e.g. fields=
+    public String tag(String variant) {
+        long nanos = lastModified != null
+                ? lastModified.atZone(ZoneId.systemDefault()).toEpochSecond() * 1_000_000_000L + lastModified.getNano()
+                : 0;
+        String tag = Long.toString(count, 36) + "-" + Long.toString(nanos, 36);
+        return variant == null ? tag : tag + "-" + Integer.toString(variant.hashCode() & 0x7fffffff, 36);
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceVersion{count=" + count + ", lastModified=" + lastModified + "}";
+    }
+}
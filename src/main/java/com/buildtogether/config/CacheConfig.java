@@ -0,0 +1,42 @@
+package com.buildtogether.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String HACKATHONS = "hackathons";
+    public static final String HACKATHON_BY_ID = "hackathonById";
+    public static final String SKILLS = "skills";
+    public static final String SKILL_BY_ID = "skillById";
+    public static final String TEAMS = "teams";
+    public static final String TEAM_BY_ID = "teamById";
+    public static final String TEAMS_BY_HACKATHON = "teamsByHackathon";
+    public static final String HACKATHON_STATS = "hackathonStats";
+
+    // Declared up front so the actuator cache metrics are bound at startup
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> readCacheNamesCustomizer(
+            @Value("${app.hackathon-stats.ttl:30s}") Duration statsTtl) {
+        return cacheManager -> {
+            cacheManager.setCacheNames(List.of(
+                    HACKATHONS, HACKATHON_BY_ID, SKILLS, SKILL_BY_ID, TEAMS, TEAM_BY_ID, TEAMS_BY_HACKATHON));
+            // Dashboard aggregates go stale with every join and submission, so they expire instead of being evicted
+            cacheManager.registerCustomCache(HACKATHON_STATS, Caffeine.newBuilder()
+                    .maximumSize(1000)
+                    .expireAfterWrite(statsTtl)
+                    .recordStats()
+                    .build());
+        };
+    }
+}
@@ -0,0 +1,148 @@
+package com.buildtogether.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Bounds how many threads may hold a pooled connection at once with a fair semaphore sized to the pool. With virtual
+// threads there is no request-thread cap in front of the pool any more, so thousands of callers would otherwise race
+// inside Hikari and fail after connection-timeout; here they wait in arrival order for up to acquire-timeout instead.
+@Configuration
+@ConditionalOnProperty(name = "app.db-admission.enabled", havingValue = "true")
+@Slf4j
+public class ConnectionAdmissionConfig {
+
+    @Bean
+    public static BeanPostProcessor admissionControlledDataSourcePostProcessor(Environment environment) {
+        int permits = environment.getProperty("app.db-admission.permits", Integer.class,
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        Duration acquireTimeout = environment.getProperty("app.db-admission.acquire-timeout", Duration.class,
+                Duration.ofSeconds(60));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof AdmissionControlledDataSource)) {
+                    log.info("Admitting at most {} concurrent connections on data source '{}' (waiting up to {})",
+                            permits, beanName, acquireTimeout);
+                    return new AdmissionControlledDataSource(dataSource, permits, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionAdmissionMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .map(AdmissionControlledDataSource::find)
+                .filter(source -> source != null)
+                .findFirst()
+                .ifPresent(source -> {
+                    Gauge.builder("app.db.admission.waiting", source.permits, Semaphore::getQueueLength)
+                            .description("Threads queued for a database connection")
+                            .register(registry);
+                    Gauge.builder("app.db.admission.available", source.permits, Semaphore::availablePermits)
+                            .description("Connections that can be handed out without waiting")
+                            .register(registry);
+                });
+    }
+
+    public static class AdmissionControlledDataSource extends DelegatingDataSource {
+
+        private final Semaphore permits;
+        private final Duration acquireTimeout;
+
+        public AdmissionControlledDataSource(DataSource target, int permits, Duration acquireTimeout) {
+            super(target);
+            this.permits = new Semaphore(permits, true);
+            this.acquireTimeout = acquireTimeout;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            acquire();
+            try {
+                return releasingOnClose(super.getConnection());
+            } catch (SQLException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            acquire();
+            try {
+                return releasingOnClose(super.getConnection(username, password));
+            } catch (SQLException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        private void acquire() throws SQLException {
+            try {
+                if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new SQLTransientConnectionException(String.format(
+                            "No database connection available within %d ms (%d waiting)",
+                            acquireTimeout.toMillis(), permits.getQueueLength()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+            }
+        }
+
+        // The permit goes back exactly once, on the first close() of the pooled connection handle
+        private Connection releasingOnClose(Connection target) {
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(AdmissionControlledDataSource.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                            try {
+                                return method.invoke(target, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            } finally {
+                                permits.release();
+                            }
+                        }
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+
+        // Looks through other DelegatingDataSource wrappers (query counting) for the admission controller
+        static AdmissionControlledDataSource find(DataSource dataSource) {
+            while (dataSource instanceof DelegatingDataSource delegating) {
+                if (delegating instanceof AdmissionControlledDataSource admission) {
+                    return admission;
+                }
+                dataSource = delegating.getTargetDataSource();
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.buildtogether.config;
+
+import com.buildtogether.entity.PooledSequenceGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGenerationConfig {
+
+    @Value("${app.id.allocation-size:" + PooledSequenceGenerator.DEFAULT_ALLOCATION_SIZE + "}")
+    private int allocationSize;
+
+    // Hands app.id.allocation-size to PooledSequenceGenerator, which reads it from the Hibernate settings
+    @Bean
+    public HibernatePropertiesCustomizer idAllocationSizeCustomizer() {
+        return properties -> properties.put(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING, allocationSize);
+    }
+}
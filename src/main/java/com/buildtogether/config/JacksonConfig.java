@@ -0,0 +1,22 @@
+package com.buildtogether.config;
+
+import com.buildtogether.projection.SparseFieldsets;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // DTOs carry the sparse fieldset filter; without fields= it writes every property
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsetCustomizer() {
+        return builder -> builder
+                .annotationIntrospector(introspector -> AnnotationIntrospector.pair(
+                        introspector != null ? introspector : new JacksonAnnotationIntrospector(),
+                        new SparseFieldsets.FilterIdIntrospector()))
+                .filters(SparseFieldsets.SERIALIZE_ALL);
+    }
+}
@@ -1,16 +1,20 @@
 package com.buildtogether.config;
 
-import lombok.extern.slf4j.Slf4j;
+import com.buildtogether.monitoring.DroppingAsyncAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.web.servlet.HandlerInterceptor;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 @Configuration
-@Slf4j
 public class LoggingConfig implements WebMvcConfigurer {
 
     @Override
@@ -18,50 +22,87 @@ public class LoggingConfig implements WebMvcConfigurer {
         registry.addInterceptor(new RequestLoggingInterceptor());
     }
 
-    public static class RequestLoggingInterceptor implements HandlerInterceptor {
+    @Bean
+    public MeterBinder accessLogDroppedEventsMetric() {
+        return registry -> FunctionCounter.builder("logging.access.dropped", DroppingAsyncAppender.class,
+                        appender -> DroppingAsyncAppender.droppedCount())
+                .description("Access log events dropped because the async queue was full")
+                .register(registry);
+    }
+
+    // One logfmt record per request on the ACCESS logger, which logback-spring.xml routes through a
+    // bounded, non-blocking async appender
+    public static class RequestLoggingInterceptor implements AsyncHandlerInterceptor {
+
+        private static final Logger accessLog = LoggerFactory.getLogger("ACCESS");
+        private static final String START_ATTRIBUTE = RequestLoggingInterceptor.class.getName() + ".start";
 
         @Override
         public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-            String requestURI = request.getRequestURI();
-            String method = request.getMethod();
-            String remoteAddr = request.getRemoteAddr();
-            
-            log.info("=== HTTP REQUEST ===");
-            log.info("Method: {} {}", method, requestURI);
-            log.info("Remote Address: {}", remoteAddr);
-            log.info("User Agent: {}", request.getHeader("User-Agent"));
-            log.info("Content Type: {}", request.getContentType());
-            log.info("Timestamp: {}", System.currentTimeMillis());
-            
-            request.setAttribute("startTime", System.currentTimeMillis());
-            
+            // Async (NDJSON) requests pass through here again on dispatch; keep the original start
+            if (request.getAttribute(START_ATTRIBUTE) == null) {
+                request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            }
             return true;
         }
 
         @Override
         public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
-            String requestURI = request.getRequestURI();
-            String method = request.getMethod();
-            int status = response.getStatus();
-            long startTime = (Long) request.getAttribute("startTime");
-            long duration = System.currentTimeMillis() - startTime;
-            
-            log.info("=== HTTP RESPONSE ===");
-            log.info("Method: {} {}", method, requestURI);
-            log.info("Status: {}", status);
-            log.info("Duration: {}ms", duration);
-            
+            if (!accessLog.isInfoEnabled()) {
+                return;
+            }
+            Object start = request.getAttribute(START_ATTRIBUTE);
+            long durationMicros = start instanceof Long startNanos ? (System.nanoTime() - startNanos) / 1_000 : -1;
+
+            StringBuilder line = new StringBuilder(160)
+                    .append("method=").append(request.getMethod())
+                    .append(" uri=").append(request.getRequestURI());
+            if (request.getQueryString() != null) {
+                line.append(" query=");
+                appendQuoted(line, request.getQueryString());
+            }
+            line.append(" status=").append(response.getStatus()).append(" durationMs=");
+            appendMillis(line, durationMicros);
+            line.append(" remote=").append(request.getRemoteAddr())
+                    .append(" userAgent=");
+            appendQuoted(line, request.getHeader("User-Agent"));
             if (ex != null) {
-                log.error("Exception occurred: {}", ex.getMessage(), ex);
+                line.append(" error=").append(ex.getClass().getSimpleName());
+            }
+            accessLog.info(line.toString());
+        }
+
+        // Microseconds as milliseconds with three decimals, padded by hand rather than through a Formatter
+        private static void appendMillis(StringBuilder line, long micros) {
+            if (micros < 0) {
+                line.append('-');
+                return;
+            }
+            long fraction = micros % 1_000;
+            line.append(micros / 1_000).append('.');
+            if (fraction < 100) {
+                line.append('0');
+            }
+            if (fraction < 10) {
+                line.append('0');
+            }
+            line.append(fraction);
+        }
+
+        private static void appendQuoted(StringBuilder line, String value) {
+            if (value == null) {
+                line.append('-');
+                return;
             }
-            
-            if (status >= 200 && status < 300) {
-                log.info("Request completed successfully");
-            } else if (status >= 400 && status < 500) {
-                log.warn("Client error occurred");
-            } else if (status >= 500) {
-                log.error("Server error occurred");
+            line.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    line.append('\\');
+                }
+                line.append(c < ' ' ? ' ' : c);
             }
+            line.append('"');
         }
     }
 }
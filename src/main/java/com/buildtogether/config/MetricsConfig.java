@@ -0,0 +1,137 @@
+package com.buildtogether.config;
+
+import com.buildtogether.monitoring.CountingDataSource;
+import com.buildtogether.monitoring.RequestPhaseTimer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+// Splits each /api request into database, mapping and serialization time (app.request.phase timers, tagged
+// like http.server.requests). Percentiles and histogram buckets are configured in application.properties.
+@Configuration
+@Slf4j
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestPhaseInterceptor(meterRegistry))
+                .addPathPatterns("/api/**");
+    }
+
+    // Times statement execution and row fetching at the JDBC level for the database phase (and feeds QueryCounter
+    // when query budgets are enabled), so SQL that never goes through a repository proxy is not charged to mapping
+    @Bean
+    public static BeanPostProcessor countingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+                    log.info("Timing and counting JDBC statements on data source '{}'", beanName);
+                    return new CountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Replaces Boot's default JSON converter with one that times response serialization
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(@NonNull Object object, Type type, @NonNull HttpOutputMessage outputMessage)
+                    throws IOException {
+                long start = System.nanoTime();
+                try {
+                    super.writeInternal(object, type, outputMessage);
+                } finally {
+                    RequestPhaseTimer.serializationTime(System.nanoTime() - start);
+                }
+            }
+        };
+    }
+
+    public static class RequestPhaseInterceptor implements AsyncHandlerInterceptor {
+
+        private final MeterRegistry meterRegistry;
+
+        public RequestPhaseInterceptor(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+            // Async re-dispatch of a streaming body: nothing left to split into phases
+            if (request.getDispatcherType() != DispatcherType.ASYNC) {
+                RequestPhaseTimer.begin();
+            }
+            return true;
+        }
+
+        @Override
+        public void postHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler,
+                               ModelAndView modelAndView) {
+            // @ResponseBody handlers have already written the body at this point
+            RequestPhaseTimer.handlerFinished();
+        }
+
+        @Override
+        public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                                   @NonNull Object handler) {
+            // Streaming bodies are written on another thread; the phases of the first dispatch are not meaningful
+            RequestPhaseTimer.end();
+        }
+
+        @Override
+        public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler,
+                                    Exception ex) {
+            RequestPhaseTimer.Phases phases = RequestPhaseTimer.end();
+            if (phases == null) {
+                return;
+            }
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            record(request.getMethod(), uri, "database", phases.getDatabaseNanos());
+            record(request.getMethod(), uri, "serialization", phases.getSerializationNanos());
+            if (phases.getMappingNanos() >= 0) {
+                record(request.getMethod(), uri, "mapping", phases.getMappingNanos());
+            }
+        }
+
+        private void record(String method, String uri, String phase, long nanos) {
+            Timer.builder("app.request.phase")
+                    .description("Time per request spent in JDBC calls, DTO mapping and serialization")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .tag("phase", phase)
+                    .register(meterRegistry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
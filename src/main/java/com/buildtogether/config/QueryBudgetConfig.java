@@ -0,0 +1,87 @@
+package com.buildtogether.config;
+
+import com.buildtogether.monitoring.QueryBudget;
+import com.buildtogether.monitoring.QueryCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Configuration
+@ConditionalOnProperty(name = "app.query-budget.enabled", havingValue = "true")
+@Slf4j
+public class QueryBudgetConfig implements WebMvcConfigurer {
+
+    // Request attribute holding the finished QueryCounter.Scope, for tests and diagnostics
+    public static final String SCOPE_ATTRIBUTE = QueryCounter.Scope.class.getName();
+
+    @Value("${app.query-budget.strict:false}")
+    private boolean strict;
+
+    @Value("${app.query-budget.default-statements:5}")
+    private int defaultStatements;
+
+    @Value("${app.query-budget.default-rows:-1}")
+    private int defaultRows;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor(strict, defaultStatements, defaultRows))
+                .addPathPatterns("/api/**");
+    }
+
+    public static class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+        private final boolean strict;
+        private final int defaultStatements;
+        private final int defaultRows;
+
+        public QueryBudgetInterceptor(boolean strict, int defaultStatements, int defaultRows) {
+            this.strict = strict;
+            this.defaultStatements = defaultStatements;
+            this.defaultRows = defaultRows;
+        }
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            int statements = defaultStatements;
+            int rows = defaultRows;
+            if (handler instanceof HandlerMethod handlerMethod) {
+                QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+                if (budget != null) {
+                    statements = budget.statements();
+                    rows = budget.rows();
+                }
+            }
+            QueryCounter.begin(request.getMethod() + " " + request.getRequestURI(), statements, rows, strict);
+            return true;
+        }
+
+        @Override
+        public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            // Async bodies (NDJSON streams) run on another thread; drop this thread's scope
+            request.setAttribute(SCOPE_ATTRIBUTE, QueryCounter.end());
+        }
+
+        @Override
+        public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+            QueryCounter.Scope scope = QueryCounter.end();
+            if (scope == null) {
+                return;
+            }
+            request.setAttribute(SCOPE_ATTRIBUTE, scope);
+            if (scope.isOverBudget()) {
+                log.warn("Query budget exceeded - {}", scope);
+            } else {
+                log.debug("Query budget - {}", scope);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.buildtogether.config;
+
+import com.buildtogether.controller.ReactiveReadHandler;
+import com.buildtogether.exception.ErrorResponse;
+import com.buildtogether.exception.GlobalExceptionHandler;
+import com.buildtogether.exception.ResourceNotFoundException;
+import com.buildtogether.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+// Functional read-only routes that stream lists as Flux (NDJSON or server-sent events) with backpressure
+@Configuration
+public class ReactiveReadConfig {
+
+    // Fewer than the connection pool, so streams can never take every connection from regular requests
+    @Value("${app.reactive.jdbc-threads:4}")
+    private int jdbcThreads;
+
+    @Value("${app.reactive.jdbc-queue:1000}")
+    private int jdbcQueue;
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcReadScheduler() {
+        return Schedulers.newBoundedElastic(jdbcThreads, jdbcQueue, "jdbc-read");
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveReadRoutes(ReactiveReadHandler handler,
+                                                             GlobalExceptionHandler exceptionHandler) {
+        // @RestControllerAdvice only covers annotated controllers; map the same exceptions to the same bodies here
+        return RouterFunctions.route()
+                .GET("/api/v1/reactive/hackathons", handler::hackathons)
+                .GET("/api/v1/reactive/hackathons/{id}/leaderboard", handler::leaderboard)
+                .GET("/api/v1/reactive/teams", handler::teams)
+                .GET("/api/v1/reactive/submissions", handler::submissions)
+                .onError(ResourceNotFoundException.class, (e, request) -> toServerResponse(
+                        exceptionHandler.handleResourceNotFoundException((ResourceNotFoundException) e, webRequest(request))))
+                .onError(ValidationException.class, (e, request) -> toServerResponse(
+                        exceptionHandler.handleValidationException((ValidationException) e, webRequest(request))))
+                .onError(IllegalArgumentException.class, (e, request) -> toServerResponse(
+                        exceptionHandler.handleIllegalArgumentException((IllegalArgumentException) e, webRequest(request))))
+                .onError(e -> e instanceof CannotCreateTransactionException || e instanceof DataAccessResourceFailureException,
+                        (e, request) -> toServerResponse(
+                                exceptionHandler.handleDatabaseUnavailableException((RuntimeException) e, webRequest(request))))
+                .build();
+    }
+
+    private static WebRequest webRequest(ServerRequest request) {
+        return new ServletWebRequest(request.servletRequest());
+    }
+
+    private static ServerResponse toServerResponse(ResponseEntity<ErrorResponse> entity) {
+        return ServerResponse.status(entity.getStatusCode()).body(entity.getBody());
+    }
+}
@@ -1,9 +1,22 @@
 package com.buildtogether.controller;
 
+import com.buildtogether.conditional.ConditionalGet;
+import com.buildtogether.conditional.ResourceVersion;
+import com.buildtogether.dto.CursorPage;
 import com.buildtogether.dto.HackathonDTO;
+import com.buildtogether.dto.HackathonStatsDTO;
 import com.buildtogether.entity.Hackathon;
+import com.buildtogether.event.EntityChangedEvent;
 import com.buildtogether.repository.HackathonRepository;
 import com.buildtogether.exception.ResourceNotFoundException;
+import com.buildtogether.monitoring.QueryBudget;
+import com.buildtogether.pagination.KeysetCursor;
+import com.buildtogether.pagination.KeysetStreamer;
+import com.buildtogether.payload.EncodedPayload;
+import com.buildtogether.payload.PayloadCache;
+import com.buildtogether.projection.FieldSelection;
+import com.buildtogether.service.ActiveHackathonSnapshot;
+import com.buildtogether.service.HackathonQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,9 +26,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -29,26 +47,69 @@ import java.util.stream.Collectors;
 public class HackathonController {
 
     private final HackathonRepository hackathonRepository;
+    private final HackathonQueryService hackathonQueryService;
+    private final ActiveHackathonSnapshot activeHackathonSnapshot;
+    private final KeysetStreamer keysetStreamer;
+    private final PayloadCache payloadCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @GetMapping
+    @QueryBudget(statements = 1)
     @Operation(summary = "Get all hackathons")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully fetched all hackathons",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = HackathonDTO.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
+    public ResponseEntity<byte[]> getAllHackathons(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            NativeWebRequest request) {
+        log.debug("=== GET /hackathons - Fetching all hackathons ===");
+        EncodedPayload payload = payloadCache.get("hackathons", HackathonDTO.class, hackathonQueryService::findAll,
+                HackathonDTO::getUpdatedAt, FieldSelection.parse(fields));
+        if (payload.isNotModified(request)) {
+            return null;
+        }
+        log.debug("Successfully fetched {} hackathons", payload.version().getCount());
+        return payload.toResponse(acceptEncoding);
+    }
+
+    @GetMapping("/page")
+    @QueryBudget(statements = 1, rows = KeysetCursor.MAX_LIMIT + 1)
+    @Operation(summary = "Get hackathons page by keyset cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully fetched hackathons page"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
     @Transactional(readOnly = true)
-    public ResponseEntity<List<HackathonDTO>> getAllHackathons() {
-        log.info("=== GET /hackathons - Fetching all hackathons ===");
-        List<Hackathon> hackathons = hackathonRepository.findAll();
-        List<HackathonDTO> hackathonDTOs = hackathons.stream()
-                .map(HackathonDTO::fromHackathon)
-                .collect(Collectors.toList());
-        log.info("Successfully fetched {} hackathons", hackathonDTOs.size());
-        return ResponseEntity.ok(hackathonDTOs);
+    public ResponseEntity<CursorPage<HackathonDTO>> getHackathonsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("Fetching hackathons page after cursor: {}", cursor);
+        KeysetCursor after = KeysetCursor.decode(cursor, 1);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        List<Hackathon> hackathons = hackathonRepository.findByIdGreaterThanOrderByIdAsc(after.key(0), PageRequest.ofSize(pageSize + 1));
+        return ResponseEntity.ok(CursorPage.fromRows(hackathons, pageSize,
+                hackathon -> KeysetCursor.of(hackathon.getId()), HackathonDTO::fromHackathon));
+    }
+
+    @GetMapping(value = "/stream", produces = KeysetStreamer.NDJSON_VALUE)
+    @Operation(summary = "Stream all hackathons as NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed hackathons"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> streamHackathons() {
+        log.debug("Streaming all hackathons");
+        return keysetStreamer.stream(1, HackathonDTO.class,
+                (after, size) -> hackathonRepository.findByIdGreaterThanOrderByIdAsc(after.key(0), PageRequest.ofSize(size)),
+                hackathon -> KeysetCursor.of(hackathon.getId()), HackathonDTO::fromHackathon);
     }
 
     @GetMapping("/{id}")
+    @QueryBudget(statements = 1, rows = 1)
     @Operation(summary = "Get hackathon by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully fetched hackathon",
@@ -56,15 +117,31 @@ public class HackathonController {
             @ApiResponse(responseCode = "404", description = "Hackathon not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    @Transactional(readOnly = true)
-    public ResponseEntity<HackathonDTO> getHackathonById(@PathVariable Long id) {
-        log.info("Fetching hackathon with id: {}", id);
-        Hackathon hackathon = hackathonRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Hackathon", "id", id));
-        HackathonDTO hackathonDTO = HackathonDTO.fromHackathon(hackathon);
+    public ResponseEntity<HackathonDTO> getHackathonById(@PathVariable Long id, NativeWebRequest request) {
+        log.debug("Fetching hackathon with id: {}", id);
+        HackathonDTO hackathonDTO = hackathonQueryService.findById(id);
+        if (ConditionalGet.isResourceNotModified(request, ResourceVersion.of(hackathonDTO, HackathonDTO::getUpdatedAt))) {
+            return null;
+        }
         return ResponseEntity.ok(hackathonDTO);
     }
 
+    @GetMapping("/{id}/stats")
+    @QueryBudget(statements = 1)
+    @Operation(summary = "Get hackathon dashboard stats",
+            description = "Team, member, join request, submission and score figures from one grouped query; "
+                    + "cached for app.hackathon-stats.ttl, so they can lag writes by that long")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully fetched hackathon stats",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = HackathonStatsDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Hackathon not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<HackathonStatsDTO> getHackathonStats(@PathVariable Long id) {
+        log.debug("Fetching stats for hackathon: {}", id);
+        return ResponseEntity.ok(hackathonQueryService.findStats(id));
+    }
+
     @PostMapping
     @Operation(summary = "Create new hackathon")
     @ApiResponses(value = {
@@ -73,8 +150,9 @@ public class HackathonController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<HackathonDTO> createHackathon(@Valid @RequestBody Hackathon hackathon) {
-        log.info("Creating new hackathon: {}", hackathon.getTitle());
+        log.debug("Creating new hackathon: {}", hackathon.getTitle());
         Hackathon savedHackathon = hackathonRepository.save(hackathon);
+        eventPublisher.publishEvent(new EntityChangedEvent(Hackathon.class, savedHackathon.getId(), EntityChangedEvent.Change.CREATED));
         HackathonDTO hackathonDTO = HackathonDTO.fromHackathon(savedHackathon);
         return ResponseEntity.ok(hackathonDTO);
     }
@@ -88,7 +166,7 @@ public class HackathonController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<HackathonDTO> updateHackathon(@PathVariable Long id, @Valid @RequestBody Hackathon hackathonDetails) {
-        log.info("Updating hackathon with id: {}", id);
+        log.debug("Updating hackathon with id: {}", id);
         Hackathon hackathon = hackathonRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Hackathon", "id", id));
         
@@ -99,6 +177,7 @@ public class HackathonController {
         hackathon.setMaxTeamSize(hackathonDetails.getMaxTeamSize());
         
         Hackathon updatedHackathon = hackathonRepository.save(hackathon);
+        eventPublisher.publishEvent(new EntityChangedEvent(Hackathon.class, id, EntityChangedEvent.Change.UPDATED));
         HackathonDTO hackathonDTO = HackathonDTO.fromHackathon(updatedHackathon);
         return ResponseEntity.ok(hackathonDTO);
     }
@@ -112,29 +191,34 @@ public class HackathonController {
     })
     @Transactional
     public ResponseEntity<Void> deleteHackathon(@PathVariable Long id) {
-        log.info("Deleting hackathon with id: {}", id);
+        log.debug("Deleting hackathon with id: {}", id);
         if (!hackathonRepository.existsById(id)) {
             throw new ResourceNotFoundException("Hackathon", "id", id);
         }
         hackathonRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Hackathon.class, id, EntityChangedEvent.Change.DELETED));
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/active")
+    @QueryBudget(statements = 1)
     @Operation(summary = "Get active hackathons")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully fetched active hackathons",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = HackathonDTO.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    @Transactional(readOnly = true)
-    public ResponseEntity<List<HackathonDTO>> getActiveHackathons() {
-        log.info("=== GET /hackathons - Fetching active hackathons ===");
-        List<Hackathon> activeHackathons = hackathonRepository.findByActiveStatus();
-        List<HackathonDTO> activeHackathonDTOs = activeHackathons.stream()
-                .map(HackathonDTO::fromHackathon)
-                .collect(Collectors.toList());
-        log.info("Successfully fetched {} active hackathons", activeHackathonDTOs.size());
-        return ResponseEntity.ok(activeHackathonDTOs);
+    public ResponseEntity<byte[]> getActiveHackathons(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            NativeWebRequest request) {
+        log.debug("=== GET /hackathons - Fetching active hackathons ===");
+        EncodedPayload payload = payloadCache.get("hackathons/active", HackathonDTO.class,
+                activeHackathonSnapshot::current, HackathonDTO::getUpdatedAt, FieldSelection.parse(fields));
+        if (payload.isNotModified(request)) {
+            return null;
+        }
+        log.debug("Successfully fetched {} active hackathons", payload.version().getCount());
+        return payload.toResponse(acceptEncoding);
     }
 }
@@ -1,19 +1,32 @@
 package com.buildtogether.controller;
 
+import com.buildtogether.conditional.ConditionalGet;
+import com.buildtogether.dto.CursorPage;
+import com.buildtogether.dto.JoinApprovalDTO;
 import com.buildtogether.dto.JoinRequestDTO;
 import com.buildtogether.entity.JoinRequest;
+import com.buildtogether.entity.TeamMember;
+import com.buildtogether.event.MembershipEvent;
 import com.buildtogether.repository.JoinRequestRepository;
 import com.buildtogether.exception.ResourceNotFoundException;
 import com.buildtogether.exception.ValidationException;
+import com.buildtogether.monitoring.QueryBudget;
+import com.buildtogether.pagination.KeysetCursor;
+import com.buildtogether.pagination.KeysetStreamer;
+import com.buildtogether.service.TeamMembershipService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/v1/join-requests")
@@ -22,93 +35,121 @@ import java.util.stream.Collectors;
 public class JoinRequestController {
 
     private final JoinRequestRepository joinRequestRepository;
+    private final KeysetStreamer keysetStreamer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeamMembershipService teamMembershipService;
 
     @GetMapping
+    @QueryBudget(statements = 2)
     @Transactional(readOnly = true)
-    public ResponseEntity<List<JoinRequestDTO>> getAllJoinRequests() {
-        log.info("Fetching all join requests");
-        List<JoinRequest> joinRequests = joinRequestRepository.findAll();
-        List<JoinRequestDTO> joinRequestDTOs = joinRequests.stream()
-                .map(JoinRequestDTO::fromJoinRequest)
-                .collect(Collectors.toList());
+    public ResponseEntity<List<JoinRequestDTO>> getAllJoinRequests(NativeWebRequest request) {
+        log.debug("Fetching all join requests");
+        if (ConditionalGet.isNotModified(request, joinRequestRepository.findVersion())) {
+            return null;
+        }
+        List<JoinRequestDTO> joinRequestDTOs = joinRequestRepository.findAllDtos();
         return ResponseEntity.ok(joinRequestDTOs);
     }
 
+    @GetMapping("/page")
+    @QueryBudget(statements = 1, rows = KeysetCursor.MAX_LIMIT + 1)
+    @Transactional(readOnly = true)
+    public ResponseEntity<CursorPage<JoinRequestDTO>> getJoinRequestsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("Fetching join requests page after cursor: {}", cursor);
+        KeysetCursor after = KeysetCursor.decode(cursor, 1);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        List<JoinRequestDTO> joinRequestDTOs = joinRequestRepository.findDtoPageAfter(after.key(0), PageRequest.ofSize(pageSize + 1));
+        return ResponseEntity.ok(CursorPage.fromRows(joinRequestDTOs, pageSize,
+                dto -> KeysetCursor.of(dto.getId()), Function.identity()));
+    }
+
+    @GetMapping(value = "/stream", produces = KeysetStreamer.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamJoinRequests() {
+        log.debug("Streaming all join requests");
+        return keysetStreamer.stream(1, JoinRequestDTO.class,
+                (after, size) -> joinRequestRepository.findDtoPageAfter(after.key(0), PageRequest.ofSize(size)),
+                dto -> KeysetCursor.of(dto.getId()), Function.identity());
+    }
+
     @GetMapping("/{id}")
+    @QueryBudget(statements = 2, rows = 2)
     @Transactional(readOnly = true)
-    public ResponseEntity<JoinRequestDTO> getJoinRequestById(@PathVariable Long id) {
-        log.info("Fetching join request with id: {}", id);
-        JoinRequest joinRequest = joinRequestRepository.findById(id)
+    public ResponseEntity<JoinRequestDTO> getJoinRequestById(@PathVariable Long id, NativeWebRequest request) {
+        log.debug("Fetching join request with id: {}", id);
+        if (ConditionalGet.isResourceNotModified(request, joinRequestRepository.findVersionById(id))) {
+            return null;
+        }
+        JoinRequestDTO joinRequestDTO = joinRequestRepository.findDtoById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("JoinRequest", "id", id));
-        JoinRequestDTO joinRequestDTO = JoinRequestDTO.fromJoinRequest(joinRequest);
         return ResponseEntity.ok(joinRequestDTO);
     }
 
     @PostMapping
     public ResponseEntity<JoinRequestDTO> createJoinRequest(@Valid @RequestBody JoinRequest joinRequest) {
-        log.info("Creating new join request for team: {} and user: {}", 
+        log.debug("Creating new join request for team: {} and user: {}", 
                 joinRequest.getTeam().getId(), joinRequest.getUser().getId());
         JoinRequest savedJoinRequest = joinRequestRepository.save(joinRequest);
-        JoinRequestDTO joinRequestDTO = JoinRequestDTO.fromJoinRequest(savedJoinRequest);
+        // The body only carries team and user ids, so read the names back through the DTO projection
+        JoinRequestDTO joinRequestDTO = joinRequestRepository.findDtoById(savedJoinRequest.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("JoinRequest", "id", savedJoinRequest.getId()));
+        publish(MembershipEvent.Type.JOIN_REQUESTED, joinRequestDTO);
         return ResponseEntity.ok(joinRequestDTO);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<JoinRequestDTO> updateJoinRequest(@PathVariable Long id, @Valid @RequestBody JoinRequest joinRequestDetails) {
-        log.info("Updating join request with id: {}", id);
-        JoinRequest joinRequest = joinRequestRepository.findById(id)
+        log.debug("Updating join request with id: {}", id);
+        JoinRequest joinRequest = joinRequestRepository.findWithTeamAndUserById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("JoinRequest", "id", id));
         
         joinRequest.setStatus(joinRequestDetails.getStatus());
         
         JoinRequest updatedJoinRequest = joinRequestRepository.save(joinRequest);
         JoinRequestDTO joinRequestDTO = JoinRequestDTO.fromJoinRequest(updatedJoinRequest);
+        publish(MembershipEvent.Type.JOIN_REQUEST_UPDATED, joinRequestDTO);
         return ResponseEntity.ok(joinRequestDTO);
     }
 
     @DeleteMapping("/{id}")
     @Transactional
     public ResponseEntity<Void> deleteJoinRequest(@PathVariable Long id) {
-        log.info("Deleting join request with id: {}", id);
-        if (!joinRequestRepository.existsById(id)) {
-            throw new ResourceNotFoundException("JoinRequest", "id", id);
-        }
+        log.debug("Deleting join request with id: {}", id);
+        JoinRequestDTO joinRequestDTO = joinRequestRepository.findDtoById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("JoinRequest", "id", id));
         joinRequestRepository.deleteById(id);
+        eventPublisher.publishEvent(new MembershipEvent(MembershipEvent.Type.JOIN_REQUEST_WITHDRAWN,
+                joinRequestDTO.getTeamId(), joinRequestDTO.getUserId(), null));
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/team/{teamId}")
+    @QueryBudget(statements = 1)
     @Transactional(readOnly = true)
     public ResponseEntity<List<JoinRequestDTO>> getJoinRequestsByTeam(@PathVariable Long teamId) {
-        log.info("Fetching join requests for team: {}", teamId);
-        List<JoinRequest> joinRequests = joinRequestRepository.findByTeamId(teamId);
-        List<JoinRequestDTO> joinRequestDTOs = joinRequests.stream()
-                .map(JoinRequestDTO::fromJoinRequest)
-                .collect(Collectors.toList());
+        log.debug("Fetching join requests for team: {}", teamId);
+        List<JoinRequestDTO> joinRequestDTOs = joinRequestRepository.findDtosByTeamId(teamId);
         return ResponseEntity.ok(joinRequestDTOs);
     }
 
     @GetMapping("/user/{userId}")
+    @QueryBudget(statements = 1)
     @Transactional(readOnly = true)
     public ResponseEntity<List<JoinRequestDTO>> getJoinRequestsByUser(@PathVariable Long userId) {
-        log.info("Fetching join requests for user: {}", userId);
-        List<JoinRequest> joinRequests = joinRequestRepository.findByUserId(userId);
-        List<JoinRequestDTO> joinRequestDTOs = joinRequests.stream()
-                .map(JoinRequestDTO::fromJoinRequest)
-                .collect(Collectors.toList());
+        log.debug("Fetching join requests for user: {}", userId);
+        List<JoinRequestDTO> joinRequestDTOs = joinRequestRepository.findDtosByUserId(userId);
         return ResponseEntity.ok(joinRequestDTOs);
     }
 
     @GetMapping("/status/{status}")
+    @QueryBudget(statements = 1)
     @Transactional(readOnly = true)
     public ResponseEntity<List<JoinRequestDTO>> getJoinRequestsByStatus(@PathVariable String status) {
-        log.info("Fetching join requests with status: {}", status);
+        log.debug("Fetching join requests with status: {}", status);
         try {
             JoinRequest.RequestStatus requestStatus = JoinRequest.RequestStatus.valueOf(status.toUpperCase());
-            List<JoinRequest> joinRequests = joinRequestRepository.findByStatus(requestStatus);
-            List<JoinRequestDTO> joinRequestDTOs = joinRequests.stream()
-                    .map(JoinRequestDTO::fromJoinRequest)
-                    .collect(Collectors.toList());
+            List<JoinRequestDTO> joinRequestDTOs = joinRequestRepository.findDtosByStatus(requestStatus);
             return ResponseEntity.ok(joinRequestDTOs);
         } catch (IllegalArgumentException e) {
             log.warn("Invalid status value provided: {}", status);
@@ -117,34 +158,58 @@ public class JoinRequestController {
     }
 
     @GetMapping("/check")
+    @QueryBudget(statements = 1)
     @Transactional(readOnly = true)
     public ResponseEntity<Boolean> checkJoinRequestExists(@RequestParam Long teamId, @RequestParam Long userId) {
-        log.info("Checking if join request exists for team: {} and user: {}", teamId, userId);
+        log.debug("Checking if join request exists for team: {} and user: {}", teamId, userId);
         boolean exists = joinRequestRepository.existsByTeamIdAndUserId(teamId, userId);
         return ResponseEntity.ok(exists);
     }
 
     @PutMapping("/{id}/approve")
     public ResponseEntity<JoinRequestDTO> approveJoinRequest(@PathVariable Long id) {
-        log.info("Approving join request with id: {}", id);
-        JoinRequest joinRequest = joinRequestRepository.findById(id)
+        log.debug("Approving join request with id: {}", id);
+        JoinRequest joinRequest = joinRequestRepository.findWithTeamAndUserById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("JoinRequest", "id", id));
         
         joinRequest.setStatus(JoinRequest.RequestStatus.APPROVED);
         JoinRequest updatedJoinRequest = joinRequestRepository.save(joinRequest);
         JoinRequestDTO joinRequestDTO = JoinRequestDTO.fromJoinRequest(updatedJoinRequest);
+        publish(MembershipEvent.Type.JOIN_REQUEST_APPROVED, joinRequestDTO);
         return ResponseEntity.ok(joinRequestDTO);
     }
 
+    // Approve, add the applicant to the team and reject their other pending requests in the hackathon, in one
+    // transaction; 409 when the team is already at maxTeamSize
+    @PutMapping("/{id}/approve-and-join")
+    @QueryBudget(statements = 7)
+    public ResponseEntity<JoinApprovalDTO> approveAndJoin(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "DEVELOPER") String role) {
+        log.debug("Approving join request with id: {} and adding the applicant as: {}", id, role);
+        TeamMember.RoleInTeam roleInTeam;
+        try {
+            roleInTeam = TeamMember.RoleInTeam.valueOf(role.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid role value: " + role);
+        }
+        return ResponseEntity.ok(teamMembershipService.approveAndJoin(id, roleInTeam));
+    }
+
     @PutMapping("/{id}/reject")
     public ResponseEntity<JoinRequestDTO> rejectJoinRequest(@PathVariable Long id) {
-        log.info("Rejecting join request with id: {}", id);
-        JoinRequest joinRequest = joinRequestRepository.findById(id)
+        log.debug("Rejecting join request with id: {}", id);
+        JoinRequest joinRequest = joinRequestRepository.findWithTeamAndUserById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("JoinRequest", "id", id));
         
         joinRequest.setStatus(JoinRequest.RequestStatus.REJECTED);
         JoinRequest updatedJoinRequest = joinRequestRepository.save(joinRequest);
         JoinRequestDTO joinRequestDTO = JoinRequestDTO.fromJoinRequest(updatedJoinRequest);
+        publish(MembershipEvent.Type.JOIN_REQUEST_REJECTED, joinRequestDTO);
         return ResponseEntity.ok(joinRequestDTO);
     }
+
+    private void publish(MembershipEvent.Type type, JoinRequestDTO joinRequestDTO) {
+        eventPublisher.publishEvent(new MembershipEvent(type, joinRequestDTO.getTeamId(), joinRequestDTO.getUserId(), joinRequestDTO));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.buildtogether.controller;
+
+import com.buildtogether.dto.LeaderboardPageDTO;
+import com.buildtogether.exception.ResourceNotFoundException;
+import com.buildtogether.exception.ValidationException;
+import com.buildtogether.monitoring.QueryBudget;
+import com.buildtogether.repository.HackathonRepository;
+import com.buildtogether.service.LeaderboardIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/hackathons/{hackathonId}/leaderboard")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Leaderboard", description = "Live hackathon rankings served from memory")
+public class LeaderboardController {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private final LeaderboardIndex leaderboardIndex;
+    private final HackathonRepository hackathonRepository;
+
+    // The existence check only runs for hackathons with nothing ranked yet
+    @GetMapping
+    @QueryBudget(statements = 1)
+    @Operation(summary = "Get a page of the leaderboard",
+            description = "Submissions ranked by score (ties share a rank: 1, 2, 2, 4); rejected submissions are not ranked")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Leaderboard page",
+                    content = @Content(schema = @Schema(implementation = LeaderboardPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid offset or limit"),
+            @ApiResponse(responseCode = "404", description = "Hackathon not found")
+    })
+    public ResponseEntity<LeaderboardPageDTO> getLeaderboard(
+            @PathVariable Long hackathonId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("Fetching leaderboard for hackathon: {} from offset: {}", hackathonId, offset);
+        if (offset < 0) {
+            throw new ValidationException("Offset must not be negative");
+        }
+        int size = clampLimit(limit);
+        LeaderboardPageDTO page = leaderboardIndex.page(hackathonId, offset, size);
+        if (page == null) {
+            requireHackathon(hackathonId);
+            page = new LeaderboardPageDTO(hackathonId, 0, 0, offset, List.of());
+        }
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @QueryBudget(statements = 1)
+    @Operation(summary = "Stream leaderboard rank changes",
+            description = "Server-sent events: a 'snapshot' of the first limit entries, then one 'rank' event per change "
+                    + "and a 'reset' when the leaderboard was rebuilt and should be fetched again")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit"),
+            @ApiResponse(responseCode = "404", description = "Hackathon not found")
+    })
+    public SseEmitter streamLeaderboard(
+            @PathVariable Long hackathonId,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("Opening leaderboard stream for hackathon: {}", hackathonId);
+        int size = clampLimit(limit);
+        if (!leaderboardIndex.tracks(hackathonId)) {
+            requireHackathon(hackathonId);
+        }
+        return leaderboardIndex.subscribe(hackathonId, size);
+    }
+
+    private void requireHackathon(Long hackathonId) {
+        if (!hackathonRepository.existsById(hackathonId)) {
+            throw new ResourceNotFoundException("Hackathon", "id", hackathonId);
+        }
+    }
+
+    private static int clampLimit(Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,44 @@
+package com.buildtogether.controller;
+
+import com.buildtogether.exception.ResourceNotFoundException;
+import com.buildtogether.monitoring.QueryBudget;
+import com.buildtogether.repository.UserRepository;
+import com.buildtogether.service.NotificationHub;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Notifications", description = "Live join-request and team-membership events")
+public class NotificationController {
+
+    private final NotificationHub notificationHub;
+    private final UserRepository userRepository;
+
+    @GetMapping(value = "/api/v1/users/{userId}/notifications", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @QueryBudget(statements = 1)
+    @Operation(summary = "Stream a user's notifications",
+            description = "Server-sent events: 'ready' once connected, then join-requested, join-request-updated/-approved/"
+                    + "-rejected/-withdrawn and member-added/-updated/-removed for the user and for teams they lead")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream"),
+            @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    public SseEmitter streamNotifications(@PathVariable Long userId) {
+        log.debug("Opening notification stream for user: {}", userId);
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+        return notificationHub.subscribe(userId);
+    }
+}
@@ -0,0 +1,187 @@
+package com.buildtogether.controller;
+
+import com.buildtogether.dto.HackathonDTO;
+import com.buildtogether.dto.LeaderboardEntryDTO;
+import com.buildtogether.dto.TeamDTO;
+import com.buildtogether.exception.ResourceNotFoundException;
+import com.buildtogether.pagination.KeysetCursor;
+import com.buildtogether.pagination.KeysetStreamer;
+import com.buildtogether.pagination.ReactiveKeysetReader;
+import com.buildtogether.pagination.ReactiveKeysetReader.Keyed;
+import com.buildtogether.repository.HackathonRepository;
+import com.buildtogether.repository.SubmissionRepository;
+import com.buildtogether.repository.TeamRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Subscription;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Function;
+
+// Handlers for the functional /api/v1/reactive routes (see ReactiveReadConfig). Every list is a Flux of keyset
+// chunks written as NDJSON, or as server-sent events when the client accepts text/event-stream. Each event id is the
+// cursor after that row, so a reconnecting EventSource resumes where it stopped (Last-Event-ID); NDJSON clients
+// can pass the same token as ?cursor=.
+@Component
+@Slf4j
+public class ReactiveReadHandler {
+
+    // Leaderboard cursor: (score in hundredths, submission id, rank, position) of the last row handed out
+    private static final int LEADERBOARD_ARITY = 4;
+    private static final KeysetCursor LEADERBOARD_START = KeysetCursor.of(Long.MAX_VALUE, 0, 0, 0);
+    private static final int SCORE_SCALE = 2;
+
+    private final ReactiveKeysetReader reader;
+    private final HackathonRepository hackathonRepository;
+    private final TeamRepository teamRepository;
+    private final SubmissionRepository submissionRepository;
+    private final ObjectWriter writer;
+    // Blocking servlet writes happen here, never on the JDBC scheduler, so a slow client cannot stall chunk loads
+    private final Scheduler writeScheduler = Schedulers.boundedElastic();
+
+    public ReactiveReadHandler(ReactiveKeysetReader reader, HackathonRepository hackathonRepository,
+                               TeamRepository teamRepository, SubmissionRepository submissionRepository,
+                               ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.hackathonRepository = hackathonRepository;
+        this.teamRepository = teamRepository;
+        this.submissionRepository = submissionRepository;
+        this.writer = objectMapper.writer();
+    }
+
+    public ServerResponse hackathons(ServerRequest request) {
+        log.debug("Reactive stream of all hackathons");
+        return respond(request, reader.chunks(KeysetCursor.decode(resumeToken(request), 1),
+                (after, size) -> hackathonRepository.findByIdGreaterThanOrderByIdAsc(after.key(0), PageRequest.ofSize(size)),
+                hackathon -> KeysetCursor.of(hackathon.getId()), HackathonDTO::fromHackathon));
+    }
+
+    public ServerResponse teams(ServerRequest request) {
+        log.debug("Reactive stream of all teams");
+        return respond(request, reader.chunks(KeysetCursor.decode(resumeToken(request), 1),
+                (after, size) -> teamRepository.findByIdGreaterThanOrderByIdAsc(after.key(0), PageRequest.ofSize(size)),
+                team -> KeysetCursor.of(team.getId()), TeamDTO::fromTeam));
+    }
+
+    public ServerResponse submissions(ServerRequest request) {
+        log.debug("Reactive stream of all submissions");
+        return respond(request, reader.chunks(KeysetCursor.decode(resumeToken(request), 1),
+                (after, size) -> submissionRepository.findSummaryPageAfter(after.key(0), PageRequest.ofSize(size)),
+                dto -> KeysetCursor.of(dto.getId()), Function.identity()));
+    }
+
+    public ServerResponse leaderboard(ServerRequest request) {
+        Long hackathonId = parseId(request.pathVariable("id"));
+        log.debug("Reactive leaderboard for hackathon {}", hackathonId);
+        if (!hackathonRepository.existsById(hackathonId)) {
+            throw new ResourceNotFoundException("Hackathon", "id", hackathonId);
+        }
+        String token = resumeToken(request);
+        KeysetCursor start = token == null ? LEADERBOARD_START : KeysetCursor.decode(token, LEADERBOARD_ARITY);
+        return respond(request, reader.chunks(start,
+                (after, size) -> submissionRepository.findLeaderboardPageAfter(hackathonId,
+                        BigDecimal.valueOf(after.key(0), SCORE_SCALE), after.key(1), PageRequest.ofSize(size)),
+                () -> ranker(start)));
+    }
+
+    // Standard competition ranking (1, 2, 2, 4) carried across chunks and resumes through the cursor
+    private static Function<LeaderboardEntryDTO, Keyed<LeaderboardEntryDTO>> ranker(KeysetCursor after) {
+        long[] last = {after.key(0), after.key(2), after.key(3)};
+        return entry -> {
+            long score = entry.getScore().setScale(SCORE_SCALE).unscaledValue().longValueExact();
+            long position = ++last[2];
+            if (score != last[0]) {
+                last[0] = score;
+                last[1] = position;
+            }
+            entry.setRank(last[1]);
+            return new Keyed<>(KeysetCursor.of(score, entry.getSubmissionId(), last[1], position), entry);
+        };
+    }
+
+    private <D> ServerResponse respond(ServerRequest request, Flux<List<Keyed<D>>> chunks) {
+        // One chunk buffered ahead of the one being written
+        Flux<List<Keyed<D>>> paced = chunks.publishOn(writeScheduler, 1);
+        if (request.headers().accept().contains(MediaType.TEXT_EVENT_STREAM)) {
+            return ServerResponse.sse(sse -> {
+                BaseSubscriber<List<Keyed<D>>> subscriber = new BaseSubscriber<>() {
+                    @Override
+                    protected void hookOnSubscribe(Subscription subscription) {
+                        request(1);
+                    }
+
+                    @Override
+                    protected void hookOnNext(List<Keyed<D>> rows) {
+                        try {
+                            for (Keyed<D> row : rows) {
+                                sse.id(row.cursor().encode()).send(row.item());
+                            }
+                            request(1);
+                        } catch (IOException e) {
+                            // Client went away
+                            cancel();
+                        }
+                    }
+
+                    @Override
+                    protected void hookOnComplete() {
+                        sse.complete();
+                    }
+
+                    @Override
+                    protected void hookOnError(Throwable error) {
+                        log.error("Reactive event stream failed", error);
+                        sse.error(error);
+                    }
+                };
+                sse.onTimeout(subscriber::dispose);
+                sse.onError(error -> subscriber.dispose());
+                paced.subscribe(subscriber);
+            });
+        }
+        return ServerResponse.ok().contentType(KeysetStreamer.NDJSON).body(paced.map(this::toNdjson));
+    }
+
+    private <D> byte[] toNdjson(List<Keyed<D>> rows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(rows.size() * 256);
+        try {
+            for (Keyed<D> row : rows) {
+                writer.writeValue(out, row.item());
+                out.write('\n');
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize stream row", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String resumeToken(ServerRequest request) {
+        String lastEventId = request.headers().firstHeader("Last-Event-ID");
+        return lastEventId != null ? lastEventId : request.param("cursor").orElse(null);
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid id: " + value);
+        }
+    }
+}
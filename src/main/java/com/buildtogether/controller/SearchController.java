@@ -0,0 +1,106 @@
+package com.buildtogether.controller;
+
+import com.buildtogether.dto.SearchResultDTO;
+import com.buildtogether.dto.SuggestionDTO;
+import com.buildtogether.exception.ValidationException;
+import com.buildtogether.monitoring.QueryBudget;
+import com.buildtogether.search.AutocompleteIndex;
+import com.buildtogether.search.SearchIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Search", description = "Full-text search across users, hackathons, teams, skills and submissions")
+public class SearchController {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    public static final int DEFAULT_SUGGESTIONS = 10;
+
+    private final SearchIndex searchIndex;
+    private final AutocompleteIndex autocompleteIndex;
+
+    @GetMapping
+    @QueryBudget(statements = 0)
+    @Operation(summary = "Search everything",
+            description = "Every word must match exactly, as a prefix or (with fuzzy=true) within one or two typos; "
+                    + "results are ranked by relevance, title matches first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ranked search hits",
+                    content = @Content(schema = @Schema(implementation = SearchResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Missing query, unknown type or invalid limit")
+    })
+    public ResponseEntity<SearchResultDTO> search(
+            @RequestParam String q,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(defaultValue = "true") boolean prefix,
+            @RequestParam(defaultValue = "true") boolean fuzzy,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("Searching for: {} in types: {}", q, types);
+        if (q.isBlank()) {
+            throw new ValidationException("Query must not be blank");
+        }
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        SearchResultDTO result = searchIndex.search(q, parseTypes(types), prefix, fuzzy, size);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/autocomplete")
+    @QueryBudget(statements = 0)
+    @Operation(summary = "Typeahead suggestions",
+            description = "Skill, user and team names starting with q (or with a word starting with q), most popular first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggestions, most popular first"),
+            @ApiResponse(responseCode = "400", description = "Unsupported type or invalid limit")
+    })
+    public ResponseEntity<List<SuggestionDTO>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(required = false) Integer limit) {
+        int size = limit == null ? DEFAULT_SUGGESTIONS : limit;
+        if (size < 1 || size > AutocompleteIndex.MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + AutocompleteIndex.MAX_LIMIT);
+        }
+        Set<SearchIndex.DocType> parsed = parseTypes(types);
+        if (!AutocompleteIndex.TYPES.containsAll(parsed)) {
+            throw new ValidationException("Autocomplete supports types: skill, user, team");
+        }
+        return ResponseEntity.ok(autocompleteIndex.suggest(q, parsed, size));
+    }
+
+    private static Set<SearchIndex.DocType> parseTypes(List<String> types) {
+        Set<SearchIndex.DocType> parsed = EnumSet.noneOf(SearchIndex.DocType.class);
+        if (types != null) {
+            for (String type : types) {
+                try {
+                    parsed.add(SearchIndex.DocType.valueOf(type.trim().toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    throw new ValidationException("Invalid search type: " + type);
+                }
+            }
+        }
+        return parsed;
+    }
+}
@@ -1,9 +1,22 @@
 package com.buildtogether.controller;
 
+import com.buildtogether.conditional.ConditionalGet;
+import com.buildtogether.conditional.ResourceVersion;
+import com.buildtogether.dto.BulkImportResult;
+import com.buildtogether.dto.CursorPage;
 import com.buildtogether.dto.SkillDTO;
 import com.buildtogether.entity.Skill;
+import com.buildtogether.event.EntityChangedEvent;
 import com.buildtogether.repository.SkillRepository;
 import com.buildtogether.exception.ResourceNotFoundException;
+import com.buildtogether.monitoring.QueryBudget;
+import com.buildtogether.pagination.KeysetCursor;
+import com.buildtogether.pagination.KeysetStreamer;
+import com.buildtogether.payload.EncodedPayload;
+import com.buildtogether.payload.PayloadCache;
+import com.buildtogether.projection.FieldSelection;
+import com.buildtogether.service.BulkImportService;
+import com.buildtogether.service.SkillQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,11 +26,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,8 +50,14 @@ import java.util.stream.Collectors;
 public class SkillController {
 
     private final SkillRepository skillRepository;
+    private final SkillQueryService skillQueryService;
+    private final KeysetStreamer keysetStreamer;
+    private final BulkImportService bulkImportService;
+    private final PayloadCache payloadCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @GetMapping
+    @QueryBudget(statements = 1)
     @Operation(summary = "Get all skills")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Found all skills",
@@ -38,17 +65,54 @@ public class SkillController {
                             schema = @Schema(implementation = SkillDTO.class))}),
             @ApiResponse(responseCode = "404", description = "Skills not found", content = @Content)
     })
+    public ResponseEntity<byte[]> getAllSkills(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            NativeWebRequest request) {
+        log.debug("Fetching all skills");
+        EncodedPayload payload = payloadCache.get("skills", SkillDTO.class, skillQueryService::findAll,
+                SkillDTO::getUpdatedAt, FieldSelection.parse(fields));
+        if (payload.isNotModified(request)) {
+            return null;
+        }
+        return payload.toResponse(acceptEncoding);
+    }
+
+    @GetMapping("/page")
+    @QueryBudget(statements = 1, rows = KeysetCursor.MAX_LIMIT + 1)
+    @Operation(summary = "Get skills page by keyset cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully fetched skills page"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
     @Transactional(readOnly = true)
-    public ResponseEntity<List<SkillDTO>> getAllSkills() {
-        log.info("Fetching all skills");
-        List<Skill> skills = skillRepository.findAll();
-        List<SkillDTO> skillDTOs = skills.stream()
-                .map(SkillDTO::fromSkill)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(skillDTOs);
+    public ResponseEntity<CursorPage<SkillDTO>> getSkillsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("Fetching skills page after cursor: {}", cursor);
+        KeysetCursor after = KeysetCursor.decode(cursor, 1);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        List<Skill> skills = skillRepository.findByIdGreaterThanOrderByIdAsc(after.key(0), PageRequest.ofSize(pageSize + 1));
+        return ResponseEntity.ok(CursorPage.fromRows(skills, pageSize,
+                skill -> KeysetCursor.of(skill.getId()), SkillDTO::fromSkill));
+    }
+
+    @GetMapping(value = "/stream", produces = KeysetStreamer.NDJSON_VALUE)
+    @Operation(summary = "Stream all skills as NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed skills"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> streamSkills() {
+        log.debug("Streaming all skills");
+        return keysetStreamer.stream(1, SkillDTO.class,
+                (after, size) -> skillRepository.findByIdGreaterThanOrderByIdAsc(after.key(0), PageRequest.ofSize(size)),
+                skill -> KeysetCursor.of(skill.getId()), SkillDTO::fromSkill);
     }
 
     @GetMapping("/{id}")
+    @QueryBudget(statements = 1, rows = 1)
     @Operation(summary = "Get skill by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Found the skill",
@@ -56,12 +120,12 @@ public class SkillController {
                             schema = @Schema(implementation = SkillDTO.class))}),
             @ApiResponse(responseCode = "404", description = "Skill not found", content = @Content)
     })
-    @Transactional(readOnly = true)
-    public ResponseEntity<SkillDTO> getSkillById(@PathVariable Long id) {
-        log.info("Fetching skill with id: {}", id);
-        Skill skill = skillRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Skill", "id", id));
-        SkillDTO skillDTO = SkillDTO.fromSkill(skill);
+    public ResponseEntity<SkillDTO> getSkillById(@PathVariable Long id, NativeWebRequest request) {
+        log.debug("Fetching skill with id: {}", id);
+        SkillDTO skillDTO = skillQueryService.findById(id);
+        if (ConditionalGet.isResourceNotModified(request, ResourceVersion.of(skillDTO, SkillDTO::getUpdatedAt))) {
+            return null;
+        }
         return ResponseEntity.ok(skillDTO);
     }
 
@@ -74,12 +138,28 @@ public class SkillController {
             @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content)
     })
     public ResponseEntity<SkillDTO> createSkill(@Valid @RequestBody Skill skill) {
-        log.info("Creating new skill: {}", skill.getSkillName());
+        log.debug("Creating new skill: {}", skill.getSkillName());
         Skill savedSkill = skillRepository.save(skill);
+        eventPublisher.publishEvent(new EntityChangedEvent(Skill.class, savedSkill.getId(), EntityChangedEvent.Change.CREATED));
         SkillDTO skillDTO = SkillDTO.fromSkill(savedSkill);
         return ResponseEntity.ok(skillDTO);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, KeysetStreamer.NDJSON_VALUE})
+    @QueryBudget(statements = -1)
+    @Operation(summary = "Bulk create skills", description = "Accepts a JSON array or an NDJSON stream; all-or-nothing")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "All skills created",
+                    content = @Content(schema = @Schema(implementation = BulkImportResult.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid or malformed item"),
+            @ApiResponse(responseCode = "409", description = "Duplicate skills in the payload or the database")
+    })
+    public ResponseEntity<BulkImportResult> bulkCreateSkills(InputStream body) throws IOException {
+        log.debug("=== POST /skills/bulk - Bulk importing skills ===");
+        BulkImportResult result = bulkImportService.importSkills(body);
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update skill by ID")
     @ApiResponses(value = {
@@ -89,13 +169,14 @@ public class SkillController {
             @ApiResponse(responseCode = "404", description = "Skill not found", content = @Content)
     })
     public ResponseEntity<SkillDTO> updateSkill(@PathVariable Long id, @Valid @RequestBody Skill skillDetails) {
-        log.info("Updating skill with id: {}", id);
+        log.debug("Updating skill with id: {}", id);
         Skill skill = skillRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Skill", "id", id));
         
         skill.setSkillName(skillDetails.getSkillName());
         
         Skill updatedSkill = skillRepository.save(skill);
+        eventPublisher.publishEvent(new EntityChangedEvent(Skill.class, id, EntityChangedEvent.Change.UPDATED));
         SkillDTO skillDTO = SkillDTO.fromSkill(updatedSkill);
         return ResponseEntity.ok(skillDTO);
     }
@@ -108,15 +189,17 @@ public class SkillController {
     })
     @Transactional
     public ResponseEntity<Void> deleteSkill(@PathVariable Long id) {
-        log.info("Deleting skill with id: {}", id);
+        log.debug("Deleting skill with id: {}", id);
         if (!skillRepository.existsById(id)) {
             throw new ResourceNotFoundException("Skill", "id", id);
         }
         skillRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Skill.class, id, EntityChangedEvent.Change.DELETED));
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/search")
+    @QueryBudget(statements = 1)
     @Operation(summary = "Search skills by query")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Found skills matching query",
@@ -125,7 +208,7 @@ public class SkillController {
             @ApiResponse(responseCode = "404", description = "Skills not found", content = @Content)
     })
     public ResponseEntity<List<SkillDTO>> searchSkills(@RequestParam String query) {
-        log.info("Searching skills with query: {}", query);
+        log.debug("Searching skills with query: {}", query);
         List<Skill> skills = skillRepository.findBySkillNameContainingIgnoreCase(query);
         List<SkillDTO> skillDTOs = skills.stream()
                 .map(SkillDTO::fromSkill)
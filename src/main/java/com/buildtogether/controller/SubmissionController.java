@@ -1,19 +1,31 @@
 package com.buildtogether.controller;
 
+import com.buildtogether.conditional.ConditionalGet;
+import com.buildtogether.dto.CursorPage;
 import com.buildtogether.dto.SubmissionDTO;
+import com.buildtogether.dto.SubmissionSummaryDTO;
 import com.buildtogether.entity.Submission;
+import com.buildtogether.event.EntityChangedEvent;
 import com.buildtogether.repository.SubmissionRepository;
 import com.buildtogether.exception.ResourceNotFoundException;
 import com.buildtogether.exception.ValidationException;
+import com.buildtogether.monitoring.QueryBudget;
+import com.buildtogether.pagination.KeysetCursor;
+import com.buildtogether.pagination.KeysetStreamer;
+import com.buildtogether.projection.FieldSelection;
+import com.buildtogether.service.SubmissionQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/v1/submissions")
@@ -22,41 +34,75 @@ import java.util.stream.Collectors;
 public class SubmissionController {
 
     private final SubmissionRepository submissionRepository;
+    private final SubmissionQueryService submissionQueryService;
+    private final KeysetStreamer keysetStreamer;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // List endpoints return summaries; fields= selects exactly the named columns, details included
+    // (e.g. fields=id,teamName,status or fields=id,projectTitle,projectDescription)
     @GetMapping
-    @Transactional(readOnly = true)
-    public ResponseEntity<List<SubmissionDTO>> getAllSubmissions() {
-        log.info("Fetching all submissions");
-        List<Submission> submissions = submissionRepository.findAll();
-        List<SubmissionDTO> submissionDTOs = submissions.stream()
-                .map(SubmissionDTO::fromSubmission)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(submissionDTOs);
+    @QueryBudget(statements = 2)
+    public ResponseEntity<List<SubmissionSummaryDTO>> getAllSubmissions(@RequestParam(required = false) String fields,
+                                                                        NativeWebRequest request) {
+        log.debug("Fetching all submissions");
+        if (ConditionalGet.isNotModified(request, submissionRepository.findVersion())) {
+            return null;
+        }
+        List<SubmissionSummaryDTO> submissions = submissionQueryService.findAll(FieldSelection.parse(fields));
+        return ResponseEntity.ok(submissions);
+    }
+
+    @GetMapping("/page")
+    @QueryBudget(statements = 1, rows = KeysetCursor.MAX_LIMIT + 1)
+    public ResponseEntity<CursorPage<SubmissionSummaryDTO>> getSubmissionsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+        log.debug("Fetching submissions page after cursor: {}", cursor);
+        KeysetCursor after = KeysetCursor.decode(cursor, 1);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        List<SubmissionSummaryDTO> submissions = submissionQueryService.findPageAfter(after.key(0), pageSize + 1,
+                FieldSelection.parse(fields));
+        return ResponseEntity.ok(CursorPage.fromRows(submissions, pageSize,
+                dto -> KeysetCursor.of(dto.getId()), Function.identity()));
+    }
+
+    @GetMapping(value = "/stream", produces = KeysetStreamer.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSubmissions(@RequestParam(required = false) String fields) {
+        log.debug("Streaming all submissions");
+        FieldSelection selection = FieldSelection.parse(fields);
+        return keysetStreamer.stream(1, SubmissionDTO.class,
+                (after, size) -> submissionQueryService.findPageAfter(after.key(0), size, selection),
+                dto -> KeysetCursor.of(dto.getId()), Function.identity());
     }
 
     @GetMapping("/{id}")
+    @QueryBudget(statements = 2, rows = 2)
     @Transactional(readOnly = true)
-    public ResponseEntity<SubmissionDTO> getSubmissionById(@PathVariable Long id) {
-        log.info("Fetching submission with id: {}", id);
-        Submission submission = submissionRepository.findById(id)
+    public ResponseEntity<SubmissionDTO> getSubmissionById(@PathVariable Long id, NativeWebRequest request) {
+        log.debug("Fetching submission with id: {}", id);
+        if (ConditionalGet.isResourceNotModified(request, submissionRepository.findVersionById(id))) {
+            return null;
+        }
+        SubmissionDTO submissionDTO = submissionRepository.findDtoById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Submission", "id", id));
-        SubmissionDTO submissionDTO = SubmissionDTO.fromSubmission(submission);
         return ResponseEntity.ok(submissionDTO);
     }
 
     @PostMapping
     public ResponseEntity<SubmissionDTO> createSubmission(@Valid @RequestBody Submission submission) {
-        log.info("Creating new submission for team: {} and hackathon: {}", 
+        log.debug("Creating new submission for team: {} and hackathon: {}", 
                 submission.getTeam().getId(), submission.getHackathon().getId());
         Submission savedSubmission = submissionRepository.save(submission);
+        eventPublisher.publishEvent(new EntityChangedEvent(Submission.class, savedSubmission.getId(), EntityChangedEvent.Change.CREATED));
         SubmissionDTO submissionDTO = SubmissionDTO.fromSubmission(savedSubmission);
         return ResponseEntity.ok(submissionDTO);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<SubmissionDTO> updateSubmission(@PathVariable Long id, @Valid @RequestBody Submission submissionDetails) {
-        log.info("Updating submission with id: {}", id);
-        Submission submission = submissionRepository.findById(id)
+        log.debug("Updating submission with id: {}", id);
+        Submission submission = submissionRepository.findWithTeamAndHackathonById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Submission", "id", id));
         
         submission.setProjectTitle(submissionDetails.getProjectTitle());
@@ -71,6 +117,7 @@ public class SubmissionController {
         submission.setJudgeComments(submissionDetails.getJudgeComments());
         
         Submission updatedSubmission = submissionRepository.save(submission);
+        eventPublisher.publishEvent(new EntityChangedEvent(Submission.class, id, EntityChangedEvent.Change.UPDATED));
         SubmissionDTO submissionDTO = SubmissionDTO.fromSubmission(updatedSubmission);
         return ResponseEntity.ok(submissionDTO);
     }
@@ -78,62 +125,58 @@ public class SubmissionController {
     @DeleteMapping("/{id}")
     @Transactional
     public ResponseEntity<Void> deleteSubmission(@PathVariable Long id) {
-        log.info("Deleting submission with id: {}", id);
+        log.debug("Deleting submission with id: {}", id);
         if (!submissionRepository.existsById(id)) {
             throw new ResourceNotFoundException("Submission", "id", id);
         }
         submissionRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Submission.class, id, EntityChangedEvent.Change.DELETED));
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/team/{teamId}")
-    @Transactional(readOnly = true)
-    public ResponseEntity<List<SubmissionDTO>> getSubmissionsByTeam(@PathVariable Long teamId) {
-        log.info("Fetching submissions for team: {}", teamId);
-        List<Submission> submissions = submissionRepository.findByTeamId(teamId);
-        List<SubmissionDTO> submissionDTOs = submissions.stream()
-                .map(SubmissionDTO::fromSubmission)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(submissionDTOs);
+    @QueryBudget(statements = 1)
+    public ResponseEntity<List<SubmissionSummaryDTO>> getSubmissionsByTeam(
+            @PathVariable Long teamId, @RequestParam(required = false) String fields) {
+        log.debug("Fetching submissions for team: {}", teamId);
+        List<SubmissionSummaryDTO> submissions = submissionQueryService.findByTeamId(teamId,
+                FieldSelection.parse(fields));
+        return ResponseEntity.ok(submissions);
     }
 
     @GetMapping("/hackathon/{hackathonId}")
-    @Transactional(readOnly = true)
-    public ResponseEntity<List<SubmissionDTO>> getSubmissionsByHackathon(@PathVariable Long hackathonId) {
-        log.info("Fetching submissions for hackathon: {}", hackathonId);
-        List<Submission> submissions = submissionRepository.findByHackathonId(hackathonId);
-        List<SubmissionDTO> submissionDTOs = submissions.stream()
-                .map(SubmissionDTO::fromSubmission)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(submissionDTOs);
+    @QueryBudget(statements = 1)
+    public ResponseEntity<List<SubmissionSummaryDTO>> getSubmissionsByHackathon(
+            @PathVariable Long hackathonId, @RequestParam(required = false) String fields) {
+        log.debug("Fetching submissions for hackathon: {}", hackathonId);
+        List<SubmissionSummaryDTO> submissions = submissionQueryService.findByHackathonId(hackathonId,
+                FieldSelection.parse(fields));
+        return ResponseEntity.ok(submissions);
     }
 
     @GetMapping("/status/{status}")
-    @Transactional(readOnly = true)
-    public ResponseEntity<List<SubmissionDTO>> getSubmissionsByStatus(@PathVariable String status) {
-        log.info("Fetching submissions with status: {}", status);
+    @QueryBudget(statements = 1)
+    public ResponseEntity<List<SubmissionSummaryDTO>> getSubmissionsByStatus(
+            @PathVariable String status, @RequestParam(required = false) String fields) {
+        log.debug("Fetching submissions with status: {}", status);
+        FieldSelection selection = FieldSelection.parse(fields);
         try {
             Submission.SubmissionStatus submissionStatus = Submission.SubmissionStatus.valueOf(status.toUpperCase());
-            List<Submission> submissions = submissionRepository.findByStatus(submissionStatus);
-            List<SubmissionDTO> submissionDTOs = submissions.stream()
-                    .map(SubmissionDTO::fromSubmission)
-                    .collect(Collectors.toList());
-            return ResponseEntity.ok(submissionDTOs);
+            List<SubmissionSummaryDTO> submissions = submissionQueryService.findByStatus(submissionStatus, selection);
+            return ResponseEntity.ok(submissions);
         } catch (IllegalArgumentException e) {
             throw new ValidationException("Invalid status value: " + status + ". Valid statuses are: SUBMITTED, UNDER_REVIEW, APPROVED, REJECTED");
         }
     }
 
     @GetMapping("/team-hackathon")
-    @Transactional(readOnly = true)
-    public ResponseEntity<List<SubmissionDTO>> getSubmissionsByTeamAndHackathon(
-            @RequestParam Long teamId, @RequestParam Long hackathonId) {
-        log.info("Fetching submissions for team: {} and hackathon: {}", teamId, hackathonId);
-        List<Submission> submissions = submissionRepository.findByTeamIdAndHackathonId(teamId, hackathonId);
-        List<SubmissionDTO> submissionDTOs = submissions.stream()
-                .map(SubmissionDTO::fromSubmission)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(submissionDTOs);
+    @QueryBudget(statements = 1)
+    public ResponseEntity<List<SubmissionSummaryDTO>> getSubmissionsByTeamAndHackathon(
+            @RequestParam Long teamId, @RequestParam Long hackathonId, @RequestParam(required = false) String fields) {
+        log.debug("Fetching submissions for team: {} and hackathon: {}", teamId, hackathonId);
+        List<SubmissionSummaryDTO> submissions = submissionQueryService.findByTeamIdAndHackathonId(teamId, hackathonId,
+                FieldSelection.parse(fields));
+        return ResponseEntity.ok(submissions);
     }
 
     @PutMapping("/{id}/score")
@@ -141,8 +184,8 @@ public class SubmissionController {
             @PathVariable Long id, 
             @RequestParam Double score, 
             @RequestParam(required = false) String judgeComments) {
-        log.info("Updating score for submission: {} to: {}", id, score);
-        Submission submission = submissionRepository.findById(id)
+        log.debug("Updating score for submission: {} to: {}", id, score);
+        Submission submission = submissionRepository.findWithTeamAndHackathonById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Submission", "id", id));
         
         submission.setScore(java.math.BigDecimal.valueOf(score));
@@ -151,6 +194,7 @@ public class SubmissionController {
         }
         
         Submission updatedSubmission = submissionRepository.save(submission);
+        eventPublisher.publishEvent(new EntityChangedEvent(Submission.class, id, EntityChangedEvent.Change.UPDATED));
         SubmissionDTO submissionDTO = SubmissionDTO.fromSubmission(updatedSubmission);
         return ResponseEntity.ok(submissionDTO);
     }
@@ -159,14 +203,15 @@ public class SubmissionController {
     public ResponseEntity<SubmissionDTO> updateSubmissionStatus(
             @PathVariable Long id, 
             @RequestParam String status) {
-        log.info("Updating status for submission: {} to: {}", id, status);
-        Submission submission = submissionRepository.findById(id)
+        log.debug("Updating status for submission: {} to: {}", id, status);
+        Submission submission = submissionRepository.findWithTeamAndHackathonById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Submission", "id", id));
         
         Submission.SubmissionStatus submissionStatus = Submission.SubmissionStatus.valueOf(status.toUpperCase());
         submission.setStatus(submissionStatus);
         
         Submission updatedSubmission = submissionRepository.save(submission);
+        eventPublisher.publishEvent(new EntityChangedEvent(Submission.class, id, EntityChangedEvent.Change.UPDATED));
         SubmissionDTO submissionDTO = SubmissionDTO.fromSubmission(updatedSubmission);
         return ResponseEntity.ok(submissionDTO);
     }
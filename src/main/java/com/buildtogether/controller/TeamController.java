@@ -1,14 +1,28 @@
 package com.buildtogether.controller;
 
+import com.buildtogether.conditional.ConditionalGet;
+import com.buildtogether.conditional.ResourceVersion;
+import com.buildtogether.dto.CandidateMatchDTO;
+import com.buildtogether.dto.CursorPage;
 import com.buildtogether.dto.TeamDTO;
 import com.buildtogether.entity.Team;
+import com.buildtogether.event.EntityChangedEvent;
 import com.buildtogether.repository.TeamRepository;
 import com.buildtogether.exception.ResourceNotFoundException;
+import com.buildtogether.monitoring.QueryBudget;
+import com.buildtogether.pagination.KeysetCursor;
+import com.buildtogether.pagination.KeysetStreamer;
+import com.buildtogether.service.TeamQueryService;
+import com.buildtogether.service.TeammateMatchingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -21,44 +35,72 @@ import java.util.stream.Collectors;
 public class TeamController {
 
     private final TeamRepository teamRepository;
+    private final TeamQueryService teamQueryService;
+    private final TeammateMatchingService teammateMatchingService;
+    private final KeysetStreamer keysetStreamer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @GetMapping
-    @Transactional(readOnly = true)
-    public ResponseEntity<List<TeamDTO>> getAllTeams() {
-        log.info("=== GET /teams - Fetching all teams ===");
-        List<Team> teams = teamRepository.findAll();
-        List<TeamDTO> teamDTOs = teams.stream()
-                .map(TeamDTO::fromTeam)
-                .collect(Collectors.toList());
-        log.info("Successfully fetched {} teams", teamDTOs.size());
+    @QueryBudget(statements = 1)
+    public ResponseEntity<List<TeamDTO>> getAllTeams(NativeWebRequest request) {
+        log.debug("=== GET /teams - Fetching all teams ===");
+        List<TeamDTO> teamDTOs = teamQueryService.findAll();
+        if (ConditionalGet.isNotModified(request, ResourceVersion.of(teamDTOs, TeamDTO::getUpdatedAt))) {
+            return null;
+        }
+        log.debug("Successfully fetched {} teams", teamDTOs.size());
         return ResponseEntity.ok(teamDTOs);
     }
 
-    @GetMapping("/{id}")
+    @GetMapping("/page")
+    @QueryBudget(statements = 1, rows = KeysetCursor.MAX_LIMIT + 1)
     @Transactional(readOnly = true)
-    public ResponseEntity<TeamDTO> getTeamById(@PathVariable Long id) {
-        log.info("Fetching team with id: {}", id);
-        Team team = teamRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Team", "id", id));
-        TeamDTO teamDTO = TeamDTO.fromTeam(team);
+    public ResponseEntity<CursorPage<TeamDTO>> getTeamsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("Fetching teams page after cursor: {}", cursor);
+        KeysetCursor after = KeysetCursor.decode(cursor, 1);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        List<Team> teams = teamRepository.findByIdGreaterThanOrderByIdAsc(after.key(0), PageRequest.ofSize(pageSize + 1));
+        return ResponseEntity.ok(CursorPage.fromRows(teams, pageSize,
+                team -> KeysetCursor.of(team.getId()), TeamDTO::fromTeam));
+    }
+
+    @GetMapping(value = "/stream", produces = KeysetStreamer.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTeams() {
+        log.debug("Streaming all teams");
+        return keysetStreamer.stream(1, TeamDTO.class,
+                (after, size) -> teamRepository.findByIdGreaterThanOrderByIdAsc(after.key(0), PageRequest.ofSize(size)),
+                team -> KeysetCursor.of(team.getId()), TeamDTO::fromTeam);
+    }
+
+    @GetMapping("/{id}")
+    @QueryBudget(statements = 1, rows = 1)
+    public ResponseEntity<TeamDTO> getTeamById(@PathVariable Long id, NativeWebRequest request) {
+        log.debug("Fetching team with id: {}", id);
+        TeamDTO teamDTO = teamQueryService.findById(id);
+        if (ConditionalGet.isResourceNotModified(request, ResourceVersion.of(teamDTO, TeamDTO::getUpdatedAt))) {
+            return null;
+        }
         return ResponseEntity.ok(teamDTO);
     }
 
     @PostMapping
     public ResponseEntity<TeamDTO> createTeam(@Valid @RequestBody Team team) {
-        log.info("=== POST /teams - Creating new team ===");
-        log.info("Team details: name={}, hackathonId={}, createdBy={}", 
+        log.debug("=== POST /teams - Creating new team ===");
+        log.debug("Team details: name={}, hackathonId={}, createdBy={}", 
                 team.getTeamName(), team.getHackathon().getId(), team.getCreatedBy().getId());
         
         Team savedTeam = teamRepository.save(team);
+        eventPublisher.publishEvent(new EntityChangedEvent(Team.class, savedTeam.getId(), EntityChangedEvent.Change.CREATED));
         TeamDTO teamDTO = TeamDTO.fromTeam(savedTeam);
-        log.info("Successfully created team: {} (ID: {})", teamDTO.getTeamName(), teamDTO.getId());
+        log.debug("Successfully created team: {} (ID: {})", teamDTO.getTeamName(), teamDTO.getId());
         return ResponseEntity.ok(teamDTO);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<TeamDTO> updateTeam(@PathVariable Long id, @Valid @RequestBody Team teamDetails) {
-        log.info("Updating team with id: {}", id);
+        log.debug("Updating team with id: {}", id);
         Team team = teamRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Team", "id", id));
         
@@ -67,40 +109,53 @@ public class TeamController {
         team.setCreatedBy(teamDetails.getCreatedBy());
         
         Team updatedTeam = teamRepository.save(team);
+        eventPublisher.publishEvent(new EntityChangedEvent(Team.class, id, EntityChangedEvent.Change.UPDATED));
         TeamDTO teamDTO = TeamDTO.fromTeam(updatedTeam);
         return ResponseEntity.ok(teamDTO);
     }
 
     @DeleteMapping("/{id}")
+    @QueryBudget(statements = -1) // cascades through the team's members, join requests and submissions
     @Transactional
     public ResponseEntity<Void> deleteTeam(@PathVariable Long id) {
-        log.info("Deleting team with id: {}", id);
+        log.debug("Deleting team with id: {}", id);
         if (!teamRepository.existsById(id)) {
             throw new ResourceNotFoundException("Team", "id", id);
         }
         teamRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Team.class, id, EntityChangedEvent.Change.DELETED));
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/hackathon/{hackathonId}")
-    @Transactional(readOnly = true)
+    @QueryBudget(statements = 1)
     public ResponseEntity<List<TeamDTO>> getTeamsByHackathon(@PathVariable Long hackathonId) {
-        log.info("Fetching teams for hackathon: {}", hackathonId);
-        List<Team> teams = teamRepository.findByHackathonId(hackathonId);
-        List<TeamDTO> teamDTOs = teams.stream()
-                .map(TeamDTO::fromTeam)
-                .collect(Collectors.toList());
+        log.debug("Fetching teams for hackathon: {}", hackathonId);
+        List<TeamDTO> teamDTOs = teamQueryService.findByHackathonId(hackathonId);
         return ResponseEntity.ok(teamDTOs);
     }
 
     @GetMapping("/user/{userId}")
+    @QueryBudget(statements = 1)
     @Transactional(readOnly = true)
     public ResponseEntity<List<TeamDTO>> getTeamsByUser(@PathVariable Long userId) {
-        log.info("Fetching teams for user: {}", userId);
+        log.debug("Fetching teams for user: {}", userId);
         List<Team> teams = teamRepository.findByCreatedById(userId);
         List<TeamDTO> teamDTOs = teams.stream()
                 .map(TeamDTO::fromTeam)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(teamDTOs);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{id}/candidates")
+    @QueryBudget(statements = 3)
+    public ResponseEntity<List<CandidateMatchDTO>> getCandidates(
+            @PathVariable Long id,
+            @RequestParam List<Long> skillIds,
+            @RequestParam(required = false) String minProficiency,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("Ranking candidates for team: {} with skills: {}", id, skillIds);
+        List<CandidateMatchDTO> candidates = teammateMatchingService.findCandidates(id, skillIds, minProficiency, limit);
+        return ResponseEntity.ok(candidates);
+    }
+}
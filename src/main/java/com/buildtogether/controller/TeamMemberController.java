@@ -1,19 +1,31 @@
 package com.buildtogether.controller;
 
+import com.buildtogether.conditional.ConditionalGet;
+import com.buildtogether.dto.CursorPage;
 import com.buildtogether.dto.TeamMemberDTO;
 import com.buildtogether.entity.TeamMember;
 import com.buildtogether.entity.TeamMemberId;
+import com.buildtogether.event.EntityChangedEvent;
+import com.buildtogether.event.MembershipEvent;
 import com.buildtogether.repository.TeamMemberRepository;
 import com.buildtogether.exception.ResourceNotFoundException;
+import com.buildtogether.monitoring.QueryBudget;
+import com.buildtogether.pagination.KeysetCursor;
+import com.buildtogether.pagination.KeysetStreamer;
+import com.buildtogether.service.TeamMembershipService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/v1/team-members")
@@ -22,89 +34,119 @@ import java.util.stream.Collectors;
 public class TeamMemberController {
 
     private final TeamMemberRepository teamMemberRepository;
+    private final KeysetStreamer keysetStreamer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeamMembershipService teamMembershipService;
 
     @GetMapping
+    @QueryBudget(statements = 2)
     @Transactional(readOnly = true)
-    public ResponseEntity<List<TeamMemberDTO>> getAllTeamMembers() {
-        log.info("Fetching all team members");
-        List<TeamMember> teamMembers = teamMemberRepository.findAll();
-        List<TeamMemberDTO> teamMemberDTOs = teamMembers.stream()
-                .map(TeamMemberDTO::fromTeamMember)
-                .collect(Collectors.toList());
+    public ResponseEntity<List<TeamMemberDTO>> getAllTeamMembers(NativeWebRequest request) {
+        log.debug("Fetching all team members");
+        if (ConditionalGet.isNotModified(request, teamMemberRepository.findVersion())) {
+            return null;
+        }
+        List<TeamMemberDTO> teamMemberDTOs = teamMemberRepository.findAllDtos();
         return ResponseEntity.ok(teamMemberDTOs);
     }
 
+    @GetMapping("/page")
+    @QueryBudget(statements = 1, rows = KeysetCursor.MAX_LIMIT + 1)
+    @Transactional(readOnly = true)
+    public ResponseEntity<CursorPage<TeamMemberDTO>> getTeamMembersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("Fetching team members page after cursor: {}", cursor);
+        KeysetCursor after = KeysetCursor.decode(cursor, 2);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        List<TeamMemberDTO> teamMemberDTOs = teamMemberRepository.findDtoPageAfter(after.key(0), after.key(1), PageRequest.ofSize(pageSize + 1));
+        return ResponseEntity.ok(CursorPage.fromRows(teamMemberDTOs, pageSize,
+                dto -> KeysetCursor.of(dto.getTeamId(), dto.getUserId()), Function.identity()));
+    }
+
+    @GetMapping(value = "/stream", produces = KeysetStreamer.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTeamMembers() {
+        log.debug("Streaming all team members");
+        return keysetStreamer.stream(2, TeamMemberDTO.class,
+                (after, size) -> teamMemberRepository.findDtoPageAfter(after.key(0), after.key(1), PageRequest.ofSize(size)),
+                dto -> KeysetCursor.of(dto.getTeamId(), dto.getUserId()), Function.identity());
+    }
+
     @GetMapping("/{teamId}/{userId}")
+    @QueryBudget(statements = 2, rows = 2)
     @Transactional(readOnly = true)
-    public ResponseEntity<TeamMemberDTO> getTeamMemberById(@PathVariable Long teamId, @PathVariable Long userId) {
-        log.info("Fetching team member with teamId: {} and userId: {}", teamId, userId);
-        TeamMemberId id = new TeamMemberId(teamId, userId);
-        TeamMember teamMember = teamMemberRepository.findById(id)
+    public ResponseEntity<TeamMemberDTO> getTeamMemberById(@PathVariable Long teamId, @PathVariable Long userId,
+                                                           NativeWebRequest request) {
+        log.debug("Fetching team member with teamId: {} and userId: {}", teamId, userId);
+        if (ConditionalGet.isResourceNotModified(request, teamMemberRepository.findVersionById(teamId, userId))) {
+            return null;
+        }
+        TeamMemberDTO teamMemberDTO = teamMemberRepository.findDtoById(teamId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("TeamMember not found with teamId: %d and userId: %d", teamId, userId)));
-        TeamMemberDTO teamMemberDTO = TeamMemberDTO.fromTeamMember(teamMember);
         return ResponseEntity.ok(teamMemberDTO);
     }
 
     @PostMapping
+    @QueryBudget(statements = 6)
     public ResponseEntity<TeamMemberDTO> createTeamMember(@Valid @RequestBody TeamMember teamMember) {
-        log.info("Creating new team member for team: {}", teamMember.getTeam().getId());
-        TeamMember savedTeamMember = teamMemberRepository.save(teamMember);
+        log.debug("Creating new team member for team: {}", teamMember.getTeam().getId());
+        TeamMember savedTeamMember = teamMembershipService.addMember(teamMember);
+        eventPublisher.publishEvent(new EntityChangedEvent(TeamMember.class, savedTeamMember.getId(), EntityChangedEvent.Change.CREATED));
         TeamMemberDTO teamMemberDTO = TeamMemberDTO.fromTeamMember(savedTeamMember);
+        eventPublisher.publishEvent(new MembershipEvent(MembershipEvent.Type.MEMBER_ADDED,
+                teamMemberDTO.getTeamId(), teamMemberDTO.getUserId(), teamMemberDTO));
         return ResponseEntity.ok(teamMemberDTO);
     }
 
     @PutMapping("/{teamId}/{userId}")
     public ResponseEntity<TeamMemberDTO> updateTeamMember(@PathVariable Long teamId, @PathVariable Long userId, @Valid @RequestBody TeamMember teamMemberDetails) {
-        log.info("Updating team member with teamId: {} and userId: {}", teamId, userId);
+        log.debug("Updating team member with teamId: {} and userId: {}", teamId, userId);
         TeamMemberId id = new TeamMemberId(teamId, userId);
-        TeamMember teamMember = teamMemberRepository.findById(id)
+        TeamMember teamMember = teamMemberRepository.findWithTeamAndUserById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("TeamMember not found with teamId: %d and userId: %d", teamId, userId)));
         
         teamMember.setRoleInTeam(teamMemberDetails.getRoleInTeam());
         
         TeamMember updatedTeamMember = teamMemberRepository.save(teamMember);
+        eventPublisher.publishEvent(new EntityChangedEvent(TeamMember.class, id, EntityChangedEvent.Change.UPDATED));
         TeamMemberDTO teamMemberDTO = TeamMemberDTO.fromTeamMember(updatedTeamMember);
+        eventPublisher.publishEvent(new MembershipEvent(MembershipEvent.Type.MEMBER_UPDATED, teamId, userId, teamMemberDTO));
         return ResponseEntity.ok(teamMemberDTO);
     }
 
     @DeleteMapping("/{teamId}/{userId}")
-    @Transactional
     public ResponseEntity<Void> deleteTeamMember(@PathVariable Long teamId, @PathVariable Long userId) {
-        log.info("Deleting team member with teamId: {} and userId: {}", teamId, userId);
+        log.debug("Deleting team member with teamId: {} and userId: {}", teamId, userId);
         TeamMemberId id = new TeamMemberId(teamId, userId);
-        if (!teamMemberRepository.existsById(id)) {
-            throw new ResourceNotFoundException(String.format("TeamMember not found with teamId: %d and userId: %d", teamId, userId));
-        }
-        teamMemberRepository.deleteById(id);
+        teamMembershipService.removeMember(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(TeamMember.class, id, EntityChangedEvent.Change.DELETED));
+        eventPublisher.publishEvent(new MembershipEvent(MembershipEvent.Type.MEMBER_REMOVED, teamId, userId, null));
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/team/{teamId}")
+    @QueryBudget(statements = 1)
     @Transactional(readOnly = true)
     public ResponseEntity<List<TeamMemberDTO>> getTeamMembersByTeam(@PathVariable Long teamId) {
-        log.info("Fetching team members for team: {}", teamId);
-        List<TeamMember> teamMembers = teamMemberRepository.findByTeamId(teamId);
-        List<TeamMemberDTO> teamMemberDTOs = teamMembers.stream()
-                .map(TeamMemberDTO::fromTeamMember)
-                .collect(Collectors.toList());
+        log.debug("Fetching team members for team: {}", teamId);
+        List<TeamMemberDTO> teamMemberDTOs = teamMemberRepository.findDtosByTeamId(teamId);
         return ResponseEntity.ok(teamMemberDTOs);
     }
 
     @GetMapping("/user/{userId}")
+    @QueryBudget(statements = 1)
     @Transactional(readOnly = true)
     public ResponseEntity<List<TeamMemberDTO>> getTeamMembersByUser(@PathVariable Long userId) {
-        log.info("Fetching team memberships for user: {}", userId);
-        List<TeamMember> teamMembers = teamMemberRepository.findByUserId(userId);
-        List<TeamMemberDTO> teamMemberDTOs = teamMembers.stream()
-                .map(TeamMemberDTO::fromTeamMember)
-                .collect(Collectors.toList());
+        log.debug("Fetching team memberships for user: {}", userId);
+        List<TeamMemberDTO> teamMemberDTOs = teamMemberRepository.findDtosByUserId(userId);
         return ResponseEntity.ok(teamMemberDTOs);
     }
 
     @GetMapping("/check")
+    @QueryBudget(statements = 1)
     @Transactional(readOnly = true)
     public ResponseEntity<Boolean> checkTeamMembership(@RequestParam Long teamId, @RequestParam Long userId) {
-        log.info("Checking team membership for team: {} and user: {}", teamId, userId);
+        log.debug("Checking team membership for team: {} and user: {}", teamId, userId);
         boolean exists = teamMemberRepository.existsByTeamIdAndUserId(teamId, userId);
         return ResponseEntity.ok(exists);
     }
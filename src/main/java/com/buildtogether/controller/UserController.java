@@ -1,10 +1,21 @@
 package com.buildtogether.controller;
 
+import com.buildtogether.conditional.ConditionalGet;
+import com.buildtogether.dto.BulkImportResult;
+import com.buildtogether.dto.CursorPage;
 import com.buildtogether.dto.UserDTO;
 import com.buildtogether.entity.User;
+import com.buildtogether.event.EntityChangedEvent;
+import com.buildtogether.repository.TeamRepository;
 import com.buildtogether.repository.UserRepository;
 import com.buildtogether.exception.ResourceNotFoundException;
 import com.buildtogether.exception.ValidationException;
+import com.buildtogether.monitoring.QueryBudget;
+import com.buildtogether.pagination.KeysetCursor;
+import com.buildtogether.pagination.KeysetStreamer;
+import com.buildtogether.projection.FieldSelection;
+import com.buildtogether.service.BulkImportService;
+import com.buildtogether.service.UserQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,12 +25,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RestController
@@ -30,26 +48,67 @@ import java.util.stream.Collectors;
 public class UserController {
 
     private final UserRepository userRepository;
+    private final UserQueryService userQueryService;
+    private final TeamRepository teamRepository;
+    private final KeysetStreamer keysetStreamer;
+    private final BulkImportService bulkImportService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @GetMapping
+    @QueryBudget(statements = 2)
     @Operation(summary = "Get all users")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully fetched all users",
                     content = @Content(schema = @Schema(implementation = UserDTO.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    @Transactional(readOnly = true)
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
-        log.info("=== GET /users - Fetching all users ===");
-        List<User> users = userRepository.findAll();
-        List<UserDTO> userDTOs = users.stream()
-                .map(UserDTO::fromUser)
-                .collect(Collectors.toList());
-        log.info("Successfully fetched {} users", userDTOs.size());
+    public ResponseEntity<List<UserDTO>> getAllUsers(@RequestParam(required = false) String fields,
+                                                     NativeWebRequest request) {
+        log.debug("=== GET /users - Fetching all users ===");
+        if (ConditionalGet.isNotModified(request, userRepository.findVersion())) {
+            return null;
+        }
+        List<UserDTO> userDTOs = userQueryService.findAll(FieldSelection.parse(fields));
+        log.debug("Successfully fetched {} users", userDTOs.size());
         return ResponseEntity.ok(userDTOs);
     }
 
+    @GetMapping("/page")
+    @QueryBudget(statements = 1, rows = KeysetCursor.MAX_LIMIT + 1)
+    @Operation(summary = "Get users page by keyset cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully fetched users page"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<CursorPage<UserDTO>> getUsersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+        log.debug("Fetching users page after cursor: {}", cursor);
+        KeysetCursor after = KeysetCursor.decode(cursor, 1);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        List<UserDTO> users = userQueryService.findPageAfter(after.key(0), pageSize + 1, FieldSelection.parse(fields));
+        return ResponseEntity.ok(CursorPage.fromRows(users, pageSize,
+                user -> KeysetCursor.of(user.getId()), Function.identity()));
+    }
+
+    @GetMapping(value = "/stream", produces = KeysetStreamer.NDJSON_VALUE)
+    @Operation(summary = "Stream all users as NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed users"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> streamUsers(@RequestParam(required = false) String fields) {
+        log.debug("Streaming all users");
+        FieldSelection selection = FieldSelection.parse(fields);
+        return keysetStreamer.stream(1, UserDTO.class,
+                (after, size) -> userQueryService.findPageAfter(after.key(0), size, selection),
+                user -> KeysetCursor.of(user.getId()), Function.identity());
+    }
+
     @GetMapping("/{id}")
+    @QueryBudget(statements = 2, rows = 2)
     @Operation(summary = "Get user by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully fetched user by ID",
@@ -58,16 +117,20 @@ public class UserController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @Transactional(readOnly = true)
-    public ResponseEntity<UserDTO> getUserById(@PathVariable Long id) {
-        log.info("=== GET /users/{} - Fetching user by ID ===", id);
+    public ResponseEntity<UserDTO> getUserById(@PathVariable Long id, NativeWebRequest request) {
+        log.debug("=== GET /users/{} - Fetching user by ID ===", id);
+        if (ConditionalGet.isResourceNotModified(request, userRepository.findVersionById(id))) {
+            return null;
+        }
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
         UserDTO userDTO = UserDTO.fromUser(user);
-        log.info("Successfully fetched user: {} (ID: {})", userDTO.getName(), userDTO.getId());
+        log.debug("Successfully fetched user: {} (ID: {})", userDTO.getName(), userDTO.getId());
         return ResponseEntity.ok(userDTO);
     }
 
     @GetMapping("/email/{email}")
+    @QueryBudget(statements = 1, rows = 1)
     @Operation(summary = "Get user by email")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully fetched user by email",
@@ -77,7 +140,7 @@ public class UserController {
     })
     @Transactional(readOnly = true)
     public ResponseEntity<UserDTO> getUserByEmail(@PathVariable String email) {
-        log.info("Fetching user with email: {}", email);
+        log.debug("Fetching user with email: {}", email);
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
         UserDTO userDTO = UserDTO.fromUser(user);
@@ -85,6 +148,7 @@ public class UserController {
     }
 
     @GetMapping("/role/{role}")
+    @QueryBudget(statements = 1)
     @Operation(summary = "Get users by role")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully fetched users by role",
@@ -94,7 +158,7 @@ public class UserController {
     })
     @Transactional(readOnly = true)
     public ResponseEntity<List<UserDTO>> getUsersByRole(@PathVariable String role) {
-        log.info("Fetching users with role: {}", role);
+        log.debug("Fetching users with role: {}", role);
         try {
             User.UserRole userRole = User.UserRole.valueOf(role.toUpperCase());
             List<User> users = userRepository.findByRole(userRole);
@@ -109,6 +173,7 @@ public class UserController {
     }
 
     @GetMapping("/search")
+    @QueryBudget(statements = 1)
     @Operation(summary = "Search users by name or email")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully searched users",
@@ -117,7 +182,7 @@ public class UserController {
     })
     @Transactional(readOnly = true)
     public ResponseEntity<List<UserDTO>> searchUsers(@RequestParam String query) {
-        log.info("Searching users with query: {}", query);
+        log.debug("Searching users with query: {}", query);
         List<User> users = userRepository.findByNameContainingOrEmailContaining(query);
         List<UserDTO> userDTOs = users.stream()
                 .map(UserDTO::fromUser)
@@ -134,8 +199,8 @@ public class UserController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<UserDTO> createUser(@Valid @RequestBody User user) {
-        log.info("=== POST /users - Creating new user ===");
-        log.info("User details: email={}, name={}, role={}", user.getEmail(), user.getName(), user.getRole());
+        log.debug("=== POST /users - Creating new user ===");
+        log.debug("User details: email={}, name={}, role={}", user.getEmail(), user.getName(), user.getRole());
         
         if (userRepository.existsByEmail(user.getEmail())) {
             log.warn("User creation failed: Email already exists - {}", user.getEmail());
@@ -143,11 +208,27 @@ public class UserController {
         }
         
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new EntityChangedEvent(User.class, savedUser.getId(), EntityChangedEvent.Change.CREATED));
         UserDTO userDTO = UserDTO.fromUser(savedUser);
-        log.info("Successfully created user: {} (ID: {})", userDTO.getName(), userDTO.getId());
+        log.debug("Successfully created user: {} (ID: {})", userDTO.getName(), userDTO.getId());
         return ResponseEntity.ok(userDTO);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, KeysetStreamer.NDJSON_VALUE})
+    @QueryBudget(statements = -1)
+    @Operation(summary = "Bulk create users", description = "Accepts a JSON array or an NDJSON stream; all-or-nothing")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "All users created",
+                    content = @Content(schema = @Schema(implementation = BulkImportResult.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid or malformed item"),
+            @ApiResponse(responseCode = "409", description = "Duplicate users in the payload or the database")
+    })
+    public ResponseEntity<BulkImportResult> bulkCreateUsers(InputStream body) throws IOException {
+        log.debug("=== POST /users/bulk - Bulk importing users ===");
+        BulkImportResult result = bulkImportService.importUsers(body);
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update user by ID")
     @ApiResponses(value = {
@@ -157,7 +238,7 @@ public class UserController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<UserDTO> updateUser(@PathVariable Long id, @Valid @RequestBody User userDetails) {
-        log.info("Updating user with id: {}", id);
+        log.debug("Updating user with id: {}", id);
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
         
@@ -169,11 +250,13 @@ public class UserController {
         user.setLinkedinLink(userDetails.getLinkedinLink());
         
         User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new EntityChangedEvent(User.class, id, EntityChangedEvent.Change.UPDATED));
         UserDTO userDTO = UserDTO.fromUser(updatedUser);
         return ResponseEntity.ok(userDTO);
     }
 
     @DeleteMapping("/{id}")
+    @QueryBudget(statements = -1) // cascades through the user's skills, memberships, join requests and teams
     @Transactional
     @Operation(summary = "Delete user by ID")
     @ApiResponses(value = {
@@ -182,22 +265,25 @@ public class UserController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
-        log.info("=== DELETE /users/{} - Starting user deletion ===", id);
+        log.debug("=== DELETE /users/{} - Starting user deletion ===", id);
         
         // Find the user first
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
         
-        log.info("Found user: {} (ID: {}), proceeding with deletion", user.getName(), id);
+        log.debug("Found user: {} (ID: {}), proceeding with deletion", user.getName(), id);
         
         try {
+            // Memberships go with the user; free their seats in the same transaction
+            teamRepository.releaseSeatsOfUser(id);
+
             // Delete the user entity directly (this ensures proper cascade handling)
             userRepository.delete(user);
             
             // Force flush to ensure changes are persisted
             userRepository.flush();
             
-            log.info("Successfully deleted user with ID: {}", id);
+            log.debug("Successfully deleted user with ID: {}", id);
             
             // Verify deletion
             boolean stillExists = userRepository.existsById(id);
@@ -205,8 +291,9 @@ public class UserController {
                 log.error("User deletion verification failed: User with ID {} still exists after deletion", id);
                 return ResponseEntity.status(500).build();
             } else {
-                log.info("User deletion verified: User with ID {} no longer exists", id);
+                log.debug("User deletion verified: User with ID {} no longer exists", id);
             }
+            eventPublisher.publishEvent(new EntityChangedEvent(User.class, id, EntityChangedEvent.Change.DELETED));
             
             return ResponseEntity.noContent().build();
         } catch (Exception e) {
@@ -216,6 +303,7 @@ public class UserController {
     }
 
     @GetMapping("/team/{teamId}")
+    @QueryBudget(statements = 1)
     @Operation(summary = "Get users by team ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully fetched users by team ID",
@@ -223,7 +311,7 @@ public class UserController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<List<UserDTO>> getUsersByTeam(@PathVariable Long teamId) {
-        log.info("Fetching users for team: {}", teamId);
+        log.debug("Fetching users for team: {}", teamId);
         List<User> users = userRepository.findByTeamId(teamId);
         List<UserDTO> userDTOs = users.stream()
                 .map(UserDTO::fromUser)
@@ -1,19 +1,34 @@
 package com.buildtogether.controller;
 
+import com.buildtogether.conditional.ConditionalGet;
+import com.buildtogether.dto.BulkImportResult;
+import com.buildtogether.dto.CursorPage;
 import com.buildtogether.dto.UserSkillDTO;
 import com.buildtogether.entity.UserSkill;
+import com.buildtogether.event.EntityChangedEvent;
 import com.buildtogether.repository.UserSkillRepository;
 import com.buildtogether.exception.ResourceNotFoundException;
 import com.buildtogether.exception.ValidationException;
+import com.buildtogether.monitoring.QueryBudget;
+import com.buildtogether.pagination.KeysetCursor;
+import com.buildtogether.pagination.KeysetStreamer;
+import com.buildtogether.service.BulkImportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/v1/user-skills")
@@ -22,44 +37,79 @@ import java.util.stream.Collectors;
 public class UserSkillController {
 
     private final UserSkillRepository userSkillRepository;
+    private final KeysetStreamer keysetStreamer;
+    private final BulkImportService bulkImportService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @GetMapping
+    @QueryBudget(statements = 2)
     @Transactional(readOnly = true)
-    public ResponseEntity<List<UserSkillDTO>> getAllUserSkills() {
-        log.info("Fetching all user skills");
-        List<UserSkill> userSkills = userSkillRepository.findAll();
-        List<UserSkillDTO> userSkillDTOs = userSkills.stream()
-                .map(UserSkillDTO::fromUserSkill)
-                .collect(Collectors.toList());
+    public ResponseEntity<List<UserSkillDTO>> getAllUserSkills(NativeWebRequest request) {
+        log.debug("Fetching all user skills");
+        if (ConditionalGet.isNotModified(request, userSkillRepository.findVersion())) {
+            return null;
+        }
+        List<UserSkillDTO> userSkillDTOs = userSkillRepository.findAllDtos();
         return ResponseEntity.ok(userSkillDTOs);
     }
 
+    @GetMapping("/page")
+    @QueryBudget(statements = 1, rows = KeysetCursor.MAX_LIMIT + 1)
+    @Transactional(readOnly = true)
+    public ResponseEntity<CursorPage<UserSkillDTO>> getUserSkillsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("Fetching user skills page after cursor: {}", cursor);
+        KeysetCursor after = KeysetCursor.decode(cursor, 2);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        List<UserSkillDTO> userSkillDTOs = userSkillRepository.findDtoPageAfter(after.key(0), after.key(1), PageRequest.ofSize(pageSize + 1));
+        return ResponseEntity.ok(CursorPage.fromRows(userSkillDTOs, pageSize,
+                dto -> KeysetCursor.of(dto.getUserId(), dto.getSkillId()), Function.identity()));
+    }
+
+    @GetMapping(value = "/stream", produces = KeysetStreamer.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUserSkills() {
+        log.debug("Streaming all user skills");
+        return keysetStreamer.stream(2, UserSkillDTO.class,
+                (after, size) -> userSkillRepository.findDtoPageAfter(after.key(0), after.key(1), PageRequest.ofSize(size)),
+                dto -> KeysetCursor.of(dto.getUserId(), dto.getSkillId()), Function.identity());
+    }
+
     @GetMapping("/{id}")
+    @QueryBudget(statements = 1)
     @Transactional(readOnly = true)
     public ResponseEntity<UserSkillDTO> getUserSkillById(@PathVariable Long id) {
-        log.info("Fetching user skill with id: {}", id);
+        log.debug("Fetching user skill with id: {}", id);
         // Note: This endpoint might need adjustment since UserSkill uses composite key
         // For now, we'll search by userId
-        List<UserSkill> userSkills = userSkillRepository.findByUserId(id);
-        if (userSkills.isEmpty()) {
+        List<UserSkillDTO> userSkillDTOs = userSkillRepository.findDtosByUserId(id);
+        if (userSkillDTOs.isEmpty()) {
             throw new ResourceNotFoundException("UserSkill", "userId", id);
         }
-        UserSkillDTO userSkillDTO = UserSkillDTO.fromUserSkill(userSkills.get(0));
-        return ResponseEntity.ok(userSkillDTO);
+        return ResponseEntity.ok(userSkillDTOs.get(0));
     }
 
     @PostMapping
     public ResponseEntity<UserSkillDTO> createUserSkill(@Valid @RequestBody UserSkill userSkill) {
-        log.info("Creating new user skill for user: {} and skill: {}", 
+        log.debug("Creating new user skill for user: {} and skill: {}", 
                 userSkill.getUser().getId(), userSkill.getSkill().getId());
         UserSkill savedUserSkill = userSkillRepository.save(userSkill);
+        eventPublisher.publishEvent(new EntityChangedEvent(UserSkill.class, savedUserSkill.getId(), EntityChangedEvent.Change.CREATED));
         UserSkillDTO userSkillDTO = UserSkillDTO.fromUserSkill(savedUserSkill);
         return ResponseEntity.ok(userSkillDTO);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, KeysetStreamer.NDJSON_VALUE})
+    @QueryBudget(statements = -1)
+    public ResponseEntity<BulkImportResult> bulkCreateUserSkills(InputStream body) throws IOException {
+        log.debug("=== POST /user-skills/bulk - Bulk importing user skills ===");
+        BulkImportResult result = bulkImportService.importUserSkills(body);
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<UserSkillDTO> updateUserSkill(@PathVariable Long id, @Valid @RequestBody UserSkill userSkillDetails) {
-        log.info("Updating user skill with id: {}", id);
+        log.debug("Updating user skill with id: {}", id);
         // Note: This endpoint might need adjustment since UserSkill uses composite key
         List<UserSkill> userSkills = userSkillRepository.findByUserId(id);
         if (userSkills.isEmpty()) {
@@ -70,6 +120,7 @@ public class UserSkillController {
         userSkill.setProficiencyLevel(userSkillDetails.getProficiencyLevel());
         
         UserSkill updatedUserSkill = userSkillRepository.save(userSkill);
+        eventPublisher.publishEvent(new EntityChangedEvent(UserSkill.class, updatedUserSkill.getId(), EntityChangedEvent.Change.UPDATED));
         UserSkillDTO userSkillDTO = UserSkillDTO.fromUserSkill(updatedUserSkill);
         return ResponseEntity.ok(userSkillDTO);
     }
@@ -77,48 +128,44 @@ public class UserSkillController {
     @DeleteMapping("/{id}")
     @Transactional
     public ResponseEntity<Void> deleteUserSkill(@PathVariable Long id) {
-        log.info("Deleting user skill with id: {}", id);
+        log.debug("Deleting user skill with id: {}", id);
         // Note: This endpoint might need adjustment since UserSkill uses composite key
         List<UserSkill> userSkills = userSkillRepository.findByUserId(id);
         if (userSkills.isEmpty()) {
             throw new ResourceNotFoundException("UserSkill", "userId", id);
         }
-        userSkillRepository.delete(userSkills.get(0));
+        UserSkill userSkill = userSkills.get(0);
+        userSkillRepository.delete(userSkill);
+        eventPublisher.publishEvent(new EntityChangedEvent(UserSkill.class, userSkill.getId(), EntityChangedEvent.Change.DELETED));
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/user/{userId}")
+    @QueryBudget(statements = 1)
     @Transactional(readOnly = true)
     public ResponseEntity<List<UserSkillDTO>> getUserSkillsByUser(@PathVariable Long userId) {
-        log.info("Fetching skills for user: {}", userId);
-        List<UserSkill> userSkills = userSkillRepository.findByUserId(userId);
-        List<UserSkillDTO> userSkillDTOs = userSkills.stream()
-                .map(UserSkillDTO::fromUserSkill)
-                .collect(Collectors.toList());
+        log.debug("Fetching skills for user: {}", userId);
+        List<UserSkillDTO> userSkillDTOs = userSkillRepository.findDtosByUserId(userId);
         return ResponseEntity.ok(userSkillDTOs);
     }
 
     @GetMapping("/skill/{skillId}")
+    @QueryBudget(statements = 1)
     @Transactional(readOnly = true)
     public ResponseEntity<List<UserSkillDTO>> getUserSkillsBySkill(@PathVariable Long skillId) {
-        log.info("Fetching users with skill: {}", skillId);
-        List<UserSkill> userSkills = userSkillRepository.findBySkillId(skillId);
-        List<UserSkillDTO> userSkillDTOs = userSkills.stream()
-                .map(UserSkillDTO::fromUserSkill)
-                .collect(Collectors.toList());
+        log.debug("Fetching users with skill: {}", skillId);
+        List<UserSkillDTO> userSkillDTOs = userSkillRepository.findDtosBySkillId(skillId);
         return ResponseEntity.ok(userSkillDTOs);
     }
 
     @GetMapping("/proficiency/{level}")
+    @QueryBudget(statements = 1)
     @Transactional(readOnly = true)
     public ResponseEntity<List<UserSkillDTO>> getUserSkillsByProficiencyLevel(@PathVariable String level) {
-        log.info("Fetching user skills with proficiency level: {}", level);
+        log.debug("Fetching user skills with proficiency level: {}", level);
         try {
             UserSkill.ProficiencyLevel proficiencyLevel = UserSkill.ProficiencyLevel.valueOf(level.toUpperCase());
-            List<UserSkill> userSkills = userSkillRepository.findByProficiencyLevel(proficiencyLevel);
-            List<UserSkillDTO> userSkillDTOs = userSkills.stream()
-                    .map(UserSkillDTO::fromUserSkill)
-                    .collect(Collectors.toList());
+            List<UserSkillDTO> userSkillDTOs = userSkillRepository.findDtosByProficiencyLevel(proficiencyLevel);
             return ResponseEntity.ok(userSkillDTOs);
         } catch (IllegalArgumentException e) {
             throw new ValidationException("Invalid proficiency level: " + level);
@@ -126,9 +173,10 @@ public class UserSkillController {
     }
 
     @GetMapping("/check")
+    @QueryBudget(statements = 1)
     @Transactional(readOnly = true)
     public ResponseEntity<Boolean> checkUserSkillExists(@RequestParam Long userId, @RequestParam Long skillId) {
-        log.info("Checking if user skill exists for user: {} and skill: {}", userId, skillId);
+        log.debug("Checking if user skill exists for user: {} and skill: {}", userId, skillId);
         boolean exists = userSkillRepository.existsByUserIdAndSkillId(userId, skillId);
         return ResponseEntity.ok(exists);
     }
@@ -0,0 +1,39 @@
+package com.buildtogether.dto;
+
+import com.buildtogether.entity.User;
+import com.buildtogether.entity.UserSkill;
+import com.buildtogether.service.SkillMatchIndex;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateMatchDTO {
+    private Long userId;
+    private String name;
+    private String email;
+    private String githubLink;
+    private String linkedinLink;
+    private int matchedSkills;
+    private int score;
+    // skillId -> proficiency level, for the requested skills the user has
+    private Map<Long, UserSkill.ProficiencyLevel> skills;
+
+    // Static factory method to combine an index hit with its user
+    public static CandidateMatchDTO fromCandidate(SkillMatchIndex.Candidate candidate, User user) {
+        CandidateMatchDTO dto = new CandidateMatchDTO();
+        dto.setUserId(candidate.userId());
+        dto.setName(user.getName());
+        dto.setEmail(user.getEmail());
+        dto.setGithubLink(user.getGithubLink());
+        dto.setLinkedinLink(user.getLinkedinLink());
+        dto.setMatchedSkills(candidate.matchedSkills());
+        dto.setScore(candidate.score());
+        dto.setSkills(candidate.skills());
+        return dto;
+    }
+}
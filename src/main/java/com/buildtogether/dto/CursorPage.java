@@ -0,0 +1,29 @@
+package com.buildtogether.dto;
+
+import com.buildtogether.pagination.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    // Builds a page from a keyset query that fetched limit + 1 rows; the extra row only signals hasMore
+    public static <E, T> CursorPage<T> fromRows(List<E> rows, int limit,
+                                                Function<E, KeysetCursor> keyOf,
+                                                Function<E, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> visible = hasMore ? rows.subList(0, limit) : rows;
+        List<T> items = visible.stream().map(mapper).toList();
+        String nextCursor = hasMore ? keyOf.apply(visible.get(visible.size() - 1)).encode() : null;
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+}
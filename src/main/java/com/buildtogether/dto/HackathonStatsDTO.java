@@ -0,0 +1,31 @@
+package com.buildtogether.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HackathonStatsDTO {
+    private Long hackathonId;
+    private Integer maxTeamSize;
+    private long teamCount;
+    private long memberCount;
+    private double averageTeamSize;
+    private long fullTeamCount;
+    // Every status is present, zero when nothing has it
+    private Map<String, Long> joinRequests;
+    private long submissionCount;
+    private Map<String, Long> submissions;
+    // Scores of ranked (non-rejected) submissions; the distribution counts them per whole point (7 is 7.00-7.99)
+    private BigDecimal minScore;
+    private BigDecimal averageScore;
+    private BigDecimal maxScore;
+    private Map<Integer, Long> scoreDistribution;
+    private LocalDateTime computedAt;
+}
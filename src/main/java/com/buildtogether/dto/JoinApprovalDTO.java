@@ -0,0 +1,17 @@
+package com.buildtogether.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JoinApprovalDTO {
+    private JoinRequestDTO joinRequest;
+    private TeamMemberDTO member;
+    // The applicant's other pending requests in the same hackathon, now rejected
+    private List<JoinRequestDTO> autoRejected;
+}
@@ -23,6 +23,14 @@ public class JoinRequestDTO {
     private LocalDateTime requestedAt;
     private LocalDateTime updatedAt;
 
+    // Projection constructor used by the JPQL constructor expressions in JoinRequestRepository
+    public JoinRequestDTO(Long id, Long teamId, String teamName, Long hackathonId, String hackathonTitle,
+                          Long userId, String userName, String userEmail, JoinRequest.RequestStatus status,
+                          LocalDateTime requestedAt, LocalDateTime updatedAt) {
+        this(id, teamId, teamName, hackathonId, hackathonTitle, userId, userName, userEmail,
+                status != null ? status.name() : null, requestedAt, updatedAt);
+    }
+
     // Static factory method to convert from JoinRequest entity
     public static JoinRequestDTO fromJoinRequest(JoinRequest joinRequest) {
         JoinRequestDTO dto = new JoinRequestDTO();
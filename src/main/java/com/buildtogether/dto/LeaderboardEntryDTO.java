@@ -0,0 +1,31 @@
+package com.buildtogether.dto;
+
+import com.buildtogether.entity.Submission;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDTO {
+    private long rank;
+    private Long submissionId;
+    private Long hackathonId;
+    private Long teamId;
+    private String teamName;
+    private String projectTitle;
+    private BigDecimal score;
+    private String status;
+    private LocalDateTime submittedAt;
+
+    // Projection constructor used by the JPQL constructor expressions in SubmissionRepository; rank is filled in
+    // while the ordered rows are walked
+    public LeaderboardEntryDTO(Long submissionId, Long hackathonId, Long teamId, String teamName, String projectTitle,
+                               BigDecimal score, Submission.SubmissionStatus status, LocalDateTime submittedAt) {
+        this(0, submissionId, hackathonId, teamId, teamName, projectTitle, score, status != null ? status.name() : null, submittedAt);
+    }
+}
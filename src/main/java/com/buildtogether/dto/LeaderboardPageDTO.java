@@ -0,0 +1,19 @@
+package com.buildtogether.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardPageDTO {
+    private Long hackathonId;
+    // Rank changes carry the version they produce, so a client holding this page applies only later ones
+    private long version;
+    private int total;
+    private int offset;
+    private List<LeaderboardEntryDTO> entries;
+}
@@ -0,0 +1,20 @@
+package com.buildtogether.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDTO {
+    private long sequence;
+    private String type;
+    private Long teamId;
+    private Long userId;
+    // JoinRequestDTO or TeamMemberDTO as returned by the call that caused it; null for removals
+    private Object payload;
+    private LocalDateTime occurredAt;
+}
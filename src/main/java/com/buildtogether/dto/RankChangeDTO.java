@@ -0,0 +1,19 @@
+package com.buildtogether.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankChangeDTO {
+    private Long hackathonId;
+    private long version;
+    private Long submissionId;
+    // Null when the submission enters the leaderboard
+    private Long previousRank;
+    // Null (and entry null) when it leaves: deleted, rejected or moved to another hackathon
+    private Long rank;
+    private LeaderboardEntryDTO entry;
+}
@@ -1,33 +1,54 @@
 package com.buildtogether.dto;
 
 import com.buildtogether.entity.Submission;
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+// The full submission, CLOB columns included: the summary fields plus the details
 @Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
 @NoArgsConstructor
-@AllArgsConstructor
-public class SubmissionDTO {
-    private Long id;
-    private Long teamId;
-    private String teamName;
-    private Long hackathonId;
+public class SubmissionDTO extends SubmissionSummaryDTO {
     private String hackathonTitle;
-    private String projectTitle;
     private String projectDescription;
     private String githubLink;
     private String demoLink;
     private String presentationLink;
     private String technologies;
     private String features;
-    private String status;
-    private BigDecimal score;
     private String judgeComments;
-    private LocalDateTime submittedAt;
+
+    public SubmissionDTO(Long id, Long teamId, String teamName, Long hackathonId, String hackathonTitle,
+                         String projectTitle, String projectDescription, String githubLink, String demoLink,
+                         String presentationLink, String technologies, String features, String status,
+                         BigDecimal score, String judgeComments, LocalDateTime submittedAt) {
+        super(id, teamId, teamName, hackathonId, projectTitle, status, score, submittedAt);
+        this.hackathonTitle = hackathonTitle;
+        this.projectDescription = projectDescription;
+        this.githubLink = githubLink;
+        this.demoLink = demoLink;
+        this.presentationLink = presentationLink;
+        this.technologies = technologies;
+        this.features = features;
+        this.judgeComments = judgeComments;
+    }
+
+    // Projection constructor used by the JPQL constructor expressions in SubmissionRepository
+    public SubmissionDTO(Long id, Long teamId, String teamName, Long hackathonId, String hackathonTitle,
+                         String projectTitle, String projectDescription, String githubLink, String demoLink,
+                         String presentationLink, String technologies, String features,
+                         Submission.SubmissionStatus status, BigDecimal score, String judgeComments,
+                         LocalDateTime submittedAt) {
+        this(id, teamId, teamName, hackathonId, hackathonTitle, projectTitle, projectDescription, githubLink,
+                demoLink, presentationLink, technologies, features, status != null ? status.name() : null,
+                score, judgeComments, submittedAt);
+    }
 
     // Static factory method to convert from Submission entity
     public static SubmissionDTO fromSubmission(Submission submission) {
@@ -0,0 +1,38 @@
+package com.buildtogether.dto;
+
+import com.buildtogether.entity.Submission;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// List view of a submission: no CLOB columns, so reading it never touches a LOB
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionSummaryDTO {
+    private Long id;
+    private Long teamId;
+    private String teamName;
+    private Long hackathonId;
+    private String projectTitle;
+    private String status;
+    private BigDecimal score;
+    private LocalDateTime submittedAt;
+
+    // Projection constructor used by the JPQL constructor expressions in SubmissionRepository
+    public SubmissionSummaryDTO(Long id, Long teamId, String teamName, Long hackathonId, String projectTitle,
+                                Submission.SubmissionStatus status, BigDecimal score, LocalDateTime submittedAt) {
+        this(id, teamId, teamName, hackathonId, projectTitle, status != null ? status.name() : null, score,
+                submittedAt);
+    }
+
+    // Static factory method to convert from Submission entity
+    public static SubmissionSummaryDTO fromSubmission(Submission submission) {
+        return new SubmissionSummaryDTO(submission.getId(), submission.getTeam().getId(),
+                submission.getTeam().getTeamName(), submission.getHackathon().getId(), submission.getProjectTitle(),
+                submission.getStatus(), submission.getScore(), submission.getSubmittedAt());
+    }
+}
@@ -0,0 +1,20 @@
+package com.buildtogether.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDTO {
+    private String type;
+    private Long id;
+    private String text;
+    private long popularity;
+
+    // Projection constructor used by the JPQL constructor expressions in the Skill/User/Team repositories
+    public SuggestionDTO(Long id, String text, Long popularity) {
+        this(null, id, text, popularity != null ? popularity : 0);
+    }
+}
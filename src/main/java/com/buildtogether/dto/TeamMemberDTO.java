@@ -22,6 +22,14 @@ public class TeamMemberDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // Projection constructor used by the JPQL constructor expressions in TeamMemberRepository
+    public TeamMemberDTO(Long teamId, String teamName, Long hackathonId, String hackathonTitle,
+                         Long userId, String userName, String userEmail, TeamMember.RoleInTeam roleInTeam,
+                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(teamId, teamName, hackathonId, hackathonTitle, userId, userName, userEmail,
+                roleInTeam != null ? roleInTeam.name() : null, createdAt, updatedAt);
+    }
+
     // Static factory method to convert from TeamMember entity
     public static TeamMemberDTO fromTeamMember(TeamMember teamMember) {
         TeamMemberDTO dto = new TeamMemberDTO();
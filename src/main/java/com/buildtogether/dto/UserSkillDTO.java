@@ -21,6 +21,13 @@ public class UserSkillDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // Projection constructor used by the JPQL constructor expressions in UserSkillRepository
+    public UserSkillDTO(Long userId, String userName, String userEmail, Long skillId, String skillName,
+                        UserSkill.ProficiencyLevel proficiencyLevel, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(userId, userId, userName, userEmail, skillId, skillName,
+                proficiencyLevel != null ? proficiencyLevel.name() : null, createdAt, updatedAt);
+    }
+
     // Static factory method to convert from UserSkill entity
     public static UserSkillDTO fromUserSkill(UserSkill userSkill) {
         UserSkillDTO dto = new UserSkillDTO();
@@ -8,7 +8,12 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -26,8 +31,13 @@ import java.util.Set;
 @EntityListeners(AuditingEntityListener.class)
 public class Hackathon {
 
+    // Also the column default, and what a NULL max_team_size counts as when seats are claimed
+    public static final int DEFAULT_MAX_TEAM_SIZE = 5;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "dr_hackathon_seq")
+    @GenericGenerator(name = "dr_hackathon_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "dr_hackathon_seq"))
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -49,10 +59,10 @@ public class Hackathon {
 
     @Min(value = 1, message = "Max team size must be at least 1")
     @Column(name = "max_team_size", columnDefinition = "INT DEFAULT 5")
-    private Integer maxTeamSize = 5;
+    private Integer maxTeamSize = DEFAULT_MAX_TEAM_SIZE;
 
     @NotNull(message = "Created by is required")
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", nullable = false)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private User createdBy;
@@ -65,10 +75,14 @@ public class Hackathon {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     @OneToMany(mappedBy = "hackathon", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler", "hackathon"})
     private Set<Team> teams = new HashSet<>();
 
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     @OneToMany(mappedBy = "hackathon", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler", "hackathon"})
     private Set<Submission> submissions = new HashSet<>();
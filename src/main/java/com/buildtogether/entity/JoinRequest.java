@@ -5,6 +5,9 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,6 +16,9 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "dr_join_request")
+@NamedEntityGraph(name = "join-request-with-team-and-user",
+        attributeNodes = {@NamedAttributeNode(value = "team", subgraph = "team-with-hackathon"), @NamedAttributeNode("user")},
+        subgraphs = @NamedSubgraph(name = "team-with-hackathon", attributeNodes = @NamedAttributeNode("hackathon")))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,16 +26,18 @@ import java.time.LocalDateTime;
 public class JoinRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "dr_join_request_seq")
+    @GenericGenerator(name = "dr_join_request_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "dr_join_request_seq"))
     private Long id;
 
     @NotNull(message = "Team is required")
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id", nullable = false)
     private Team team;
 
     @NotNull(message = "User is required")
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
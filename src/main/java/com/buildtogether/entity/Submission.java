@@ -7,8 +7,11 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import org.springframework.data.annotation.CreatedDate;
-
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
@@ -16,6 +19,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "dr_submission")
+@NamedEntityGraph(name = "submission-with-team-and-hackathon",
+        attributeNodes = {@NamedAttributeNode("team"), @NamedAttributeNode("hackathon")})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,17 +28,21 @@ import java.time.LocalDateTime;
 public class Submission {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "dr_submission_seq")
+    @GenericGenerator(name = "dr_submission_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "dr_submission_seq"))
     private Long id;
 
     @NotNull(message = "Team is required")
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id", nullable = false)
-    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler", "submissions"})
+    // Ignored on write only: as a deserialization ignoral it leaves Team["id"] without a deserializer once another
+    // entity has been read first (Team is resolved through a cycle), failing every later POST/PUT with a body
+    @JsonIgnoreProperties(value = {"hibernateLazyInitializer", "handler", "submissions"}, allowSetters = true)
     private Team team;
 
     @NotNull(message = "Hackathon is required")
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "hackathon_id", nullable = false)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler", "submissions"})
     private Hackathon hackathon;
@@ -65,6 +74,10 @@ public class Submission {
     @Column(name = "submitted_at", nullable = false, updatable = false)
     private LocalDateTime submittedAt;
 
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @Enumerated(EnumType.STRING)
     @Column(length = 20)
     private SubmissionStatus status = SubmissionStatus.SUBMITTED;
@@ -76,7 +89,7 @@ public class Submission {
     private String judgeComments;
 
     @NotNull(message = "Submitted by is required")
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "submitted_by", nullable = false)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private User submittedBy;
@@ -88,5 +101,11 @@ public class Submission {
     @PrePersist
     protected void onCreate() {
         submittedAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 }
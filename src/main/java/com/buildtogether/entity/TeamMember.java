@@ -14,6 +14,9 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "dr_team_member")
+@NamedEntityGraph(name = "team-member-with-team-and-user",
+        attributeNodes = {@NamedAttributeNode(value = "team", subgraph = "team-with-hackathon"), @NamedAttributeNode("user")},
+        subgraphs = @NamedSubgraph(name = "team-with-hackathon", attributeNodes = @NamedAttributeNode("hackathon")))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,12 +26,12 @@ public class TeamMember {
     @EmbeddedId
     private TeamMemberId id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("teamId")
     @JoinColumn(name = "team_id")
     private Team team;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("userId")
     @JoinColumn(name = "user_id")
     private User user;
@@ -14,6 +14,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "dr_user_skill")
+@NamedEntityGraph(name = "user-skill-with-user-and-skill",
+        attributeNodes = {@NamedAttributeNode("user"), @NamedAttributeNode("skill")})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,13 +25,13 @@ public class UserSkill {
     @EmbeddedId
     private UserSkillId id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("userId")
     @JoinColumn(name = "user_id")
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler", "userSkills"})
     private User user;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("skillId")
     @JoinColumn(name = "skill_id")
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler", "userSkills"})
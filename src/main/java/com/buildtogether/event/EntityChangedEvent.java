@@ -0,0 +1,13 @@
+package com.buildtogether.event;
+
+// Published by controllers after a create/update/delete so caches and in-memory views can react
+public record EntityChangedEvent(Class<?> entityType, Object id, Change change) {
+
+    public enum Change {
+        CREATED, UPDATED, DELETED
+    }
+
+    public boolean isFor(Class<?> type) {
+        return entityType.equals(type);
+    }
+}
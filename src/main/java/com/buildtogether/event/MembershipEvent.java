@@ -0,0 +1,16 @@
+package com.buildtogether.event;
+
+// Join-request and team-membership lifecycle, published by JoinRequestController and TeamMemberController and
+// pushed to the applicant/member and the team lead once the change commits (see NotificationHub)
+public record MembershipEvent(Type type, Long teamId, Long userId, Object payload) {
+
+    public enum Type {
+        JOIN_REQUESTED, JOIN_REQUEST_UPDATED, JOIN_REQUEST_APPROVED, JOIN_REQUEST_REJECTED, JOIN_REQUEST_WITHDRAWN,
+        MEMBER_ADDED, MEMBER_UPDATED, MEMBER_REMOVED;
+
+        // Server-sent event name, e.g. join-request-approved
+        public String eventName() {
+            return name().toLowerCase().replace('_', '-');
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.buildtogether.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+// Fans server-sent events out to the emitters subscribed under a key (a hackathon, a user). Publishing serializes the
+// payload once and hands it to a single dispatch thread, which only queues it per subscriber, so publishers
+// (after-commit listeners on request threads) never write to a client socket and every subscriber sees events in
+// publication order. Each subscriber has its own bounded backlog, sent from a bounded writer pool: a stalled client
+// holds up nobody else, and one whose backlog fills or whose write blocks past the write timeout is dropped
+// (EventSource clients reconnect and resync).
+@Slf4j
+public class SseBroadcaster<K> implements AutoCloseable {
+
+    private final Map<K, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ObjectWriter writer;
+    private final Duration timeout;
+    private final int backlog;
+    private final Duration writeTimeout;
+    private final ExecutorService dispatcher;
+    // Platform threads: ResponseBodyEmitter holds its monitor across the socket write, so a stalled client would pin
+    // a virtual thread's carrier. Drains run only while a subscriber has frames queued, so idle streams hold no thread,
+    // and the watchdog frees a thread stuck on a dead connection after writeTimeout, so stalled clients cannot
+    // starve the pool.
+    private final ThreadPoolExecutor writers;
+    private final ScheduledExecutorService watchdog;
+
+    public SseBroadcaster(String name, ObjectMapper objectMapper, Duration timeout, int backlog, int writerThreads,
+                          Duration writeTimeout) {
+        this.writer = objectMapper.writer();
+        this.timeout = timeout;
+        this.backlog = backlog;
+        this.writeTimeout = writeTimeout;
+        this.dispatcher = Executors.newSingleThreadExecutor(Thread.ofVirtual().name(name).factory());
+        this.writers = new ThreadPoolExecutor(writerThreads, writerThreads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name(name + "-writer-", 0).daemon().factory());
+        this.writers.allowCoreThreadTimeOut(true);
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name(name + "-watchdog").factory());
+    }
+
+    public record Event(String name, Object id, Object data) {
+    }
+
+    private record Frame(String name, Object id, String json) {
+    }
+
+    // Queued after a subscriber's last frame so it finishes sending its backlog before the stream ends
+    private static final Frame END = new Frame(null, null, null);
+
+    // The initial event is built and queued on the dispatch thread, just before the emitter joins the fan-out, so
+    // nothing published earlier can reach the client after it
+    public SseEmitter subscribe(K key, Supplier<Event> initial) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(key, emitter, currentRequest());
+        emitter.onCompletion(subscriber::closed);
+        emitter.onTimeout(subscriber::closed);
+        emitter.onError(error -> subscriber.closed());
+        dispatch(() -> {
+            if (subscriber.closed) {
+                return;
+            }
+            Event event = initial.get();
+            if (event != null) {
+                subscriber.offer(new Frame(event.name(), event.id(), serialize(event.data())));
+            }
+            subscribers.compute(key, (k, set) -> {
+                Set<Subscriber> joined = set != null ? set : ConcurrentHashMap.newKeySet();
+                joined.add(subscriber);
+                return joined;
+            });
+        });
+        return emitter;
+    }
+
+    public void publish(K key, String name, Object id, Object data) {
+        publish(List.of(key), name, id, data);
+    }
+
+    // Serialized once however many keys (and emitters under them) receive it
+    public void publish(Collection<K> keys, String name, Object id, Object data) {
+        if (keys.stream().noneMatch(subscribers::containsKey)) {
+            return;
+        }
+        Frame frame = new Frame(name, id, serialize(data));
+        dispatch(() -> {
+            for (K key : keys) {
+                Set<Subscriber> set = subscribers.get(key);
+                if (set != null) {
+                    for (Subscriber subscriber : set) {
+                        if (!subscriber.offer(frame)) {
+                            log.debug("Dropping subscriber for {}: {} events behind", key, backlog);
+                            subscriber.close();
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    // Ends every stream under the key, e.g. when the entity behind it is deleted
+    public void complete(K key) {
+        dispatch(() -> {
+            Set<Subscriber> set = subscribers.remove(key);
+            if (set != null) {
+                set.forEach(Subscriber::finish);
+            }
+        });
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Override
+    public void close() {
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(Subscriber::close));
+        subscribers.clear();
+        writers.shutdown();
+        watchdog.shutdownNow();
+    }
+
+    // The request whose async context carries the stream, so a write stuck on a dead connection can be released
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest() : null;
+    }
+
+    private void dispatch(Runnable task) {
+        try {
+            dispatcher.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("Event stream closed, dropping event");
+        }
+    }
+
+    private String serialize(Object data) {
+        try {
+            return writer.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event", e);
+        }
+    }
+
+    // Once subscribed, only a drain touches the emitter, and a subscriber has at most one drain running, so frames go
+    // out in order and nothing else ever waits on a slow socket
+    private final class Subscriber {
+        private final K key;
+        private final SseEmitter emitter;
+        private final HttpServletRequest request;
+        private final BlockingQueue<Frame> frames = new ArrayBlockingQueue<>(backlog);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(K key, SseEmitter emitter, HttpServletRequest request) {
+            this.key = key;
+            this.emitter = emitter;
+            this.request = request;
+        }
+
+        private boolean offer(Frame frame) {
+            if (!frames.offer(frame)) {
+                return false;
+            }
+            scheduleDrain();
+            return true;
+        }
+
+        // Sends what is already queued, then completes the stream
+        private void finish() {
+            if (!offer(END)) {
+                close();
+            }
+        }
+
+        // Leaves the fan-out at once; the backlog is abandoned and the stream completed
+        private void close() {
+            closed();
+            frames.clear();
+            scheduleDrain();
+        }
+
+        // A send has been blocked for writeTimeout. The emitter cannot be completed while the send holds its monitor,
+        // so the async request is completed underneath it instead: the container ends the response and closes the
+        // connection, which fails the blocked write and returns the writer thread to the pool.
+        private void stalled() {
+            log.debug("Dropping subscriber for {}: write blocked for {}", key, writeTimeout);
+            closed();
+            frames.clear();
+            try {
+                if (request != null && request.isAsyncStarted()) {
+                    request.getAsyncContext().complete();
+                }
+            } catch (IllegalStateException e) {
+                // The request finished in the meantime
+            }
+        }
+
+        // The emitter has already ended (completed, timed out or failed): only leave the fan-out
+        private void closed() {
+            closed = true;
+            unsubscribe();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    writers.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    Frame frame = closed ? END : frames.poll();
+                    if (frame == null) {
+                        draining.set(false);
+                        // A frame queued after the poll but before the flag dropped found the drain still running
+                        if (frames.isEmpty() || !draining.compareAndSet(false, true)) {
+                            return;
+                        }
+                    } else if (frame == END) {
+                        emitter.complete();
+                        unsubscribe();
+                        return;
+                    } else {
+                        send(frame);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                closed();
+            }
+        }
+
+        private void send(Frame frame) throws IOException {
+            ScheduledFuture<?> stall;
+            try {
+                stall = watchdog.schedule(this::stalled, writeTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                stall = null;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(frame.name()).id(String.valueOf(frame.id()))
+                        .data(frame.json(), MediaType.APPLICATION_JSON));
+            } finally {
+                if (stall != null) {
+                    stall.cancel(false);
+                }
+            }
+        }
+
+        private void unsubscribe() {
+            subscribers.computeIfPresent(key, (k, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.buildtogether.exception;
+
+public class CapacityExceededException extends RuntimeException {
+    public CapacityExceededException(String message) {
+        super(message);
+    }
+}
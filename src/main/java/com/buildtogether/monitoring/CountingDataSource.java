@@ -0,0 +1,95 @@
+package com.buildtogether.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Wraps connections so every executed statement and every ResultSet.next() row is reported to QueryCounter, and the
+// time spent in them to RequestPhaseTimer: whatever issued the SQL (repositories, EntityManager queries, JdbcTemplate
+// batches, lazy loads), it is charged to the request's database phase
+public class CountingDataSource extends DelegatingDataSource {
+
+    public CountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, super.getConnection(username, password));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T wrap(Class<T> type, T target) {
+        if (target == null) {
+            return null;
+        }
+        return (T) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                new CountingHandler(target));
+    }
+
+    private record CountingHandler(Object target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            Object result;
+            if (target instanceof Statement && name.startsWith("execute")) {
+                QueryCounter.statementExecuted();
+                result = timeTarget(method, args);
+            } else if (target instanceof ResultSet && name.equals("next")) {
+                Object hasRow = timeTarget(method, args);
+                if (Boolean.TRUE.equals(hasRow)) {
+                    QueryCounter.rowFetched();
+                }
+                return hasRow;
+            } else {
+                result = invokeTarget(method, args);
+            }
+            if (result instanceof CallableStatement callable) {
+                return wrap(CallableStatement.class, callable);
+            }
+            if (result instanceof PreparedStatement prepared) {
+                return wrap(PreparedStatement.class, prepared);
+            }
+            if (result instanceof Statement statement) {
+                return wrap(Statement.class, statement);
+            }
+            if (result instanceof ResultSet resultSet) {
+                return wrap(ResultSet.class, resultSet);
+            }
+            return result;
+        }
+
+        private Object timeTarget(Method method, Object[] args) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(method, args);
+            } finally {
+                RequestPhaseTimer.databaseTime(System.nanoTime() - start);
+            }
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
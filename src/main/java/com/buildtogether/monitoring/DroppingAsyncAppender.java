@@ -0,0 +1,52 @@
+package com.buildtogether.monitoring;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AsyncAppenderBase;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+// Async appender that never blocks the request thread: when the bounded queue is full the event is dropped
+// and counted instead. Configure with neverBlock=true and discardingThreshold=0 so this is the only drop path.
+public class DroppingAsyncAppender extends AsyncAppender {
+
+    private static final LongAdder DROPPED = new LongAdder();
+
+    // AsyncAppenderBase discards a failed offer silently and keeps its queue package-private, so the queue is looked
+    // up once on start and offered to directly: the offer's own result decides what is counted, with no lock
+    private BlockingQueue<ILoggingEvent> queue;
+
+    public static long droppedCount() {
+        return DROPPED.sum();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void start() {
+        super.start();
+        if (isStarted()) {
+            try {
+                Field field = AsyncAppenderBase.class.getDeclaredField("blockingQueue");
+                field.setAccessible(true);
+                queue = (BlockingQueue<ILoggingEvent>) field.get(this);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                addWarn("Event queue not accessible, dropped events will not be counted", e);
+            }
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        BlockingQueue<ILoggingEvent> events = queue;
+        if (events == null) {
+            super.append(event);
+            return;
+        }
+        preprocess(event);
+        if (!events.offer(event)) {
+            DROPPED.increment();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.buildtogether.monitoring;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Upper bound on JDBC statements and fetched rows for one request; -1 means unbounded
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    int statements();
+    int rows() default -1;
+}
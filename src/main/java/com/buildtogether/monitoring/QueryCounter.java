@@ -0,0 +1,96 @@
+package com.buildtogether.monitoring;
+
+import com.buildtogether.exception.QueryBudgetExceededException;
+
+// Per-thread JDBC statement and row counters for the request currently being handled
+public final class QueryCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static void begin(String label, int statementBudget, int rowBudget, boolean strict) {
+        CURRENT.set(new Scope(label, statementBudget, rowBudget, strict));
+    }
+
+    public static Scope end() {
+        Scope scope = CURRENT.get();
+        CURRENT.remove();
+        return scope;
+    }
+
+    // Runs work that is not part of the current request's own data access, such as refreshing in-memory indexes
+    // after a commit, without counting its statements against the request's budget
+    public static void untracked(Runnable work) {
+        Scope scope = CURRENT.get();
+        CURRENT.remove();
+        try {
+            work.run();
+        } finally {
+            if (scope != null) {
+                CURRENT.set(scope);
+            }
+        }
+    }
+
+    static void statementExecuted() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.statements++;
+            if (scope.strict && scope.statementBudget >= 0 && scope.statements > scope.statementBudget) {
+                throw new QueryBudgetExceededException(String.format("%s executed %d statements (budget %d)",
+                        scope.label, scope.statements, scope.statementBudget));
+            }
+        }
+    }
+
+    static void rowFetched() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.rows++;
+            if (scope.strict && scope.rowBudget >= 0 && scope.rows > scope.rowBudget) {
+                throw new QueryBudgetExceededException(String.format("%s fetched %d rows (budget %d)",
+                        scope.label, scope.rows, scope.rowBudget));
+            }
+        }
+    }
+
+    public static final class Scope {
+        private final String label;
+        private final int statementBudget;
+        private final int rowBudget;
+        private final boolean strict;
+        private int statements;
+        private long rows;
+
+        private Scope(String label, int statementBudget, int rowBudget, boolean strict) {
+            this.label = label;
+            this.statementBudget = statementBudget;
+            this.rowBudget = rowBudget;
+            this.strict = strict;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public boolean isOverBudget() {
+            return (statementBudget >= 0 && statements > statementBudget) || (rowBudget >= 0 && rows > rowBudget);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d statements (budget %d), %d rows (budget %d)",
+                    label, statements, statementBudget, rows, rowBudget);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.buildtogether.monitoring;
+
+// Per-thread accumulators splitting the request currently being handled into database and serialization time
+public final class RequestPhaseTimer {
+
+    private static final ThreadLocal<Phases> CURRENT = new ThreadLocal<>();
+
+    private RequestPhaseTimer() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new Phases(System.nanoTime()));
+    }
+
+    public static Phases end() {
+        Phases phases = CURRENT.get();
+        CURRENT.remove();
+        return phases;
+    }
+
+    public static void handlerFinished() {
+        Phases phases = CURRENT.get();
+        if (phases != null) {
+            phases.handlerNanos = System.nanoTime() - phases.startNanos;
+        }
+    }
+
+    public static void databaseTime(long nanos) {
+        Phases phases = CURRENT.get();
+        if (phases != null) {
+            phases.databaseNanos += nanos;
+        }
+    }
+
+    public static void serializationTime(long nanos) {
+        Phases phases = CURRENT.get();
+        if (phases != null) {
+            phases.serializationNanos += nanos;
+        }
+    }
+
+    public static final class Phases {
+        private final long startNanos;
+        private long handlerNanos = -1;
+        private long databaseNanos;
+        private long serializationNanos;
+
+        private Phases(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        public long getDatabaseNanos() {
+            return databaseNanos;
+        }
+
+        public long getSerializationNanos() {
+            return serializationNanos;
+        }
+
+        // Handler time outside JDBC calls and response serialization: entity -> DTO mapping, Hibernate hydration and
+        // controller logic. -1 when the handler threw before finishing.
+        public long getMappingNanos() {
+            return handlerNanos < 0 ? -1 : Math.max(0, handlerNanos - databaseNanos - serializationNanos);
+        }
+    }
+}
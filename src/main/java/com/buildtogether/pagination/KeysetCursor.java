@@ -0,0 +1,64 @@
+package com.buildtogether.pagination;
+
+import com.buildtogether.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+// Opaque seek-on-id cursor: the key of the last row handed out, base64url encoded
+public final class KeysetCursor {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private final long[] keys;
+
+    private KeysetCursor(long[] keys) {
+        this.keys = keys;
+    }
+
+    public static KeysetCursor of(long... keys) {
+        return new KeysetCursor(keys.clone());
+    }
+
+    public static KeysetCursor start(int arity) {
+        return new KeysetCursor(new long[arity]);
+    }
+
+    public static KeysetCursor decode(String token, int arity) {
+        if (token == null || token.isBlank()) {
+            return start(arity);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            long[] keys = Arrays.stream(raw.split(":")).mapToLong(Long::parseLong).toArray();
+            if (keys.length != arity) {
+                throw new ValidationException("Invalid cursor: " + token);
+            }
+            return new KeysetCursor(keys);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor: " + token);
+        }
+    }
+
+    public static int clampLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    public long key(int index) {
+        return keys[index];
+    }
+
+    public String encode() {
+        String raw = Arrays.stream(keys).mapToObj(Long::toString).collect(Collectors.joining(":"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+}
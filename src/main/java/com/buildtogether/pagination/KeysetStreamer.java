@@ -0,0 +1,85 @@
+package com.buildtogether.pagination;
+
+import com.buildtogether.projection.FieldSelection;
+import com.buildtogether.projection.SparseFieldsets;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// Streams a whole table as NDJSON by walking it in keyset chunks, so only one chunk is ever held in memory
+@Component
+@Slf4j
+public class KeysetStreamer {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final MediaType NDJSON = MediaType.parseMediaType(NDJSON_VALUE);
+
+    private final ObjectWriter writer;
+    private final SparseFieldsets sparseFieldsets;
+    private final TransactionTemplate transactionTemplate;
+
+    public KeysetStreamer(ObjectMapper objectMapper, SparseFieldsets sparseFieldsets,
+                          PlatformTransactionManager transactionManager) {
+        this.writer = objectMapper.writer();
+        this.sparseFieldsets = sparseFieldsets;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // type is the class fields= applies to (rows may be a supertype when no fields are asked for); it is checked
+    // before the response starts
+    public <E, D> ResponseEntity<StreamingResponseBody> stream(int arity, Class<? extends D> type,
+                                                               BiFunction<KeysetCursor, Integer, List<E>> chunkLoader,
+                                                               Function<E, KeysetCursor> keyOf,
+                                                               Function<E, D> mapper) {
+        ObjectWriter rowWriter = sparseFieldsets.shape(writer, type, FieldSelection.ofCurrentRequest());
+        StreamingResponseBody body = out -> {
+            KeysetCursor after = KeysetCursor.start(arity);
+            long written = 0;
+            while (after != null) {
+                Chunk<D> chunk = loadChunk(after, chunkLoader, keyOf, mapper);
+                writeChunk(out, rowWriter, chunk.items());
+                written += chunk.items().size();
+                after = chunk.next();
+            }
+            log.debug("Streamed {} rows", written);
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    private <E, D> Chunk<D> loadChunk(KeysetCursor after,
+                                      BiFunction<KeysetCursor, Integer, List<E>> chunkLoader,
+                                      Function<E, KeysetCursor> keyOf,
+                                      Function<E, D> mapper) {
+        // Map inside the transaction so associations resolve before the session closes
+        return transactionTemplate.execute(status -> {
+            List<E> rows = chunkLoader.apply(after, KeysetCursor.MAX_LIMIT);
+            List<D> items = rows.stream().map(mapper).toList();
+            KeysetCursor next = rows.size() < KeysetCursor.MAX_LIMIT ? null : keyOf.apply(rows.get(rows.size() - 1));
+            return new Chunk<>(items, next);
+        });
+    }
+
+    private <D> void writeChunk(OutputStream out, ObjectWriter rowWriter, List<D> items) throws IOException {
+        for (D item : items) {
+            out.write(rowWriter.writeValueAsBytes(item));
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    private record Chunk<D>(List<D> items, KeysetCursor next) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.buildtogether.pagination;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Reactive counterpart of KeysetStreamer: walks a table in keyset chunks as a Flux that loads the next chunk only
+// when the subscriber asks for it. Each chunk is loaded and mapped in its own read-only transaction on the bounded
+// JDBC scheduler, so a slow reader holds neither a connection nor a servlet thread between chunks.
+@Component
+public class ReactiveKeysetReader {
+
+    public record Keyed<D>(KeysetCursor cursor, D item) {
+    }
+
+    private final TransactionTemplate transactionTemplate;
+    private final Scheduler jdbcScheduler;
+
+    public ReactiveKeysetReader(PlatformTransactionManager transactionManager,
+                                @Qualifier("jdbcReadScheduler") Scheduler jdbcScheduler) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.jdbcScheduler = jdbcScheduler;
+    }
+
+    public <E, D> Flux<List<Keyed<D>>> chunks(KeysetCursor start,
+                                              BiFunction<KeysetCursor, Integer, List<E>> chunkLoader,
+                                              Function<E, KeysetCursor> keyOf,
+                                              Function<E, D> mapper) {
+        return chunks(start, chunkLoader, () -> row -> new Keyed<>(keyOf.apply(row), mapper.apply(row)));
+    }
+
+    // rowMapper is asked for a fresh function per subscription, which may keep state across the rows it is handed
+    // (they arrive in order, one chunk at a time)
+    public <E, D> Flux<List<Keyed<D>>> chunks(KeysetCursor start,
+                                              BiFunction<KeysetCursor, Integer, List<E>> chunkLoader,
+                                              Supplier<Function<E, Keyed<D>>> rowMapper) {
+        return Flux.defer(() -> {
+            Function<E, Keyed<D>> mapper = rowMapper.get();
+            return Flux.<List<Keyed<D>>, KeysetCursor>generate(() -> start, (after, sink) -> {
+                List<Keyed<D>> rows = transactionTemplate.execute(status ->
+                        chunkLoader.apply(after, KeysetCursor.MAX_LIMIT).stream().map(mapper).toList());
+                if (rows == null || rows.isEmpty()) {
+                    sink.complete();
+                    return after;
+                }
+                sink.next(rows);
+                if (rows.size() < KeysetCursor.MAX_LIMIT) {
+                    sink.complete();
+                }
+                return rows.get(rows.size() - 1).cursor();
+            });
+        }).subscribeOn(jdbcScheduler);
+    }
+}
@@ -0,0 +1,97 @@
+package com.buildtogether.payload;
+
+import com.buildtogether.conditional.ConditionalGet;
+import com.buildtogether.conditional.ResourceVersion;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.Locale;
+
+// One response body, serialized once and stored both as is and gzipped, with the version it was built from
+public final class EncodedPayload {
+
+    private static final String GZIP = "gzip";
+
+    private final Object source;
+    private final ResourceVersion version;
+    private final byte[] identity;
+    private final byte[] gzip;
+
+    EncodedPayload(Object source, ResourceVersion version, byte[] identity, byte[] gzip) {
+        this.source = source;
+        this.version = version;
+        this.identity = identity;
+        this.gzip = gzip;
+    }
+
+    // Whether this payload was serialized from exactly this instance of the source data
+    boolean isFor(Object source) {
+        return this.source == source;
+    }
+
+    public ResourceVersion version() {
+        return version;
+    }
+
+    public int size() {
+        return identity.length;
+    }
+
+    public int gzipSize() {
+        return gzip.length;
+    }
+
+    // ConditionalGet.isNotModified for this payload. Vary goes out before the check so a 304 carries it too: a cache
+    // revalidating its stored variant must go on keying it by Accept-Encoding.
+    public boolean isNotModified(NativeWebRequest request) {
+        HttpServletResponse response = request.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return ConditionalGet.isNotModified(request, version);
+    }
+
+    // The stored bytes in the encoding the client accepts; they are written to the response as they are
+    public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (accepts(acceptEncoding, GZIP)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(gzip);
+        }
+        return response.body(identity);
+    }
+
+    // Accept-Encoding lists codings with optional weights; q=0 means "not this one", * stands for any coding
+    static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String name = params[0].trim().toLowerCase(Locale.ROOT);
+            boolean acceptable = true;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        acceptable = Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        acceptable = false;
+                    }
+                }
+            }
+            if (name.equals(coding) || name.equals("x-" + coding)) {
+                return acceptable;
+            }
+            if (name.equals("*")) {
+                wildcard = acceptable;
+            }
+        }
+        return wildcard;
+    }
+}
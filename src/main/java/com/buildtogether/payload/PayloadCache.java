@@ -0,0 +1,81 @@
+package com.buildtogether.payload;
+
+import com.buildtogether.conditional.ResourceVersion;
+import com.buildtogether.monitoring.RequestPhaseTimer;
+import com.buildtogether.projection.FieldSelection;
+import com.buildtogether.projection.SparseFieldsets;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// Response bodies of hot read-only lists, serialized and gzipped once per change instead of once per request.
+// Keyed by endpoint and fields= selection. An entry belongs to the list instance it was built from: the lists come
+// from the read caches and the active-hackathon snapshot, which hand out a new instance after every write, expiry or
+// date rollover, so a payload can never outlive the data behind it and needs no invalidation of its own.
+@Component
+@Slf4j
+public class PayloadCache {
+
+    private final ObjectWriter writer;
+    private final SparseFieldsets sparseFieldsets;
+    private final Cache<String, EncodedPayload> payloads;
+
+    public PayloadCache(ObjectMapper objectMapper, SparseFieldsets sparseFieldsets,
+                        @Value("${app.payload-cache.maximum-size:256}") long maximumSize) {
+        this.writer = objectMapper.writer();
+        this.sparseFieldsets = sparseFieldsets;
+        this.payloads = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    public <D> EncodedPayload get(String endpoint, Class<D> type, Supplier<List<D>> loader,
+                                  Function<D, LocalDateTime> updatedAt, FieldSelection fields) {
+        // Shaping validates fields=, so a bad selection is a 400 whether or not its payload is cached
+        ObjectWriter shaped = sparseFieldsets.shape(writer, type, fields);
+        List<D> items = loader.get();
+        String key = fields.isAll() ? endpoint : endpoint + "?fields=" + fields;
+        EncodedPayload payload = payloads.getIfPresent(key);
+        if (payload == null || !payload.isFor(items)) {
+            payload = encode(shaped, items, ResourceVersion.of(items, updatedAt));
+            payloads.put(key, payload);
+            log.debug("Encoded payload {}: {} bytes, {} gzipped", key, payload.size(), payload.gzipSize());
+        }
+        return payload;
+    }
+
+    // Counted as the request's serialization phase: the bytes are written out as-is, past the timed JSON converter
+    private static EncodedPayload encode(ObjectWriter writer, Object source, ResourceVersion version) {
+        long start = System.nanoTime();
+        try {
+            byte[] identity = writer.writeValueAsBytes(source);
+            return new EncodedPayload(source, version, identity, gzip(identity));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize payload", e);
+        } finally {
+            RequestPhaseTimer.serializationTime(System.nanoTime() - start);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,81 @@
+package com.buildtogether.projection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Maps the fields of a DTO to the JPQL paths they are read from, so a FieldSelection turns into a SELECT of just
+// those columns. Required fields (keys a cursor needs) are selected whether asked for or not; the response filter
+// drops them again if they were not requested.
+public final class FieldProjection<D> {
+
+    private record Column<D>(String path, BiConsumer<D, Object> setter) {
+    }
+
+    private final Supplier<D> factory;
+    private final String from;
+    private final Map<String, Column<D>> columns = new LinkedHashMap<>();
+    private final Set<String> required = new LinkedHashSet<>();
+
+    private FieldProjection(Supplier<D> factory, String from) {
+        this.factory = factory;
+        this.from = from;
+    }
+
+    // from is the FROM clause (with joins) every field path is resolved against
+    public static <D> FieldProjection<D> of(Supplier<D> factory, String from) {
+        return new FieldProjection<>(factory, from);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> FieldProjection<D> field(String name, String path, BiConsumer<D, V> setter) {
+        columns.put(name, new Column<>(path, (dto, value) -> setter.accept(dto, (V) value)));
+        return this;
+    }
+
+    public FieldProjection<D> require(String... names) {
+        required.addAll(List.of(names));
+        return this;
+    }
+
+    public Set<String> fieldNames() {
+        return columns.keySet();
+    }
+
+    // where starts with a space (" WHERE ...", " ORDER BY ..."); limit 0 means no limit
+    public List<D> select(EntityManager entityManager, FieldSelection selection, String where,
+                          Map<String, Object> parameters, int limit) {
+        selection.validate(fieldNames());
+        List<Column<D>> selected = columns.entrySet().stream()
+                .filter(column -> selection.includes(column.getKey()) || required.contains(column.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+        String jpql = selected.stream().map(Column::path).collect(Collectors.joining(", ", "SELECT ", " "))
+                + from + where;
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class);
+        parameters.forEach(query::setParameter);
+        if (limit > 0) {
+            query.setMaxResults(limit);
+        }
+        List<Object[]> rows = query.getResultList();
+        List<D> dtos = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            D dto = factory.get();
+            for (int i = 0; i < selected.size(); i++) {
+                selected.get(i).setter().accept(dto, row[i]);
+            }
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+}
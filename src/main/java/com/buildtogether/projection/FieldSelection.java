@@ -0,0 +1,82 @@
+package com.buildtogether.projection;
+
+import com.buildtogether.exception.ValidationException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// The fields= query parameter: which DTO fields a client wants back. Absent (or blank) means every field.
+public final class FieldSelection {
+
+    public static final String PARAMETER = "fields";
+
+    private static final FieldSelection ALL = new FieldSelection(Collections.emptySet());
+
+    private final Set<String> names;
+
+    private FieldSelection(Set<String> names) {
+        this.names = names;
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    public static FieldSelection of(String... names) {
+        return parse(String.join(",", names));
+    }
+
+    public static FieldSelection parse(String fields) {
+        if (fields == null) {
+            return ALL;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        return names.isEmpty() ? ALL : new FieldSelection(Collections.unmodifiableSet(names));
+    }
+
+    // The selection of the request being handled on this thread; ALL outside a request
+    public static FieldSelection ofCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return parse(servletAttributes.getRequest().getParameter(PARAMETER));
+        }
+        return ALL;
+    }
+
+    public boolean isAll() {
+        return names.isEmpty();
+    }
+
+    public boolean includes(String name) {
+        return isAll() || names.contains(name);
+    }
+
+    public Set<String> names() {
+        return names;
+    }
+
+    public void validate(Collection<String> validNames) {
+        for (String name : names) {
+            if (!validNames.contains(name)) {
+                throw new ValidationException("Invalid field: " + name + ". Valid fields are: "
+                        + String.join(", ", validNames));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isAll() ? "*" : String.join(",", names);
+    }
+}
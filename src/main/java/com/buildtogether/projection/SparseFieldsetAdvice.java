@@ -0,0 +1,68 @@
+package com.buildtogether.projection;
+
+import com.buildtogether.dto.CursorPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Collection;
+
+// Applies fields= to every JSON body a controller returns. A field the resource does not have is a 400.
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class SparseFieldsetAdvice implements ResponseBodyAdvice<Object> {
+
+    private final SparseFieldsets sparseFieldsets;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        FieldSelection selection = FieldSelection.ofCurrentRequest();
+        if (selection.isAll() || body == null || body instanceof MappingJacksonValue) {
+            return body;
+        }
+        Class<?> resourceType = SparseFieldsets.resourceType(
+                body instanceof CursorPage<?> page ? page.getItems() : body);
+        // An empty list has no element to look at; its declared element type still decides whether fields= is valid
+        if (resourceType == null) {
+            resourceType = declaredResourceType(returnType);
+        }
+        // Error bodies have nothing to shape
+        if (!SparseFieldsets.isShapeable(resourceType)) {
+            return body;
+        }
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(sparseFieldsets.filtersFor(resourceType, selection));
+        return value;
+    }
+
+    // The element type in the handler's declared return type, e.g. SubmissionSummaryDTO for
+    // ResponseEntity<List<SubmissionSummaryDTO>>; null when the declaration leaves it open
+    private static Class<?> declaredResourceType(MethodParameter returnType) {
+        ResolvableType type = ResolvableType.forMethodParameter(returnType);
+        if (HttpEntity.class.isAssignableFrom(type.toClass())) {
+            type = type.as(HttpEntity.class).getGeneric(0);
+        }
+        if (CursorPage.class.isAssignableFrom(type.toClass())) {
+            type = type.as(CursorPage.class).getGeneric(0);
+        } else if (Collection.class.isAssignableFrom(type.toClass())) {
+            type = type.asCollection().getGeneric(0);
+        }
+        return type.resolve();
+    }
+}
@@ -0,0 +1,109 @@
+package com.buildtogether.projection;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Jackson side of fields=: every class in the dto package carries the FILTER_ID property filter. The application's
+// ObjectMapper resolves it to "write everything"; a request with fields= swaps in a filter that drops the unrequested
+// properties of the resource type (list elements, page items or the single object) and leaves wrappers alone.
+@Component
+public class SparseFieldsets {
+
+    public static final String FILTER_ID = "sparseFieldset";
+    public static final FilterProvider SERIALIZE_ALL =
+            new SimpleFilterProvider().addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll());
+
+    private static final String DTO_PACKAGE = "com.buildtogether.dto";
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, List<String>> propertyNames = new ConcurrentHashMap<>();
+
+    public SparseFieldsets(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    // Paired with the default introspector on the application ObjectMapper (see JacksonConfig)
+    public static class FilterIdIntrospector extends NopAnnotationIntrospector {
+        @Override
+        public Object findFilterId(Annotated annotated) {
+            if (annotated instanceof AnnotatedClass annotatedClass
+                    && DTO_PACKAGE.equals(annotatedClass.getRawType().getPackageName())) {
+                return FILTER_ID;
+            }
+            return null;
+        }
+    }
+
+    public static boolean isShapeable(Class<?> type) {
+        return type != null && DTO_PACKAGE.equals(type.getPackageName());
+    }
+
+    // The class fields= applies to: the element type of a collection, else the body's own type; null if unknown
+    public static Class<?> resourceType(Object body) {
+        if (body instanceof Collection<?> collection) {
+            return collection.stream().filter(Objects::nonNull).findFirst().map(Object::getClass).orElse(null);
+        }
+        return body != null ? body.getClass() : null;
+    }
+
+    // Validates the selection against the serialized properties of resourceType and returns the filters to write with
+    public FilterProvider filtersFor(Class<?> resourceType, FieldSelection selection) {
+        selection.validate(propertyNames.computeIfAbsent(resourceType, this::introspect));
+        return new SimpleFilterProvider().addFilter(FILTER_ID, new SelectionFilter(resourceType, selection.names()));
+    }
+
+    public ObjectWriter shape(ObjectWriter writer, Class<?> resourceType, FieldSelection selection) {
+        if (selection.isAll() || !isShapeable(resourceType)) {
+            return writer;
+        }
+        return writer.with(filtersFor(resourceType, selection));
+    }
+
+    private List<String> introspect(Class<?> type) {
+        return objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(type))
+                .findProperties()
+                .stream()
+                .map(BeanPropertyDefinition::getName)
+                .toList();
+    }
+
+    private static class SelectionFilter extends SimpleBeanPropertyFilter {
+
+        private final Class<?> resourceType;
+        private final Set<String> names;
+
+        SelectionFilter(Class<?> resourceType, Set<String> names) {
+            this.resourceType = resourceType;
+            this.names = names;
+        }
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider,
+                                     PropertyWriter writer) throws Exception {
+            if (!resourceType.isInstance(pojo) || names.contains(writer.getName())) {
+                writer.serializeAsField(pojo, generator, provider);
+            } else if (!generator.canOmitFields()) {
+                writer.serializeAsOmittedField(pojo, generator, provider);
+            }
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.buildtogether.repository;
 
 import com.buildtogether.entity.Hackathon;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -16,4 +18,36 @@ public interface HackathonRepository extends JpaRepository<Hackathon, Long> {
     
     @Query("SELECT h FROM Hackathon h WHERE h.startDate <= CURRENT_DATE AND h.endDate >= CURRENT_DATE")
     List<Hackathon> findByActiveStatus();
+
+    // Active and upcoming hackathons; feeds the in-memory active snapshot
+    List<Hackathon> findByEndDateGreaterThanEqualOrderByStartDateAsc(LocalDate date);
+
+    List<Hackathon> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Dashboard figures in one round trip: each branch is a grouped aggregate over one table, tagged by kind, with
+    // columns (kind, label, count, total, low, high, scored). SUBMISSION rows are per status with score sum/min/max
+    // and the number of scores behind them (scored: unscored submissions stay out of the average), SCORE rows count
+    // ranked submissions per whole point (low), JOIN_REQUEST rows are per status, TEAM_SIZE rows count the teams
+    // having low members, and the HACKATHON row carries max_team_size (no row: no such hackathon), a NULL size
+    // reported as the default that seat claims enforce.
+    String SELECT_STATS =
+            "SELECT 'SUBMISSION' AS kind, s.status AS label, COUNT(*) AS n, SUM(s.score) AS total, " +
+            "MIN(s.score) AS low, MAX(s.score) AS high, COUNT(s.score) AS scored " +
+            "FROM dr_submission s WHERE s.hackathon_id = :id GROUP BY s.status " +
+            "UNION ALL " +
+            "SELECT 'SCORE', NULL, COUNT(*), NULL, FLOOR(s.score), NULL, NULL " +
+            "FROM dr_submission s WHERE s.hackathon_id = :id AND s.status <> 'REJECTED' GROUP BY FLOOR(s.score) " +
+            "UNION ALL " +
+            "SELECT 'JOIN_REQUEST', jr.status, COUNT(*), NULL, NULL, NULL, NULL " +
+            "FROM dr_join_request jr JOIN dr_team t ON t.id = jr.team_id WHERE t.hackathon_id = :id GROUP BY jr.status " +
+            "UNION ALL " +
+            "SELECT 'TEAM_SIZE', NULL, COUNT(*), NULL, sizes.members, NULL, NULL " +
+            "FROM (SELECT COUNT(tm.user_id) AS members FROM dr_team t LEFT JOIN dr_team_member tm ON tm.team_id = t.id " +
+            "WHERE t.hackathon_id = :id GROUP BY t.id) sizes GROUP BY sizes.members " +
+            "UNION ALL " +
+            "SELECT 'HACKATHON', NULL, 1, NULL, COALESCE(h.max_team_size, " + Hackathon.DEFAULT_MAX_TEAM_SIZE + "), NULL, NULL " +
+            "FROM dr_hackathon h WHERE h.id = :id";
+
+    @Query(value = SELECT_STATS, nativeQuery = true)
+    List<Object[]> findStatsRows(@Param("id") Long id);
 }
@@ -1,18 +1,82 @@
 package com.buildtogether.repository;
 
+import com.buildtogether.conditional.ResourceVersion;
+import com.buildtogether.dto.JoinRequestDTO;
 import com.buildtogether.entity.JoinRequest;
 import com.buildtogether.entity.JoinRequest.RequestStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface JoinRequestRepository extends JpaRepository<JoinRequest, Long> {
+    @EntityGraph("join-request-with-team-and-user")
+    Optional<JoinRequest> findWithTeamAndUserById(Long id);
+
+    @EntityGraph("join-request-with-team-and-user")
     List<JoinRequest> findByTeamId(Long teamId);
+
+    @EntityGraph("join-request-with-team-and-user")
     List<JoinRequest> findByUserId(Long userId);
+
+    @EntityGraph("join-request-with-team-and-user")
     List<JoinRequest> findByStatus(RequestStatus status);
+
+    @EntityGraph("join-request-with-team-and-user")
     Optional<JoinRequest> findByTeamIdAndUserId(Long teamId, Long userId);
+
     boolean existsByTeamIdAndUserId(Long teamId, Long userId);
+
+    // DTO projections: one joined SELECT per call instead of loading and mapping entities
+    String SELECT_DTO = "SELECT new com.buildtogether.dto.JoinRequestDTO(" +
+            "jr.id, t.id, t.teamName, h.id, h.title, u.id, u.name, u.email, " +
+            "jr.status, jr.requestedAt, jr.updatedAt) " +
+            "FROM JoinRequest jr JOIN jr.team t JOIN t.hackathon h JOIN jr.user u";
+
+    @Query(SELECT_DTO)
+    List<JoinRequestDTO> findAllDtos();
+
+    // Validators for conditional GETs: the joined rows count too, a renamed team changes its requests' DTOs
+    String SELECT_VERSION = "SELECT new com.buildtogether.conditional.ResourceVersion(" +
+            "COUNT(*), MAX(jr.updatedAt), MAX(t.updatedAt), MAX(h.updatedAt), MAX(u.updatedAt)) " +
+            "FROM JoinRequest jr JOIN jr.team t JOIN t.hackathon h JOIN jr.user u";
+
+    @Query(SELECT_VERSION)
+    ResourceVersion findVersion();
+
+    @Query(SELECT_VERSION + " WHERE jr.id = :id")
+    ResourceVersion findVersionById(@Param("id") Long id);
+
+    @Query(SELECT_DTO + " WHERE jr.id = :id")
+    Optional<JoinRequestDTO> findDtoById(@Param("id") Long id);
+
+    @Query(SELECT_DTO + " WHERE t.id = :teamId")
+    List<JoinRequestDTO> findDtosByTeamId(@Param("teamId") Long teamId);
+
+    @Query(SELECT_DTO + " WHERE u.id = :userId")
+    List<JoinRequestDTO> findDtosByUserId(@Param("userId") Long userId);
+
+    @Query(SELECT_DTO + " WHERE jr.status = :status")
+    List<JoinRequestDTO> findDtosByStatus(@Param("status") RequestStatus status);
+
+    @Query(SELECT_DTO + " WHERE jr.id > :id ORDER BY jr.id")
+    List<JoinRequestDTO> findDtoPageAfter(@Param("id") Long id, Pageable pageable);
+
+    // A user's other pending requests in the same hackathon, rejected once one of their requests is approved
+    @Query(SELECT_DTO + " WHERE u.id = :userId AND h.id = :hackathonId AND jr.status = PENDING AND jr.id <> :approvedId")
+    List<JoinRequestDTO> findOtherPendingDtos(@Param("userId") Long userId, @Param("hackathonId") Long hackathonId,
+                                              @Param("approvedId") Long approvedId);
+
+    @Modifying
+    @Query("UPDATE JoinRequest jr SET jr.status = REJECTED, jr.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE jr.id IN :ids AND jr.status = PENDING")
+    int rejectPending(@Param("ids") Collection<Long> ids);
 }
@@ -1,7 +1,11 @@
 package com.buildtogether.repository;
 
+import com.buildtogether.dto.SuggestionDTO;
 import com.buildtogether.entity.Skill;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +16,15 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     Optional<Skill> findBySkillName(String skillName);
     boolean existsBySkillName(String skillName);
     List<Skill> findBySkillNameContainingIgnoreCase(String skillName);
+    List<Skill> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Autocomplete entries: popularity is the number of users listing the skill
+    String SELECT_SUGGESTION = "SELECT new com.buildtogether.dto.SuggestionDTO(s.id, s.skillName, COUNT(us.id.userId)) " +
+            "FROM Skill s LEFT JOIN s.userSkills us";
+
+    @Query(SELECT_SUGGESTION + " GROUP BY s.id, s.skillName")
+    List<SuggestionDTO> findSuggestions();
+
+    @Query(SELECT_SUGGESTION + " WHERE s.id = :id GROUP BY s.id, s.skillName")
+    Optional<SuggestionDTO> findSuggestionById(@Param("id") Long id);
 }
@@ -1,16 +1,106 @@
 package com.buildtogether.repository;
 
+import com.buildtogether.conditional.ResourceVersion;
+import com.buildtogether.dto.LeaderboardEntryDTO;
+import com.buildtogether.dto.SubmissionDTO;
+import com.buildtogether.dto.SubmissionSummaryDTO;
 import com.buildtogether.entity.Submission;
 import com.buildtogether.entity.Submission.SubmissionStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SubmissionRepository extends JpaRepository<Submission, Long> {
+    @EntityGraph("submission-with-team-and-hackathon")
+    Optional<Submission> findWithTeamAndHackathonById(Long id);
+
+    @EntityGraph("submission-with-team-and-hackathon")
     List<Submission> findByTeamId(Long teamId);
+
+    @EntityGraph("submission-with-team-and-hackathon")
     List<Submission> findByHackathonId(Long hackathonId);
+
+    @EntityGraph("submission-with-team-and-hackathon")
     List<Submission> findByStatus(SubmissionStatus status);
+
+    @EntityGraph("submission-with-team-and-hackathon")
     List<Submission> findByTeamIdAndHackathonId(Long teamId, Long hackathonId);
+
+    List<Submission> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // DTO projection: one joined SELECT instead of loading and mapping entities
+    String SELECT_DTO = "SELECT new com.buildtogether.dto.SubmissionDTO(" +
+            "s.id, t.id, t.teamName, h.id, h.title, s.projectTitle, s.projectDescription, " +
+            "s.githubLink, s.demoLink, s.presentationLink, s.technologies, s.features, " +
+            "s.status, s.score, s.judgeComments, s.submittedAt) " +
+            "FROM Submission s JOIN s.team t JOIN s.hackathon h";
+
+    @Query(SELECT_DTO + " WHERE s.id = :id")
+    Optional<SubmissionDTO> findDtoById(@Param("id") Long id);
+
+    // Summary projections for the list endpoints: no CLOB columns, so no LOB reads per row
+    String SELECT_SUMMARY = "SELECT new com.buildtogether.dto.SubmissionSummaryDTO(" +
+            "s.id, t.id, t.teamName, s.hackathon.id, s.projectTitle, s.status, s.score, s.submittedAt) " +
+            "FROM Submission s JOIN s.team t";
+
+    @Query(SELECT_SUMMARY)
+    List<SubmissionSummaryDTO> findAllSummaries();
+
+    @Query(SELECT_SUMMARY + " WHERE t.id = :teamId")
+    List<SubmissionSummaryDTO> findSummariesByTeamId(@Param("teamId") Long teamId);
+
+    @Query(SELECT_SUMMARY + " WHERE s.hackathon.id = :hackathonId")
+    List<SubmissionSummaryDTO> findSummariesByHackathonId(@Param("hackathonId") Long hackathonId);
+
+    @Query(SELECT_SUMMARY + " WHERE s.status = :status")
+    List<SubmissionSummaryDTO> findSummariesByStatus(@Param("status") SubmissionStatus status);
+
+    @Query(SELECT_SUMMARY + " WHERE t.id = :teamId AND s.hackathon.id = :hackathonId")
+    List<SubmissionSummaryDTO> findSummariesByTeamIdAndHackathonId(@Param("teamId") Long teamId,
+                                                                    @Param("hackathonId") Long hackathonId);
+
+    @Query(SELECT_SUMMARY + " WHERE s.id > :id ORDER BY s.id")
+    List<SubmissionSummaryDTO> findSummaryPageAfter(@Param("id") Long id, Pageable pageable);
+
+    // Validators for conditional GETs: team and hackathon rows count too, their names are in the DTOs
+    String SELECT_VERSION = "SELECT new com.buildtogether.conditional.ResourceVersion(" +
+            "COUNT(*), MAX(s.updatedAt), MAX(t.updatedAt), MAX(h.updatedAt)) " +
+            "FROM Submission s JOIN s.team t JOIN s.hackathon h";
+
+    @Query(SELECT_VERSION)
+    ResourceVersion findVersion();
+
+    @Query(SELECT_VERSION + " WHERE s.id = :id")
+    ResourceVersion findVersionById(@Param("id") Long id);
+
+    // Leaderboard rows: rejected submissions are never ranked
+    String SELECT_LEADERBOARD = "SELECT new com.buildtogether.dto.LeaderboardEntryDTO(s.id, s.hackathon.id, t.id, " +
+            "t.teamName, s.projectTitle, s.score, s.status, s.submittedAt) " +
+            "FROM Submission s JOIN s.team t " +
+            "WHERE s.score IS NOT NULL AND s.status <> REJECTED";
+
+    // Ranked submissions of a hackathon, best first (ties by id), seeking past (score, id)
+    @Query(SELECT_LEADERBOARD + " AND s.hackathon.id = :hackathonId " +
+            "AND (s.score < :score OR (s.score = :score AND s.id > :id)) " +
+            "ORDER BY s.score DESC, s.id")
+    List<LeaderboardEntryDTO> findLeaderboardPageAfter(@Param("hackathonId") Long hackathonId,
+                                                       @Param("score") BigDecimal score, @Param("id") Long id,
+                                                       Pageable pageable);
+
+    @Query(SELECT_LEADERBOARD)
+    List<LeaderboardEntryDTO> findLeaderboardEntries();
+
+    @Query(SELECT_LEADERBOARD + " AND s.id = :id")
+    Optional<LeaderboardEntryDTO> findLeaderboardEntryById(@Param("id") Long id);
+
+    @Query(SELECT_LEADERBOARD + " AND t.id = :teamId")
+    List<LeaderboardEntryDTO> findLeaderboardEntriesByTeamId(@Param("teamId") Long teamId);
 }
@@ -1,15 +1,64 @@
 package com.buildtogether.repository;
 
+import com.buildtogether.conditional.ResourceVersion;
+import com.buildtogether.dto.TeamMemberDTO;
 import com.buildtogether.entity.TeamMember;
 import com.buildtogether.entity.TeamMemberId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TeamMemberRepository extends JpaRepository<TeamMember, TeamMemberId> {
+    @EntityGraph("team-member-with-team-and-user")
+    Optional<TeamMember> findWithTeamAndUserById(TeamMemberId id);
+
+    @EntityGraph("team-member-with-team-and-user")
     List<TeamMember> findByTeamId(Long teamId);
+
+    @EntityGraph("team-member-with-team-and-user")
     List<TeamMember> findByUserId(Long userId);
+
     boolean existsByTeamIdAndUserId(Long teamId, Long userId);
+
+    @Query("SELECT tm.id.userId FROM TeamMember tm WHERE tm.id.teamId = :teamId")
+    List<Long> findUserIdsByTeamId(@Param("teamId") Long teamId);
+
+    // DTO projections: one joined SELECT per call instead of loading and mapping entities
+    String SELECT_DTO = "SELECT new com.buildtogether.dto.TeamMemberDTO(" +
+            "t.id, t.teamName, h.id, h.title, u.id, u.name, u.email, " +
+            "tm.roleInTeam, tm.createdAt, tm.updatedAt) " +
+            "FROM TeamMember tm JOIN tm.team t JOIN t.hackathon h JOIN tm.user u";
+
+    @Query(SELECT_DTO)
+    List<TeamMemberDTO> findAllDtos();
+
+    // Validators for conditional GETs: the joined rows count too, a renamed team changes its members' DTOs
+    String SELECT_VERSION = "SELECT new com.buildtogether.conditional.ResourceVersion(" +
+            "COUNT(*), MAX(tm.updatedAt), MAX(t.updatedAt), MAX(h.updatedAt), MAX(u.updatedAt)) " +
+            "FROM TeamMember tm JOIN tm.team t JOIN t.hackathon h JOIN tm.user u";
+
+    @Query(SELECT_VERSION)
+    ResourceVersion findVersion();
+
+    @Query(SELECT_VERSION + " WHERE t.id = :teamId AND u.id = :userId")
+    ResourceVersion findVersionById(@Param("teamId") Long teamId, @Param("userId") Long userId);
+
+    @Query(SELECT_DTO + " WHERE t.id = :teamId AND u.id = :userId")
+    Optional<TeamMemberDTO> findDtoById(@Param("teamId") Long teamId, @Param("userId") Long userId);
+
+    @Query(SELECT_DTO + " WHERE t.id = :teamId")
+    List<TeamMemberDTO> findDtosByTeamId(@Param("teamId") Long teamId);
+
+    @Query(SELECT_DTO + " WHERE u.id = :userId")
+    List<TeamMemberDTO> findDtosByUserId(@Param("userId") Long userId);
+
+    @Query(SELECT_DTO + " WHERE t.id > :teamId OR (t.id = :teamId AND u.id > :userId) ORDER BY t.id, u.id")
+    List<TeamMemberDTO> findDtoPageAfter(@Param("teamId") Long teamId, @Param("userId") Long userId, Pageable pageable);
 }
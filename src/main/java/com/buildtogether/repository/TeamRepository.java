@@ -1,14 +1,54 @@
 package com.buildtogether.repository;
 
+import com.buildtogether.dto.SuggestionDTO;
+import com.buildtogether.entity.Hackathon;
 import com.buildtogether.entity.Team;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
     List<Team> findByHackathonId(Long hackathonId);
     List<Team> findByCreatedById(Long userId);
     List<Team> findByTeamNameContainingIgnoreCase(String teamName);
+    List<Team> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Autocomplete entries: popularity is the team's member count
+    String SELECT_SUGGESTION = "SELECT new com.buildtogether.dto.SuggestionDTO(t.id, t.teamName, COUNT(tm.id.userId)) " +
+            "FROM Team t LEFT JOIN t.teamMembers tm";
+
+    @Query(SELECT_SUGGESTION + " GROUP BY t.id, t.teamName")
+    List<SuggestionDTO> findSuggestions();
+
+    @Query(SELECT_SUGGESTION + " WHERE t.id = :id GROUP BY t.id, t.teamName")
+    Optional<SuggestionDTO> findSuggestionById(@Param("id") Long id);
+
+    @Query("SELECT t.createdBy.id FROM Team t WHERE t.id = :id")
+    Optional<Long> findCreatorIdById(@Param("id") Long id);
+
+    // Team capacity: claiming a seat is a single conditional UPDATE that matches nothing once the team holds
+    // maxTeamSize members. The row lock it takes queues concurrent claims on the same team until commit. A NULL
+    // max_team_size (the column is nullable) counts as the default rather than letting the comparison match nothing.
+    @Modifying
+    @Query("UPDATE Team t SET t.memberCount = t.memberCount + 1 WHERE t.id = :id " +
+            "AND t.memberCount < (SELECT COALESCE(h.maxTeamSize, " + Hackathon.DEFAULT_MAX_TEAM_SIZE + ") " +
+            "FROM Hackathon h WHERE h = t.hackathon)")
+    int claimSeat(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Team t SET t.memberCount = t.memberCount - 1 WHERE t.id = :id AND t.memberCount > 0")
+    int releaseSeat(@Param("id") Long id);
+
+    // Before a user delete cascades to their memberships
+    @Modifying
+    @Query("UPDATE Team t SET t.memberCount = t.memberCount - 1 WHERE t.memberCount > 0 " +
+            "AND t.id IN (SELECT tm.team.id FROM TeamMember tm WHERE tm.user.id = :userId)")
+    int releaseSeatsOfUser(@Param("userId") Long userId);
 }
@@ -1,6 +1,9 @@
 package com.buildtogether.repository;
 
+import com.buildtogether.conditional.ResourceVersion;
+import com.buildtogether.dto.SuggestionDTO;
 import com.buildtogether.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -26,4 +29,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     @Query("SELECT u FROM User u JOIN u.teamMemberships tm JOIN tm.team t WHERE t.id = :teamId")
     List<User> findByTeamId(@Param("teamId") Long teamId);
+
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Validators for conditional GETs
+    String SELECT_VERSION = "SELECT new com.buildtogether.conditional.ResourceVersion(COUNT(*), MAX(u.updatedAt)) " +
+            "FROM User u";
+
+    @Query(SELECT_VERSION)
+    ResourceVersion findVersion();
+
+    @Query(SELECT_VERSION + " WHERE u.id = :id")
+    ResourceVersion findVersionById(@Param("id") Long id);
+
+    // Autocomplete entries: popularity is the number of skills the user lists
+    String SELECT_SUGGESTION = "SELECT new com.buildtogether.dto.SuggestionDTO(u.id, u.name, COUNT(us.id.skillId)) " +
+            "FROM User u LEFT JOIN u.userSkills us";
+
+    @Query(SELECT_SUGGESTION + " GROUP BY u.id, u.name")
+    List<SuggestionDTO> findSuggestions();
+
+    @Query(SELECT_SUGGESTION + " WHERE u.id = :id GROUP BY u.id, u.name")
+    Optional<SuggestionDTO> findSuggestionById(@Param("id") Long id);
 }
@@ -1,16 +1,57 @@
 package com.buildtogether.repository;
 
+import com.buildtogether.conditional.ResourceVersion;
+import com.buildtogether.dto.UserSkillDTO;
 import com.buildtogether.entity.UserSkill;
 import com.buildtogether.entity.UserSkill.ProficiencyLevel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface UserSkillRepository extends JpaRepository<UserSkill, Long> {
+    @EntityGraph("user-skill-with-user-and-skill")
     List<UserSkill> findByUserId(Long userId);
+
+    @EntityGraph("user-skill-with-user-and-skill")
     List<UserSkill> findBySkillId(Long skillId);
+
+    @EntityGraph("user-skill-with-user-and-skill")
     List<UserSkill> findByProficiencyLevel(ProficiencyLevel proficiencyLevel);
+
     boolean existsByUserIdAndSkillId(Long userId, Long skillId);
+
+    // DTO projections: one joined SELECT per call instead of loading and mapping entities
+    String SELECT_DTO = "SELECT new com.buildtogether.dto.UserSkillDTO(" +
+            "u.id, u.name, u.email, s.id, s.skillName, " +
+            "us.proficiencyLevel, us.createdAt, us.updatedAt) " +
+            "FROM UserSkill us JOIN us.user u JOIN us.skill s";
+
+    @Query(SELECT_DTO)
+    List<UserSkillDTO> findAllDtos();
+
+    // Validators for conditional GETs: the joined rows count too, a renamed skill changes its DTOs
+    String SELECT_VERSION = "SELECT new com.buildtogether.conditional.ResourceVersion(" +
+            "COUNT(*), MAX(us.updatedAt), MAX(u.updatedAt), MAX(s.updatedAt)) " +
+            "FROM UserSkill us JOIN us.user u JOIN us.skill s";
+
+    @Query(SELECT_VERSION)
+    ResourceVersion findVersion();
+
+    @Query(SELECT_DTO + " WHERE u.id = :userId")
+    List<UserSkillDTO> findDtosByUserId(@Param("userId") Long userId);
+
+    @Query(SELECT_DTO + " WHERE s.id = :skillId")
+    List<UserSkillDTO> findDtosBySkillId(@Param("skillId") Long skillId);
+
+    @Query(SELECT_DTO + " WHERE us.proficiencyLevel = :proficiencyLevel")
+    List<UserSkillDTO> findDtosByProficiencyLevel(@Param("proficiencyLevel") ProficiencyLevel proficiencyLevel);
+
+    @Query(SELECT_DTO + " WHERE u.id > :userId OR (u.id = :userId AND s.id > :skillId) ORDER BY u.id, s.id")
+    List<UserSkillDTO> findDtoPageAfter(@Param("userId") Long userId, @Param("skillId") Long skillId, Pageable pageable);
 }
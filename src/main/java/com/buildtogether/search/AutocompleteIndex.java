@@ -0,0 +1,182 @@
+package com.buildtogether.search;
+
+import com.buildtogether.dto.SuggestionDTO;
+import com.buildtogether.entity.Hackathon;
+import com.buildtogether.entity.Skill;
+import com.buildtogether.entity.Team;
+import com.buildtogether.entity.TeamMember;
+import com.buildtogether.entity.TeamMemberId;
+import com.buildtogether.entity.User;
+import com.buildtogether.entity.UserSkill;
+import com.buildtogether.entity.UserSkillId;
+import com.buildtogether.event.EntityChangedEvent;
+import com.buildtogether.monitoring.QueryCounter;
+import com.buildtogether.repository.SkillRepository;
+import com.buildtogether.repository.TeamRepository;
+import com.buildtogether.repository.UserRepository;
+import com.buildtogether.search.SearchIndex.DocType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Typeahead over skill, user and team names: one SuggestionTrie per type, ranked by popularity (users listing a
+// skill, skills a user lists, members of a team). Single rows are reloaded after each committed write that can
+// change a name or a count; bulk imports and cascading deletes reload the whole affected type.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AutocompleteIndex {
+
+    public static final int MAX_LIMIT = 20;
+    public static final Set<DocType> TYPES = Set.of(DocType.SKILL, DocType.USER, DocType.TEAM);
+
+    private final SkillRepository skillRepository;
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+
+    // Readers take the read lock; writers are serialized by writerLock (not a monitor, as writers wait on JDBC) and
+    // take the write lock only to mutate
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock writerLock = new ReentrantLock();
+    private final Map<DocType, SuggestionTrie> tries = new EnumMap<>(DocType.class);
+
+    public List<SuggestionDTO> suggest(String prefix, Collection<DocType> types, int limit) {
+        record Hit(DocType type, SuggestionTrie.Entry entry) {
+        }
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (DocType type : types.isEmpty() ? TYPES : types) {
+                SuggestionTrie trie = tries.get(type);
+                if (trie != null) {
+                    for (SuggestionTrie.Entry entry : trie.lookup(prefix, limit)) {
+                        hits.add(new Hit(type, entry));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        // Each trie's list is already ranked; merging the types only needs the same order across them
+        return hits.stream()
+                .sorted(Comparator.comparing(Hit::entry, SuggestionTrie.RANK))
+                .limit(limit)
+                .map(hit -> new SuggestionDTO(hit.type().name(), hit.entry().id(), hit.entry().text(), hit.entry().popularity()))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        for (DocType type : TYPES) {
+            reloadAll(type);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        QueryCounter.untracked(() -> apply(event));
+    }
+
+    private void apply(EntityChangedEvent event) {
+        boolean deleted = event.change() == EntityChangedEvent.Change.DELETED;
+        if (event.isFor(Skill.class)) {
+            reload(DocType.SKILL, event.id());
+        } else if (event.isFor(User.class)) {
+            reload(DocType.USER, event.id());
+            if (deleted) {
+                // The user's skills and memberships go with them, and so do the teams they created
+                reloadAll(DocType.SKILL);
+                reloadAll(DocType.TEAM);
+            }
+        } else if (event.isFor(Team.class)) {
+            reload(DocType.TEAM, event.id());
+        } else if (event.isFor(Hackathon.class) && deleted) {
+            reloadAll(DocType.TEAM);
+        } else if (event.isFor(UserSkill.class)) {
+            if (event.id() instanceof UserSkillId id) {
+                reload(DocType.USER, id.getUserId());
+                reload(DocType.SKILL, id.getSkillId());
+            } else {
+                reloadAll(DocType.USER);
+                reloadAll(DocType.SKILL);
+            }
+        } else if (event.isFor(TeamMember.class) && event.id() instanceof TeamMemberId id) {
+            reload(DocType.TEAM, id.getTeamId());
+        }
+    }
+
+    private void reload(DocType type, Object id) {
+        if (id instanceof Long entityId) {
+            reloadOne(type, entityId);
+        } else {
+            reloadAll(type);
+        }
+    }
+
+    private void reloadOne(DocType type, Long id) {
+        writerLock.lock();
+        try {
+            Optional<SuggestionDTO> row = switch (type) {
+                case SKILL -> skillRepository.findSuggestionById(id);
+                case USER -> userRepository.findSuggestionById(id);
+                case TEAM -> teamRepository.findSuggestionById(id);
+                default -> Optional.empty();
+            };
+            lock.writeLock().lock();
+            try {
+                SuggestionTrie trie = tries.computeIfAbsent(type, t -> new SuggestionTrie(MAX_LIMIT));
+                if (row.isPresent()) {
+                    trie.put(id, row.get().getText(), row.get().getPopularity());
+                } else {
+                    trie.remove(id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    private void reloadAll(DocType type) {
+        writerLock.lock();
+        try {
+            List<SuggestionDTO> rows = switch (type) {
+                case SKILL -> skillRepository.findSuggestions();
+                case USER -> userRepository.findSuggestions();
+                case TEAM -> teamRepository.findSuggestions();
+                default -> List.of();
+            };
+            // Built outside the write lock so lookups keep being served from the old trie meanwhile
+            SuggestionTrie trie = new SuggestionTrie(MAX_LIMIT);
+            for (SuggestionDTO row : rows) {
+                trie.put(row.getId(), row.getText(), row.getPopularity());
+            }
+            lock.writeLock().lock();
+            try {
+                tries.put(type, trie);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("Autocomplete trie for {} rebuilt with {} entries", type, trie.size());
+        } finally {
+            writerLock.unlock();
+        }
+    }
+}
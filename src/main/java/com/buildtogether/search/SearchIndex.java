@@ -0,0 +1,209 @@
+package com.buildtogether.search;
+
+import com.buildtogether.dto.SearchHitDTO;
+import com.buildtogether.dto.SearchResultDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// Embedded Lucene index over users, hackathons, teams, skills and submissions, held in memory and rebuilt from the
+// database on startup (see SearchIndexer). Writes go through a single IndexWriter; searches use near-real-time
+// readers that are refreshed after every change, so a committed write is searchable as soon as it is indexed.
+@Component
+@Slf4j
+public class SearchIndex {
+
+    static final String KEY = "key";
+    static final String TYPE = "type";
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String BODY = "body";
+    // Keys of the documents this one depends on (team -> its hackathon, ...), used to follow database cascades
+    static final String REF = "ref";
+
+    private static final float TITLE_BOOST = 2.0f;
+    private static final float EXACT_BOOST = 3.0f;
+    private static final float PREFIX_BOOST = 1.5f;
+    private static final int MAX_TERMS = 10;
+
+    public enum DocType {
+        USER, HACKATHON, TEAM, SKILL, SUBMISSION;
+
+        String key(Object id) {
+            return name().toLowerCase() + ":" + id;
+        }
+    }
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public SearchIndex() throws IOException {
+        writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    static Document document(DocType type, Long id, String title, List<String> body, List<String> refs) {
+        Document doc = new Document();
+        doc.add(new StringField(KEY, type.key(id), Field.Store.YES));
+        doc.add(new StringField(TYPE, type.name(), Field.Store.YES));
+        doc.add(new StoredField(ID, id));
+        doc.add(new TextField(TITLE, title != null ? title : "", Field.Store.YES));
+        for (String text : body) {
+            if (text != null) {
+                doc.add(new TextField(BODY, text, Field.Store.NO));
+            }
+        }
+        for (String ref : refs) {
+            doc.add(new StringField(REF, ref, Field.Store.NO));
+        }
+        return doc;
+    }
+
+    void upsert(Document doc) throws IOException {
+        writer.updateDocument(new Term(KEY, doc.get(KEY)), doc);
+    }
+
+    void delete(String key) throws IOException {
+        writer.deleteDocuments(new Term(KEY, key));
+    }
+
+    void deleteByType(DocType type) throws IOException {
+        writer.deleteDocuments(new Term(TYPE, type.name()));
+    }
+
+    void deleteAll() throws IOException {
+        writer.deleteAll();
+    }
+
+    // Makes every change so far visible to searches
+    void refresh() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    List<String> findReferencing(String key) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(new TermQuery(new Term(REF, key)), Integer.MAX_VALUE);
+            StoredFields storedFields = searcher.storedFields();
+            List<String> keys = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                keys.add(storedFields.document(scoreDoc.doc).get(KEY));
+            }
+            return keys;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    public SearchResultDTO search(String text, Collection<DocType> types, boolean prefix, boolean fuzzy, int limit) {
+        Query query = buildQuery(text, types, prefix, fuzzy);
+        if (query == null) {
+            return new SearchResultDTO(text, 0, List.of());
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<SearchHitDTO> hits = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    Document doc = storedFields.document(scoreDoc.doc);
+                    hits.add(new SearchHitDTO(doc.get(TYPE), doc.getField(ID).numericValue().longValue(),
+                            doc.get(TITLE), scoreDoc.score));
+                }
+                return new SearchResultDTO(text, topDocs.totalHits.value, hits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Every term must match, either exactly, as a prefix or within an edit distance, in the title or the body.
+    // Exact matches outrank prefix matches, which outrank fuzzy ones; title matches count double.
+    private Query buildQuery(String text, Collection<DocType> types, boolean prefix, boolean fuzzy) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder alternatives = new BooleanQuery.Builder();
+            for (String field : new String[]{TITLE, BODY}) {
+                float fieldBoost = field.equals(TITLE) ? TITLE_BOOST : 1.0f;
+                Term fieldTerm = new Term(field, term);
+                alternatives.add(new BoostQuery(new TermQuery(fieldTerm), EXACT_BOOST * fieldBoost), BooleanClause.Occur.SHOULD);
+                if (prefix && term.length() >= 2) {
+                    alternatives.add(new BoostQuery(new PrefixQuery(fieldTerm), PREFIX_BOOST * fieldBoost), BooleanClause.Occur.SHOULD);
+                }
+                if (fuzzy && term.length() >= 3) {
+                    int maxEdits = term.length() >= 6 ? 2 : 1;
+                    alternatives.add(new BoostQuery(new FuzzyQuery(fieldTerm, maxEdits), fieldBoost), BooleanClause.Occur.SHOULD);
+                }
+            }
+            query.add(alternatives.build(), BooleanClause.Occur.MUST);
+        }
+        if (types != null && !types.isEmpty()) {
+            BooleanQuery.Builder typeFilter = new BooleanQuery.Builder();
+            for (DocType type : types) {
+                typeFilter.add(new TermQuery(new Term(TYPE, type.name())), BooleanClause.Occur.SHOULD);
+            }
+            query.add(typeFilter.build(), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokens = analyzer.tokenStream(BODY, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken() && terms.size() < MAX_TERMS) {
+                terms.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+}
@@ -0,0 +1,215 @@
+package com.buildtogether.search;
+
+import com.buildtogether.entity.Hackathon;
+import com.buildtogether.entity.Skill;
+import com.buildtogether.entity.Submission;
+import com.buildtogether.entity.Team;
+import com.buildtogether.entity.User;
+import com.buildtogether.event.EntityChangedEvent;
+import com.buildtogether.monitoring.QueryCounter;
+import com.buildtogether.repository.HackathonRepository;
+import com.buildtogether.repository.SkillRepository;
+import com.buildtogether.repository.SubmissionRepository;
+import com.buildtogether.repository.TeamRepository;
+import com.buildtogether.repository.UserRepository;
+import com.buildtogether.search.SearchIndex.DocType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// Keeps the search index in step with the database: a full load on startup, then one document per committed write.
+// Deletes also re-check every document that referenced the deleted one, since the database cascades (a user takes
+// their hackathons and teams with them, a hackathon its teams and submissions, ...).
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexer {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final SearchIndex searchIndex;
+    private final UserRepository userRepository;
+    private final HackathonRepository hackathonRepository;
+    private final TeamRepository teamRepository;
+    private final SkillRepository skillRepository;
+    private final SubmissionRepository submissionRepository;
+
+    // Serializes index writers; not a monitor, since writers wait on JDBC and would pin a virtual thread's carrier
+    private final Lock writerLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() throws IOException {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        QueryCounter.untracked(() -> apply(event));
+    }
+
+    private void apply(EntityChangedEvent event) {
+        DocType type = typeOf(event.entityType());
+        if (type == null) {
+            return;
+        }
+        writerLock.lock();
+        try {
+            if (event.id() == null) {
+                // Bulk import
+                reload(type);
+            } else if (event.change() == EntityChangedEvent.Change.DELETED) {
+                deleteCascading(type.key(event.id()));
+            } else {
+                reindex(type, (Long) event.id());
+            }
+            searchIndex.refresh();
+        } catch (IOException e) {
+            log.error("Failed to update search index for {} {}", type, event.id(), e);
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    public void rebuild() throws IOException {
+        writerLock.lock();
+        try {
+            searchIndex.deleteAll();
+            for (DocType type : DocType.values()) {
+                load(type);
+            }
+            searchIndex.refresh();
+        } finally {
+            writerLock.unlock();
+        }
+        log.debug("Search index rebuilt");
+    }
+
+    private void reload(DocType type) throws IOException {
+        searchIndex.deleteByType(type);
+        load(type);
+    }
+
+    private void load(DocType type) throws IOException {
+        switch (type) {
+            case USER -> load(userRepository::findByIdGreaterThanOrderByIdAsc, User::getId);
+            case HACKATHON -> load(hackathonRepository::findByIdGreaterThanOrderByIdAsc, Hackathon::getId);
+            case TEAM -> load(teamRepository::findByIdGreaterThanOrderByIdAsc, Team::getId);
+            case SKILL -> load(skillRepository::findByIdGreaterThanOrderByIdAsc, Skill::getId);
+            case SUBMISSION -> load(submissionRepository::findByIdGreaterThanOrderByIdAsc, Submission::getId);
+        }
+    }
+
+    private <T> void load(BiFunction<Long, Pageable, List<T>> pageAfter,
+                          Function<T, Long> idOf) throws IOException {
+        long lastId = 0;
+        List<T> page;
+        do {
+            page = pageAfter.apply(lastId, PageRequest.ofSize(LOAD_PAGE_SIZE));
+            for (T entity : page) {
+                searchIndex.upsert(toDocument(entity));
+            }
+            if (!page.isEmpty()) {
+                lastId = idOf.apply(page.get(page.size() - 1));
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+    }
+
+    private void reindex(DocType type, Long id) throws IOException {
+        Optional<?> entity = find(type, id);
+        if (entity.isPresent()) {
+            searchIndex.upsert(toDocument(entity.get()));
+        } else {
+            deleteCascading(type.key(id));
+        }
+    }
+
+    private void deleteCascading(String key) throws IOException {
+        searchIndex.delete(key);
+        for (String dependent : searchIndex.findReferencing(key)) {
+            String[] parts = dependent.split(":", 2);
+            DocType type = DocType.valueOf(parts[0].toUpperCase());
+            Long id = Long.valueOf(parts[1]);
+            // existsById always asks the database; find could return a cached entity the cascade already removed
+            if (exists(type, id)) {
+                reindex(type, id);
+            } else {
+                deleteCascading(dependent);
+            }
+        }
+    }
+
+    private Optional<?> find(DocType type, Long id) {
+        return switch (type) {
+            case USER -> userRepository.findById(id);
+            case HACKATHON -> hackathonRepository.findById(id);
+            case TEAM -> teamRepository.findById(id);
+            case SKILL -> skillRepository.findById(id);
+            case SUBMISSION -> submissionRepository.findById(id);
+        };
+    }
+
+    private boolean exists(DocType type, Long id) {
+        return switch (type) {
+            case USER -> userRepository.existsById(id);
+            case HACKATHON -> hackathonRepository.existsById(id);
+            case TEAM -> teamRepository.existsById(id);
+            case SKILL -> skillRepository.existsById(id);
+            case SUBMISSION -> submissionRepository.existsById(id);
+        };
+    }
+
+    private static DocType typeOf(Class<?> entityType) {
+        if (entityType == User.class) {
+            return DocType.USER;
+        } else if (entityType == Hackathon.class) {
+            return DocType.HACKATHON;
+        } else if (entityType == Team.class) {
+            return DocType.TEAM;
+        } else if (entityType == Skill.class) {
+            return DocType.SKILL;
+        } else if (entityType == Submission.class) {
+            return DocType.SUBMISSION;
+        }
+        return null;
+    }
+
+    // Lazy associations are only asked for their id, which never initializes the proxy
+    private static Document toDocument(Object entity) {
+        if (entity instanceof User user) {
+            return SearchIndex.document(DocType.USER, user.getId(), user.getName(),
+                    Arrays.asList(user.getEmail()), List.of());
+        } else if (entity instanceof Hackathon hackathon) {
+            return SearchIndex.document(DocType.HACKATHON, hackathon.getId(), hackathon.getTitle(),
+                    Arrays.asList(hackathon.getDescription()),
+                    List.of(DocType.USER.key(hackathon.getCreatedBy().getId())));
+        } else if (entity instanceof Team team) {
+            return SearchIndex.document(DocType.TEAM, team.getId(), team.getTeamName(), List.of(),
+                    List.of(DocType.HACKATHON.key(team.getHackathon().getId()),
+                            DocType.USER.key(team.getCreatedBy().getId())));
+        } else if (entity instanceof Skill skill) {
+            return SearchIndex.document(DocType.SKILL, skill.getId(), skill.getSkillName(), List.of(), List.of());
+        } else if (entity instanceof Submission submission) {
+            return SearchIndex.document(DocType.SUBMISSION, submission.getId(), submission.getProjectTitle(),
+                    Arrays.asList(submission.getProjectDescription(), submission.getTechnologies(), submission.getFeatures()),
+                    List.of(DocType.TEAM.key(submission.getTeam().getId()),
+                            DocType.HACKATHON.key(submission.getHackathon().getId()),
+                            DocType.USER.key(submission.getSubmittedBy().getId())));
+        }
+        throw new IllegalArgumentException("Not searchable: " + entity.getClass());
+    }
+}
@@ -0,0 +1,230 @@
+package com.buildtogether.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Prefix trie over normalized names in which every node caches the best `topK` entries of its subtree, so a lookup
+// is a walk down the prefix plus a copy of at most topK entries, independent of how many names share the prefix.
+// Names are also indexed from the start of each later word ("smi" finds "John Smith"). Not thread-safe.
+final class SuggestionTrie {
+
+    static final int MAX_KEY_LENGTH = 64;
+
+    record Entry(long id, String text, long popularity) {
+    }
+
+    // Most popular first; ties broken alphabetically, then by id, so results are stable
+    static final Comparator<Entry> RANK = Comparator.comparingLong(Entry::popularity).reversed()
+            .thenComparing(Entry::text)
+            .thenComparingLong(Entry::id);
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final int topK;
+    private final Node root = new Node();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    private static final class Node {
+        // Children kept as parallel arrays sorted by character, looked up by binary search
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        // Entries with a key ending at this node
+        private Entry[] terminal = NO_ENTRIES;
+        // Best topK entries of this node's subtree, sorted by RANK
+        private Entry[] top = NO_ENTRIES;
+
+        private Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        private Node addChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            Node child = new Node();
+            keys = insertChar(keys, at, c);
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, at);
+            grown[at] = child;
+            System.arraycopy(children, at, grown, at + 1, children.length - at);
+            children = grown;
+            return child;
+        }
+
+        private void removeChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i < 0) {
+                return;
+            }
+            char[] fewerKeys = new char[keys.length - 1];
+            Node[] fewerChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, fewerKeys, 0, i);
+            System.arraycopy(keys, i + 1, fewerKeys, i, keys.length - i - 1);
+            System.arraycopy(children, 0, fewerChildren, 0, i);
+            System.arraycopy(children, i + 1, fewerChildren, i, children.length - i - 1);
+            keys = fewerKeys;
+            children = fewerChildren;
+        }
+
+        private boolean isEmpty() {
+            return terminal.length == 0 && children.length == 0;
+        }
+    }
+
+    SuggestionTrie(int topK) {
+        this.topK = topK;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    void put(long id, String text, long popularity) {
+        remove(id);
+        if (text == null || normalize(text).isEmpty()) {
+            return;
+        }
+        Entry entry = new Entry(id, text, popularity);
+        entries.put(id, entry);
+        for (String key : keys(text)) {
+            insert(key, entry);
+        }
+    }
+
+    void remove(long id) {
+        Entry entry = entries.remove(id);
+        if (entry != null) {
+            for (String key : keys(entry.text())) {
+                delete(key, entry);
+            }
+        }
+    }
+
+    List<Entry> lookup(String prefix, int limit) {
+        Node node = root;
+        for (char c : normalize(prefix).toCharArray()) {
+            node = node.child(c);
+            if (node == null) {
+                return List.of();
+            }
+        }
+        return List.of(Arrays.copyOf(node.top, Math.min(limit, node.top.length)));
+    }
+
+    private void insert(String key, Entry entry) {
+        Node node = root;
+        offer(node, entry);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.addChild(key.charAt(i));
+            offer(node, entry);
+        }
+        node.terminal = append(node.terminal, entry);
+    }
+
+    // An insert can only push entries down a node's ranking, so merging into each cached list on the path suffices
+    private void offer(Node node, Entry entry) {
+        Entry[] top = node.top;
+        for (Entry existing : top) {
+            if (existing.id() == entry.id()) {
+                return;
+            }
+        }
+        int at = Arrays.binarySearch(top, entry, RANK);
+        at = at >= 0 ? at : -at - 1;
+        if (at >= topK) {
+            return;
+        }
+        int size = Math.min(top.length + 1, topK);
+        Entry[] merged = new Entry[size];
+        System.arraycopy(top, 0, merged, 0, at);
+        merged[at] = entry;
+        System.arraycopy(top, at, merged, at + 1, size - at - 1);
+        node.top = merged;
+    }
+
+    // A removal can promote entries from deeper in the subtree, so the affected cached lists are rebuilt bottom-up
+    private void delete(String key, Entry entry) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        Node end = path[key.length()];
+        end.terminal = Arrays.stream(end.terminal).filter(e -> e != entry).toArray(Entry[]::new);
+        for (int depth = key.length(); depth >= 0; depth--) {
+            Node node = path[depth];
+            if (depth > 0 && node.isEmpty()) {
+                path[depth - 1].removeChild(key.charAt(depth - 1));
+                continue;
+            }
+            if (contains(node.top, entry)) {
+                node.top = rebuildTop(node);
+            }
+        }
+    }
+
+    private Entry[] rebuildTop(Node node) {
+        Set<Entry> candidates = new LinkedHashSet<>(Arrays.asList(node.terminal));
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        List<Entry> sorted = new ArrayList<>(candidates);
+        sorted.sort(RANK);
+        return sorted.subList(0, Math.min(topK, sorted.size())).toArray(NO_ENTRIES);
+    }
+
+    private static boolean contains(Entry[] entries, Entry entry) {
+        for (Entry e : entries) {
+            if (e == entry) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Entry[] append(Entry[] entries, Entry entry) {
+        Entry[] grown = Arrays.copyOf(entries, entries.length + 1);
+        grown[entries.length] = entry;
+        return grown;
+    }
+
+    private static char[] insertChar(char[] chars, int at, char c) {
+        char[] grown = new char[chars.length + 1];
+        System.arraycopy(chars, 0, grown, 0, at);
+        grown[at] = c;
+        System.arraycopy(chars, at, grown, at + 1, chars.length - at);
+        return grown;
+    }
+
+    // The whole name plus every suffix starting at a word, capped so one long name cannot deepen the trie unboundedly
+    private static Set<String> keys(String text) {
+        String normalized = normalize(text);
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(cap(normalized));
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(cap(normalized.substring(i + 1)));
+        }
+        return keys;
+    }
+
+    static String normalize(String text) {
+        return text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String cap(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+}
@@ -0,0 +1,131 @@
+package com.buildtogether.service;
+
+import com.buildtogether.dto.HackathonDTO;
+import com.buildtogether.entity.Hackathon;
+import com.buildtogether.entity.User;
+import com.buildtogether.event.EntityChangedEvent;
+import com.buildtogether.monitoring.QueryCounter;
+import com.buildtogether.repository.HackathonRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Immutable in-memory view of the hackathons running today, so GET /hackathons/active never touches the database.
+// Rebuilt after hackathon writes and at the next start/end date boundary (midnight of the day the set can change).
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveHackathonSnapshot {
+
+    private final HackathonRepository hackathonRepository;
+    private final TaskScheduler taskScheduler;
+
+    // Not a monitor: refresh waits on JDBC, which would pin a virtual thread to its carrier
+    private final Lock refreshLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    private ScheduledFuture<?> scheduledRefresh;
+
+    private record Snapshot(List<HackathonDTO> active, LocalDate validUntil) {
+    }
+
+    public List<HackathonDTO> current() {
+        Snapshot current = snapshot;
+        // Guards against a missed or late boundary refresh: never serve a snapshot past its last valid day
+        if (isStale(current)) {
+            current = refreshIfStale();
+        }
+        return current.active();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        // Hackathons also cascade away with the user who created them
+        if (event.isFor(Hackathon.class)
+                || (event.isFor(User.class) && event.change() == EntityChangedEvent.Change.DELETED)) {
+            QueryCounter.untracked(this::rebuild);
+        }
+    }
+
+    public void rebuild() {
+        refresh();
+    }
+
+    private Snapshot refresh() {
+        refreshLock.lock();
+        try {
+            return refreshLocked();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // Readers that queued on the lock behind the one rebuilding a stale snapshot take its result instead of
+    // reloading again
+    private Snapshot refreshIfStale() {
+        refreshLock.lock();
+        try {
+            Snapshot current = snapshot;
+            return isStale(current) ? refreshLocked() : current;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private static boolean isStale(Snapshot snapshot) {
+        return snapshot == null || !LocalDate.now().isBefore(snapshot.validUntil());
+    }
+
+    private Snapshot refreshLocked() {
+        LocalDate today = LocalDate.now();
+        List<HackathonDTO> active = new ArrayList<>();
+        // Day on which the active set next changes: someone starts, or someone's last day has passed
+        LocalDate nextBoundary = LocalDate.MAX;
+
+        for (Hackathon hackathon : hackathonRepository.findByEndDateGreaterThanEqualOrderByStartDateAsc(today)) {
+            if (hackathon.getStartDate().isAfter(today)) {
+                nextBoundary = min(nextBoundary, hackathon.getStartDate());
+            } else {
+                active.add(HackathonDTO.fromHackathon(hackathon));
+                nextBoundary = min(nextBoundary, hackathon.getEndDate().plusDays(1));
+            }
+        }
+
+        Snapshot rebuilt = new Snapshot(List.copyOf(active), nextBoundary);
+        snapshot = rebuilt;
+        scheduleRefresh(nextBoundary);
+        log.debug("Active hackathon snapshot rebuilt: {} active, valid until {}", active.size(), nextBoundary);
+        return rebuilt;
+    }
+
+    private void scheduleRefresh(LocalDate boundary) {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+            scheduledRefresh = null;
+        }
+        if (!boundary.equals(LocalDate.MAX)) {
+            scheduledRefresh = taskScheduler.schedule(this::rebuild,
+                    boundary.atStartOfDay(ZoneId.systemDefault()).toInstant());
+        }
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
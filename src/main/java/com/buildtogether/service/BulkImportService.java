@@ -0,0 +1,205 @@
+package com.buildtogether.service;
+
+import com.buildtogether.dto.BulkImportResult;
+import com.buildtogether.entity.Skill;
+import com.buildtogether.entity.User;
+import com.buildtogether.entity.UserSkill;
+import com.buildtogether.event.EntityChangedEvent;
+import com.buildtogether.exception.ResourceAlreadyExistsException;
+import com.buildtogether.exception.ValidationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Set-based bulk inserts: one uniqueness query and one JDBC batch per chunk, all-or-nothing per request.
+// Bypasses JPA so large imports skip the persistence context and entity lifecycle entirely.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkImportService {
+
+    // Oracle caps IN lists at 1000 expressions, which is also a sensible JDBC batch size
+    public static final int CHUNK_SIZE = 1000;
+
+    private static final int MAX_REPORTED = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SequenceIdAllocator sequenceIdAllocator;
+
+    @Transactional
+    public BulkImportResult importUsers(InputStream body) throws IOException {
+        Set<String> seenEmails = new HashSet<>();
+        BulkImportResult result = importChunks(body, User.class, chunk -> {
+            List<String> emails = chunk.stream().map(User::getEmail).toList();
+            rejectDuplicates("User", "email", emails, seenEmails, namedParameterJdbcTemplate.queryForList(
+                    "SELECT email FROM dr_users WHERE email IN (:emails)", Map.of("emails", emails), String.class));
+
+            Iterator<Long> ids = sequenceIdAllocator.allocate("dr_users_seq", chunk.size()).iterator();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO dr_users (id, name, email, password, phone, role, github_link, linkedin_link, created_at, updated_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    chunk, chunk.size(), (ps, user) -> {
+                        ps.setLong(1, ids.next());
+                        ps.setString(2, user.getName());
+                        ps.setString(3, user.getEmail());
+                        ps.setString(4, user.getPassword());
+                        ps.setString(5, user.getPhone());
+                        ps.setString(6, user.getRole() != null ? user.getRole().name() : null);
+                        ps.setString(7, user.getGithubLink());
+                        ps.setString(8, user.getLinkedinLink());
+                        ps.setTimestamp(9, now);
+                        ps.setTimestamp(10, now);
+                    });
+        });
+        eventPublisher.publishEvent(new EntityChangedEvent(User.class, null, EntityChangedEvent.Change.CREATED));
+        return result;
+    }
+
+    @Transactional
+    public BulkImportResult importSkills(InputStream body) throws IOException {
+        Set<String> seenNames = new HashSet<>();
+        BulkImportResult result = importChunks(body, Skill.class, chunk -> {
+            List<String> names = chunk.stream().map(Skill::getSkillName).toList();
+            rejectDuplicates("Skill", "skillName", names, seenNames, namedParameterJdbcTemplate.queryForList(
+                    "SELECT skill_name FROM dr_skill WHERE skill_name IN (:names)", Map.of("names", names), String.class));
+
+            Iterator<Long> ids = sequenceIdAllocator.allocate("dr_skill_seq", chunk.size()).iterator();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO dr_skill (id, skill_name, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                    chunk, chunk.size(), (ps, skill) -> {
+                        ps.setLong(1, ids.next());
+                        ps.setString(2, skill.getSkillName());
+                        ps.setTimestamp(3, now);
+                        ps.setTimestamp(4, now);
+                    });
+        });
+        eventPublisher.publishEvent(new EntityChangedEvent(Skill.class, null, EntityChangedEvent.Change.CREATED));
+        return result;
+    }
+
+    @Transactional
+    public BulkImportResult importUserSkills(InputStream body) throws IOException {
+        Set<String> seenPairs = new HashSet<>();
+        BulkImportResult result = importChunks(body, UserSkill.class, chunk -> {
+            for (UserSkill userSkill : chunk) {
+                if (userSkill.getUser() == null || userSkill.getUser().getId() == null
+                        || userSkill.getSkill() == null || userSkill.getSkill().getId() == null) {
+                    throw new ValidationException("Every user skill needs user.id and skill.id");
+                }
+            }
+            List<String> pairs = chunk.stream().map(BulkImportService::pairKey).toList();
+            List<Object[]> pairParams = chunk.stream()
+                    .map(us -> new Object[]{us.getUser().getId(), us.getSkill().getId()})
+                    .toList();
+            rejectDuplicates("UserSkill", "(userId:skillId)", pairs, seenPairs, namedParameterJdbcTemplate.query(
+                    "SELECT user_id, skill_id FROM dr_user_skill WHERE (user_id, skill_id) IN (:pairs)",
+                    Map.of("pairs", pairParams),
+                    (rs, rowNum) -> rs.getLong("user_id") + ":" + rs.getLong("skill_id")));
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO dr_user_skill (user_id, skill_id, proficiency_level, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                    chunk, chunk.size(), (ps, userSkill) -> {
+                        ps.setLong(1, userSkill.getUser().getId());
+                        ps.setLong(2, userSkill.getSkill().getId());
+                        ps.setString(3, userSkill.getProficiencyLevel().name());
+                        ps.setTimestamp(4, now);
+                        ps.setTimestamp(5, now);
+                    });
+        });
+        eventPublisher.publishEvent(new EntityChangedEvent(UserSkill.class, null, EntityChangedEvent.Change.CREATED));
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        void write(List<T> chunk);
+    }
+
+    // Reads a JSON array or NDJSON stream item by item so memory stays bounded by one chunk
+    private <T> BulkImportResult importChunks(InputStream body, Class<T> type, ChunkWriter<T> writer) throws IOException {
+        int inserted = 0;
+        int batches = 0;
+        List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (MappingIterator<T> items = objectMapper.readerFor(type).readValues(body)) {
+            while (items.hasNextValue()) {
+                T item = items.nextValue();
+                validate(item, inserted + chunk.size());
+                chunk.add(item);
+                if (chunk.size() == CHUNK_SIZE) {
+                    writer.write(chunk);
+                    inserted += chunk.size();
+                    batches++;
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Malformed bulk payload after " + (inserted + chunk.size())
+                    + " items: " + e.getOriginalMessage());
+        }
+        if (!chunk.isEmpty()) {
+            writer.write(chunk);
+            inserted += chunk.size();
+            batches++;
+        }
+        log.info("Bulk imported {} {} rows in {} batches", inserted, type.getSimpleName(), batches);
+        return new BulkImportResult(inserted, batches);
+    }
+
+    private <T> void validate(T item, int index) {
+        Set<ConstraintViolation<T>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            String details = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            throw new ValidationException("Item " + index + " is invalid - " + details);
+        }
+    }
+
+    // Keys repeated within the request, or already present in the table, fail the whole import
+    private void rejectDuplicates(String resource, String field, List<String> keys, Set<String> seen, List<String> existing) {
+        Set<String> duplicates = new HashSet<>(existing);
+        for (String key : keys) {
+            if (!seen.add(key)) {
+                duplicates.add(key);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            String sample = duplicates.stream().sorted().limit(MAX_REPORTED).collect(Collectors.joining(", "));
+            throw new ResourceAlreadyExistsException(String.format("%s already exists with %s: %s%s", resource, field, sample,
+                    duplicates.size() > MAX_REPORTED ? " (and " + (duplicates.size() - MAX_REPORTED) + " more)" : ""));
+        }
+    }
+
+    private static String pairKey(UserSkill userSkill) {
+        return userSkill.getUser().getId() + ":" + userSkill.getSkill().getId();
+    }
+}
@@ -0,0 +1,135 @@
+package com.buildtogether.service;
+
+import com.buildtogether.config.CacheConfig;
+import com.buildtogether.dto.HackathonDTO;
+import com.buildtogether.dto.HackathonStatsDTO;
+import com.buildtogether.entity.JoinRequest;
+import com.buildtogether.entity.Submission;
+import com.buildtogether.exception.ResourceNotFoundException;
+import com.buildtogether.repository.HackathonRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class HackathonQueryService {
+
+    private final HackathonRepository hackathonRepository;
+
+    @Cacheable(cacheNames = CacheConfig.HACKATHONS, key = "'all'")
+    @Transactional(readOnly = true)
+    public List<HackathonDTO> findAll() {
+        return hackathonRepository.findAll().stream()
+                .map(HackathonDTO::fromHackathon)
+                .toList();
+    }
+
+    @Cacheable(cacheNames = CacheConfig.HACKATHON_BY_ID, key = "#id")
+    @Transactional(readOnly = true)
+    public HackathonDTO findById(Long id) {
+        return hackathonRepository.findById(id)
+                .map(HackathonDTO::fromHackathon)
+                .orElseThrow(() -> new ResourceNotFoundException("Hackathon", "id", id));
+    }
+
+    // Short-lived (app.hackathon-stats.ttl): team, join request and submission writes do not evict it
+    @Cacheable(cacheNames = CacheConfig.HACKATHON_STATS, key = "#id")
+    @Transactional(readOnly = true)
+    public HackathonStatsDTO findStats(Long id) {
+        List<Object[]> rows = hackathonRepository.findStatsRows(id);
+
+        HackathonStatsDTO stats = new HackathonStatsDTO();
+        stats.setHackathonId(id);
+        stats.setJoinRequests(zeroCounts(JoinRequest.RequestStatus.values()));
+        stats.setSubmissions(zeroCounts(Submission.SubmissionStatus.values()));
+        stats.setScoreDistribution(new TreeMap<>());
+        boolean found = false;
+        Map<Integer, Long> teamsBySize = new TreeMap<>();
+        long rankedCount = 0;
+        BigDecimal rankedTotal = BigDecimal.ZERO;
+
+        // Row layout: see HackathonRepository.SELECT_STATS
+        for (Object[] row : rows) {
+            String label = (String) row[1];
+            long count = ((Number) row[2]).longValue();
+            BigDecimal total = decimal(row[3]);
+            BigDecimal low = decimal(row[4]);
+            BigDecimal high = decimal(row[5]);
+            switch ((String) row[0]) {
+                case "HACKATHON" -> {
+                    found = true;
+                    stats.setMaxTeamSize(low.intValue());
+                }
+                case "TEAM_SIZE" -> teamsBySize.put(low.intValue(), count);
+                case "JOIN_REQUEST" -> {
+                    if (label != null) {
+                        stats.getJoinRequests().put(label, count);
+                    }
+                }
+                case "SUBMISSION" -> {
+                    stats.setSubmissionCount(stats.getSubmissionCount() + count);
+                    if (label != null) {
+                        stats.getSubmissions().put(label, count);
+                    }
+                    if (!Submission.SubmissionStatus.REJECTED.name().equals(label) && total != null) {
+                        rankedCount += ((Number) row[6]).longValue();
+                        rankedTotal = rankedTotal.add(total);
+                        stats.setMinScore(stats.getMinScore() == null ? low : stats.getMinScore().min(low));
+                        stats.setMaxScore(stats.getMaxScore() == null ? high : stats.getMaxScore().max(high));
+                    }
+                }
+                case "SCORE" -> {
+                    if (low != null) {
+                        stats.getScoreDistribution().put(low.intValue(), count);
+                    }
+                }
+                default -> throw new IllegalStateException("Unexpected stats row: " + row[0]);
+            }
+        }
+        if (!found) {
+            throw new ResourceNotFoundException("Hackathon", "id", id);
+        }
+
+        teamsBySize.forEach((size, teams) -> {
+            stats.setTeamCount(stats.getTeamCount() + teams);
+            stats.setMemberCount(stats.getMemberCount() + size * teams);
+            if (size >= stats.getMaxTeamSize()) {
+                stats.setFullTeamCount(stats.getFullTeamCount() + teams);
+            }
+        });
+        if (stats.getTeamCount() > 0) {
+            stats.setAverageTeamSize(BigDecimal.valueOf(stats.getMemberCount())
+                    .divide(BigDecimal.valueOf(stats.getTeamCount()), 2, RoundingMode.HALF_UP).doubleValue());
+        }
+        if (rankedCount > 0) {
+            stats.setAverageScore(rankedTotal.divide(BigDecimal.valueOf(rankedCount), 2, RoundingMode.HALF_UP));
+        }
+        stats.setComputedAt(LocalDateTime.now());
+        return stats;
+    }
+
+    private static Map<String, Long> zeroCounts(Enum<?>[] statuses) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Enum<?> status : statuses) {
+            counts.put(status.name(), 0L);
+        }
+        return counts;
+    }
+
+    private static BigDecimal decimal(Object value) {
+        if (value == null || value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        return new BigDecimal(value.toString());
+    }
+}
@@ -0,0 +1,327 @@
+package com.buildtogether.service;
+
+import com.buildtogether.dto.LeaderboardEntryDTO;
+import com.buildtogether.dto.LeaderboardPageDTO;
+import com.buildtogether.dto.RankChangeDTO;
+import com.buildtogether.entity.Hackathon;
+import com.buildtogether.entity.Submission;
+import com.buildtogether.entity.Team;
+import com.buildtogether.entity.User;
+import com.buildtogether.event.EntityChangedEvent;
+import com.buildtogether.event.SseBroadcaster;
+import com.buildtogether.monitoring.QueryCounter;
+import com.buildtogether.repository.SubmissionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Per-hackathon leaderboards held in memory as arrays sorted by score (best first, ties by submission id). A score,
+// status or submission change reloads that one row and moves it with a binary search, and subscribers of the
+// hackathon's stream get a rank-change event; page reads never touch the database. Team and user deletes (which
+// cascade to submissions) and bulk changes trigger a full rebuild, announced to subscribers as a reset.
+@Component
+@Slf4j
+public class LeaderboardIndex {
+
+    public static final String RANK_EVENT = "rank";
+    public static final String RESET_EVENT = "reset";
+    public static final String SNAPSHOT_EVENT = "snapshot";
+
+    private static final Comparator<Standing> ORDER = Comparator.comparing(Standing::score, Comparator.reverseOrder())
+            .thenComparingLong(Standing::submissionId);
+
+    private final SubmissionRepository submissionRepository;
+    private final SseBroadcaster<Long> broadcaster;
+
+    // Readers take the read lock; writers are serialized by writerLock and take the write lock only to mutate
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock writerLock = new ReentrantLock();
+    private final Map<Long, Board> boards = new HashMap<>();
+    // Current standing of every ranked submission, the key its board position is found by
+    private final Map<Long, Standing> standingsBySubmission = new HashMap<>();
+
+    public LeaderboardIndex(SubmissionRepository submissionRepository, ObjectMapper objectMapper,
+                            @Value("${app.leaderboard.stream-timeout:30m}") Duration streamTimeout,
+                            @Value("${app.leaderboard.stream-backlog:64}") int streamBacklog,
+                            @Value("${app.leaderboard.stream-writers:8}") int streamWriters,
+                            @Value("${app.leaderboard.stream-write-timeout:10s}") Duration streamWriteTimeout) {
+        this.submissionRepository = submissionRepository;
+        this.broadcaster = new SseBroadcaster<>("leaderboard-events", objectMapper, streamTimeout, streamBacklog,
+                streamWriters, streamWriteTimeout);
+    }
+
+    private record Standing(long submissionId, long hackathonId, Long teamId, String teamName, String projectTitle,
+                            BigDecimal score, String status, LocalDateTime submittedAt) {
+
+        static Standing of(LeaderboardEntryDTO row) {
+            return new Standing(row.getSubmissionId(), row.getHackathonId(), row.getTeamId(), row.getTeamName(),
+                    row.getProjectTitle(), row.getScore(), row.getStatus(), row.getSubmittedAt());
+        }
+
+        LeaderboardEntryDTO toEntry(long rank) {
+            return new LeaderboardEntryDTO(rank, submissionId, hackathonId, teamId, teamName, projectTitle, score,
+                    status, submittedAt);
+        }
+    }
+
+    private static final class Board {
+        private final List<Standing> standings = new ArrayList<>();
+        private long version;
+
+        int indexOf(Standing standing) {
+            return Collections.binarySearch(standings, standing, ORDER);
+        }
+
+        // Standard competition ranking (1, 2, 2, 4): one plus the number of strictly higher scores
+        long rankAt(int index) {
+            BigDecimal score = standings.get(index).score();
+            int low = 0;
+            int high = index;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (standings.get(mid).score().compareTo(score) > 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low + 1;
+        }
+    }
+
+    // Null when no submission of the hackathon has been ranked yet
+    public LeaderboardPageDTO page(Long hackathonId, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Board board = boards.get(hackathonId);
+            return board == null ? null : page(hackathonId, board, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean tracks(Long hackathonId) {
+        lock.readLock().lock();
+        try {
+            return boards.containsKey(hackathonId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Opens a rank-change stream that starts with a snapshot of the first `limit` entries
+    public SseEmitter subscribe(Long hackathonId, int limit) {
+        return broadcaster.subscribe(hackathonId, () -> {
+            LeaderboardPageDTO snapshot = page(hackathonId, 0, limit);
+            if (snapshot == null) {
+                snapshot = new LeaderboardPageDTO(hackathonId, 0, 0, 0, List.of());
+            }
+            return new SseBroadcaster.Event(SNAPSHOT_EVENT, snapshot.getVersion(), snapshot);
+        });
+    }
+
+    public int subscriberCount() {
+        return broadcaster.subscriberCount();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        QueryCounter.untracked(() -> apply(event));
+    }
+
+    private void apply(EntityChangedEvent event) {
+        boolean deleted = event.change() == EntityChangedEvent.Change.DELETED;
+        if (event.isFor(Submission.class)) {
+            if (event.id() instanceof Long submissionId) {
+                refresh(submissionId, deleted);
+            } else {
+                rebuild();
+            }
+        } else if (event.isFor(Team.class) && event.change() == EntityChangedEvent.Change.UPDATED
+                && event.id() instanceof Long teamId) {
+            refreshTeam(teamId);
+        } else if (event.isFor(Hackathon.class) && deleted && event.id() instanceof Long hackathonId) {
+            removeHackathon(hackathonId);
+        } else if ((event.isFor(Team.class) || event.isFor(User.class)) && deleted) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        writerLock.lock();
+        try {
+            // Loaded outside the write lock so pages keep being served from the old boards meanwhile
+            Map<Long, List<Standing>> loaded = new HashMap<>();
+            for (LeaderboardEntryDTO row : submissionRepository.findLeaderboardEntries()) {
+                loaded.computeIfAbsent(row.getHackathonId(), id -> new ArrayList<>()).add(Standing.of(row));
+            }
+            List<Map.Entry<Long, Long>> resets = new ArrayList<>();
+            lock.writeLock().lock();
+            try {
+                Map<Long, Board> previous = new HashMap<>(boards);
+                boards.clear();
+                standingsBySubmission.clear();
+                loaded.forEach((hackathonId, standings) -> {
+                    standings.sort(ORDER);
+                    Board board = new Board();
+                    board.standings.addAll(standings);
+                    standings.forEach(standing -> standingsBySubmission.put(standing.submissionId(), standing));
+                    boards.put(hackathonId, board);
+                });
+                // Versions keep counting up across rebuilds so clients never mistake new state for old
+                previous.forEach((hackathonId, old) -> {
+                    Board board = boards.computeIfAbsent(hackathonId, id -> new Board());
+                    board.version = old.version + 1;
+                    resets.add(Map.entry(hackathonId, board.version));
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+            resets.forEach(reset -> broadcaster.publish(reset.getKey(), RESET_EVENT, reset.getValue(), reset.getValue()));
+            log.debug("Leaderboards rebuilt: {} hackathons, {} ranked submissions", loaded.size(),
+                    loaded.values().stream().mapToInt(List::size).sum());
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    private void refresh(Long submissionId, boolean deleted) {
+        writerLock.lock();
+        try {
+            Optional<LeaderboardEntryDTO> row = deleted
+                    ? Optional.empty()
+                    : submissionRepository.findLeaderboardEntryById(submissionId);
+            publish(move(submissionId, row.map(Standing::of).orElse(null)));
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    // Team renames show up in every entry of the team
+    private void refreshTeam(Long teamId) {
+        writerLock.lock();
+        try {
+            List<RankChangeDTO> changes = new ArrayList<>();
+            for (LeaderboardEntryDTO row : submissionRepository.findLeaderboardEntriesByTeamId(teamId)) {
+                changes.addAll(move(row.getSubmissionId(), Standing.of(row)));
+            }
+            publish(changes);
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    private void removeHackathon(Long hackathonId) {
+        writerLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                Board board = boards.remove(hackathonId);
+                if (board != null) {
+                    board.standings.forEach(standing -> standingsBySubmission.remove(standing.submissionId()));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            broadcaster.complete(hackathonId);
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    // Takes the submission out of the board it is on (if any) and puts its new standing in place (unless null).
+    // One change per board touched: two when the submission moved to another hackathon.
+    private List<RankChangeDTO> move(Long submissionId, Standing standing) {
+        lock.writeLock().lock();
+        try {
+            List<RankChangeDTO> changes = new ArrayList<>(2);
+            Standing previous = standingsBySubmission.get(submissionId);
+            if (Objects.equals(previous, standing)) {
+                return List.of();
+            }
+            Long previousRank = null;
+            if (previous != null) {
+                Board previousBoard = boards.get(previous.hackathonId());
+                int index = previousBoard.indexOf(previous);
+                previousRank = previousBoard.rankAt(index);
+                previousBoard.standings.remove(index);
+                standingsBySubmission.remove(submissionId);
+                if (standing == null || standing.hackathonId() != previous.hackathonId()) {
+                    changes.add(new RankChangeDTO(previous.hackathonId(), ++previousBoard.version, submissionId,
+                            previousRank, null, null));
+                    previousRank = null;
+                }
+            }
+            if (standing != null) {
+                Board board = boards.computeIfAbsent(standing.hackathonId(), id -> new Board());
+                int index = -board.indexOf(standing) - 1;
+                board.standings.add(index, standing);
+                standingsBySubmission.put(submissionId, standing);
+                long rank = board.rankAt(index);
+                changes.add(new RankChangeDTO(standing.hackathonId(), ++board.version, submissionId, previousRank,
+                        rank, standing.toEntry(rank)));
+            }
+            return changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void publish(List<RankChangeDTO> changes) {
+        for (RankChangeDTO change : changes) {
+            broadcaster.publish(change.getHackathonId(), RANK_EVENT, change.getVersion(), change);
+        }
+    }
+
+    private static LeaderboardPageDTO page(Long hackathonId, Board board, int offset, int limit) {
+        int total = board.standings.size();
+        int from = Math.min(offset, total);
+        int to = Math.min(total, from + limit);
+        List<LeaderboardEntryDTO> entries = new ArrayList<>(to - from);
+        long rank = 0;
+        BigDecimal lastScore = null;
+        for (int i = from; i < to; i++) {
+            Standing standing = board.standings.get(i);
+            if (lastScore == null) {
+                rank = board.rankAt(i);
+            } else if (standing.score().compareTo(lastScore) != 0) {
+                rank = i + 1;
+            }
+            lastScore = standing.score();
+            entries.add(standing.toEntry(rank));
+        }
+        return new LeaderboardPageDTO(hackathonId, board.version, total, from, entries);
+    }
+
+    @PreDestroy
+    public void close() {
+        broadcaster.close();
+    }
+}
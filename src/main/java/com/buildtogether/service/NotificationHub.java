@@ -0,0 +1,120 @@
+package com.buildtogether.service;
+
+import com.buildtogether.dto.NotificationDTO;
+import com.buildtogether.entity.Team;
+import com.buildtogether.entity.User;
+import com.buildtogether.event.EntityChangedEvent;
+import com.buildtogether.event.MembershipEvent;
+import com.buildtogether.event.SseBroadcaster;
+import com.buildtogether.monitoring.QueryCounter;
+import com.buildtogether.repository.TeamRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-user notification streams for join-request and membership changes. Each committed MembershipEvent goes to
+// the user it is about and to the team lead (the team's creator), serialized once for all of their open streams.
+// Nothing is looked up while nobody is connected; team leads are cached until the team changes.
+@Component
+@Slf4j
+public class NotificationHub {
+
+    public static final String READY_EVENT = "ready";
+
+    private final TeamRepository teamRepository;
+    private final SseBroadcaster<Long> broadcaster;
+    private final Map<Long, Long> leadByTeamId = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public NotificationHub(TeamRepository teamRepository, ObjectMapper objectMapper,
+                           @Value("${app.notifications.stream-timeout:30m}") Duration streamTimeout,
+                           @Value("${app.notifications.stream-backlog:64}") int streamBacklog,
+                           @Value("${app.notifications.stream-writers:8}") int streamWriters,
+                           @Value("${app.notifications.stream-write-timeout:10s}") Duration streamWriteTimeout) {
+        this.teamRepository = teamRepository;
+        this.broadcaster = new SseBroadcaster<>("notification-events", objectMapper, streamTimeout, streamBacklog,
+                streamWriters, streamWriteTimeout);
+    }
+
+    // Opens a user's stream with a "ready" event; clients refresh their lists once it arrives, since anything
+    // that happened while they were disconnected is not replayed
+    public SseEmitter subscribe(Long userId) {
+        return broadcaster.subscribe(userId, () -> {
+            long current = sequence.get();
+            return new SseBroadcaster.Event(READY_EVENT, current,
+                    new NotificationDTO(current, READY_EVENT, null, userId, null, LocalDateTime.now()));
+        });
+    }
+
+    public int subscriberCount() {
+        return broadcaster.subscriberCount();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipEvent(MembershipEvent event) {
+        if (!broadcaster.hasSubscribers()) {
+            return;
+        }
+        QueryCounter.untracked(() -> {
+            Set<Long> recipients = new LinkedHashSet<>();
+            recipients.add(event.userId());
+            Long leadId = teamLead(event.teamId());
+            if (leadId != null) {
+                recipients.add(leadId);
+            }
+            long id = sequence.incrementAndGet();
+            NotificationDTO notification = new NotificationDTO(id, event.type().eventName(), event.teamId(),
+                    event.userId(), event.payload(), LocalDateTime.now());
+            broadcaster.publish(recipients, event.type().eventName(), id, notification);
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.isFor(Team.class)) {
+            if (event.id() instanceof Long teamId) {
+                leadByTeamId.remove(teamId);
+            } else {
+                leadByTeamId.clear();
+            }
+        } else if (event.isFor(User.class) && event.change() == EntityChangedEvent.Change.DELETED) {
+            // Deleting a user deletes the teams they created
+            leadByTeamId.clear();
+            if (event.id() instanceof Long userId) {
+                broadcaster.complete(userId);
+            }
+        }
+    }
+
+    private Long teamLead(Long teamId) {
+        if (teamId == null) {
+            return null;
+        }
+        Long cached = leadByTeamId.get(teamId);
+        if (cached != null) {
+            return cached;
+        }
+        Long leadId = teamRepository.findCreatorIdById(teamId).orElse(null);
+        if (leadId != null) {
+            leadByTeamId.put(teamId, leadId);
+        }
+        return leadId;
+    }
+
+    @PreDestroy
+    public void close() {
+        broadcaster.close();
+    }
+}
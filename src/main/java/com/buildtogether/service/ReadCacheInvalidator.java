@@ -0,0 +1,71 @@
+package com.buildtogether.service;
+
+import com.buildtogether.config.CacheConfig;
+import com.buildtogether.entity.Hackathon;
+import com.buildtogether.entity.Skill;
+import com.buildtogether.entity.Team;
+import com.buildtogether.entity.User;
+import com.buildtogether.event.EntityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Evicts exactly the read-cache entries a write can have made stale, once the write has committed
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.isFor(Hackathon.class)) {
+            evict(CacheConfig.HACKATHON_BY_ID, event.id());
+            evict(CacheConfig.HACKATHON_STATS, event.id());
+            clear(CacheConfig.HACKATHONS);
+            if (event.change() == EntityChangedEvent.Change.DELETED) {
+                // Teams cascade with their hackathon
+                clearTeams();
+            }
+        } else if (event.isFor(Skill.class)) {
+            evict(CacheConfig.SKILL_BY_ID, event.id());
+            clear(CacheConfig.SKILLS);
+        } else if (event.isFor(Team.class)) {
+            evict(CacheConfig.TEAM_BY_ID, event.id());
+            clear(CacheConfig.TEAMS);
+            // An update may move the team to another hackathon, so drop every per-hackathon list
+            clear(CacheConfig.TEAMS_BY_HACKATHON);
+        } else if (event.isFor(User.class) && event.change() == EntityChangedEvent.Change.DELETED) {
+            // Hackathons and teams created by the user cascade with it
+            clear(CacheConfig.HACKATHON_BY_ID);
+            clear(CacheConfig.HACKATHONS);
+            clear(CacheConfig.HACKATHON_STATS);
+            clearTeams();
+        }
+    }
+
+    private void clearTeams() {
+        clear(CacheConfig.TEAM_BY_ID);
+        clear(CacheConfig.TEAMS);
+        clear(CacheConfig.TEAMS_BY_HACKATHON);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            log.debug("Clearing cache {}", cacheName);
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.buildtogether.service;
+
+import com.buildtogether.entity.PooledSequenceGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Hands out ids for plain-JDBC inserts with the same pooled-lo blocks PooledSequenceGenerator uses,
+// so bulk imports and Hibernate can share a sequence without collisions or one NEXTVAL per row
+@Component
+public class SequenceIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+    private final int allocationSize;
+
+    public SequenceIdAllocator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                               @Value("${app.id.allocation-size:" + PooledSequenceGenerator.DEFAULT_ALLOCATION_SIZE + "}") int allocationSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.allocationSize = allocationSize;
+    }
+
+    public List<Long> allocate(String sequenceName, int count) {
+        String nextValSql = dialect.getSequenceSupport().getSequenceNextValString(sequenceName);
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            long lo = jdbcTemplate.queryForObject(nextValSql, Long.class);
+            for (long id = lo; id < lo + allocationSize && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+}
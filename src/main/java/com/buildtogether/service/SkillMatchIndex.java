@@ -0,0 +1,322 @@
+package com.buildtogether.service;
+
+import com.buildtogether.dto.UserSkillDTO;
+import com.buildtogether.entity.Skill;
+import com.buildtogether.entity.User;
+import com.buildtogether.entity.UserSkill;
+import com.buildtogether.entity.UserSkillId;
+import com.buildtogether.event.EntityChangedEvent;
+import com.buildtogether.monitoring.QueryCounter;
+import com.buildtogether.repository.UserSkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index of skill -> users, one bitset per proficiency level, so ranking candidates for a set
+// of skills is a few bitset scans instead of a JOIN per skill. Users are mapped to dense slots (bit positions).
+// Kept in sync with user-skill, user and skill writes once they commit; bulk imports trigger a full rebuild.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkillMatchIndex {
+
+    private static final int LOAD_PAGE_SIZE = 10_000;
+    private static final UserSkill.ProficiencyLevel[] LEVELS = UserSkill.ProficiencyLevel.values();
+    // Larger than any summed proficiency weight (at most 4 per requested skill), so matches dominate the ranking
+    private static final int MATCH_WEIGHT = 1 << 16;
+    // Score accumulators indexed by user slot, always handed back all zeros. Pooled rather than per-thread so
+    // that short-lived virtual threads do not each allocate one sized to every user.
+    private static final BlockingQueue<int[]> SCRATCH =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    private final UserSkillRepository userSkillRepository;
+
+    // Readers take the read lock; writers are serialized by writerLock and take the write lock only to mutate.
+    // writerLock is not a monitor because writers wait on JDBC, which would pin a virtual thread to its carrier.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock writerLock = new ReentrantLock();
+    private State state = new State();
+
+    public record Candidate(long userId, int matchedSkills, int score, Map<Long, UserSkill.ProficiencyLevel> skills) {
+    }
+
+    // Ranks users holding at least one of the (distinct) skills at minLevel or above: most matched skills first, then the
+    // highest summed proficiency weight (BEGINNER = 1 .. EXPERT = 4), then lowest user id
+    public List<Candidate> rank(Collection<Long> skillIds, UserSkill.ProficiencyLevel minLevel,
+                                Collection<Long> excludedUserIds, int limit) {
+        lock.readLock().lock();
+        try {
+            return state.rank(skillIds, minLevel, excludedUserIds, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.slotByUserId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        QueryCounter.untracked(() -> apply(event));
+    }
+
+    private void apply(EntityChangedEvent event) {
+        boolean deleted = event.change() == EntityChangedEvent.Change.DELETED;
+        if (event.isFor(UserSkill.class)) {
+            if (event.id() instanceof UserSkillId id) {
+                reindexUser(id.getUserId());
+            } else {
+                rebuild();
+            }
+        } else if (event.isFor(User.class) && deleted && event.id() instanceof Long userId) {
+            removeUser(userId);
+        } else if (event.isFor(Skill.class) && deleted && event.id() instanceof Long skillId) {
+            removeSkill(skillId);
+        }
+    }
+
+    public void rebuild() {
+        writerLock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        // Loaded outside the write lock so reads keep being served from the old index meanwhile
+        State rebuilt = new State();
+        long lastUserId = 0;
+        long lastSkillId = 0;
+        List<UserSkillDTO> page;
+        do {
+            page = userSkillRepository.findDtoPageAfter(lastUserId, lastSkillId, PageRequest.ofSize(LOAD_PAGE_SIZE));
+            for (UserSkillDTO dto : page) {
+                rebuilt.put(dto.getUserId(), dto.getSkillId(), UserSkill.ProficiencyLevel.valueOf(dto.getProficiencyLevel()));
+            }
+            if (!page.isEmpty()) {
+                UserSkillDTO last = page.get(page.size() - 1);
+                lastUserId = last.getUserId();
+                lastSkillId = last.getSkillId();
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            state = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Skill match index rebuilt: {} users, {} skills", rebuilt.slotByUserId.size(), rebuilt.postings.size());
+    }
+
+    private void reindexUser(Long userId) {
+        writerLock.lock();
+        try {
+            List<UserSkillDTO> userSkills = userSkillRepository.findDtosByUserId(userId);
+            lock.writeLock().lock();
+            try {
+                state.remove(userId);
+                for (UserSkillDTO dto : userSkills) {
+                    state.put(userId, dto.getSkillId(), UserSkill.ProficiencyLevel.valueOf(dto.getProficiencyLevel()));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    private void removeUser(Long userId) {
+        writerLock.lock();
+        lock.writeLock().lock();
+        try {
+            state.remove(userId);
+        } finally {
+            lock.writeLock().unlock();
+            writerLock.unlock();
+        }
+    }
+
+    private void removeSkill(Long skillId) {
+        writerLock.lock();
+        lock.writeLock().lock();
+        try {
+            state.postings.remove(skillId);
+        } finally {
+            lock.writeLock().unlock();
+            writerLock.unlock();
+        }
+    }
+
+    private static final class State {
+
+        // skillId -> one bitset of user slots per proficiency level (indexed by ordinal)
+        private final Map<Long, BitSet[]> postings = new HashMap<>();
+        private final Map<Long, Integer> slotByUserId = new HashMap<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private long[] userIdBySlot = new long[1024];
+
+        private void put(long userId, long skillId, UserSkill.ProficiencyLevel level) {
+            int slot = slotByUserId.computeIfAbsent(userId, this::assignSlot);
+            BitSet[] levels = postings.computeIfAbsent(skillId, id -> new BitSet[LEVELS.length]);
+            for (int i = 0; i < levels.length; i++) {
+                if (levels[i] != null) {
+                    levels[i].clear(slot);
+                }
+            }
+            if (levels[level.ordinal()] == null) {
+                levels[level.ordinal()] = new BitSet();
+            }
+            levels[level.ordinal()].set(slot);
+        }
+
+        private void remove(long userId) {
+            Integer slot = slotByUserId.remove(userId);
+            if (slot == null) {
+                return;
+            }
+            for (BitSet[] levels : postings.values()) {
+                for (BitSet users : levels) {
+                    if (users != null) {
+                        users.clear(slot);
+                    }
+                }
+            }
+            freeSlots.push(slot);
+        }
+
+        private int assignSlot(long userId) {
+            int slot = freeSlots.isEmpty() ? slotByUserId.size() : freeSlots.pop();
+            if (slot >= userIdBySlot.length) {
+                userIdBySlot = Arrays.copyOf(userIdBySlot, userIdBySlot.length * 2);
+            }
+            userIdBySlot[slot] = userId;
+            return slot;
+        }
+
+        private List<Candidate> rank(Collection<Long> skillIds, UserSkill.ProficiencyLevel minLevel,
+                                     Collection<Long> excludedUserIds, int limit) {
+            int[] keys = SCRATCH.poll();
+            if (keys == null || keys.length < userIdBySlot.length) {
+                keys = new int[userIdBySlot.length];
+            }
+            // One pass over each posting list: every hit adds MATCH_WEIGHT plus its proficiency weight, so a
+            // user's key orders by matched skills first and summed proficiency second
+            List<BitSet[]> required = new ArrayList<>(skillIds.size());
+            BitSet candidates = new BitSet();
+            for (Long skillId : skillIds) {
+                BitSet[] levels = postings.get(skillId);
+                required.add(levels);
+                if (levels == null) {
+                    continue;
+                }
+                for (int i = minLevel.ordinal(); i < levels.length; i++) {
+                    BitSet users = levels[i];
+                    if (users == null) {
+                        continue;
+                    }
+                    candidates.or(users);
+                    for (int slot = users.nextSetBit(0); slot >= 0; slot = users.nextSetBit(slot + 1)) {
+                        keys[slot] += MATCH_WEIGHT + i + 1;
+                    }
+                }
+            }
+            for (Long userId : excludedUserIds) {
+                Integer slot = slotByUserId.get(userId);
+                if (slot != null) {
+                    candidates.clear(slot);
+                    keys[slot] = 0;
+                }
+            }
+
+            // Bounded min-heap of {key, slot}: the head is the weakest of the best `limit` seen so far.
+            // Reading a key also resets it, leaving the scratch array zeroed for the next call.
+            PriorityQueue<int[]> best = new PriorityQueue<>(limit + 1, (a, b) -> compare(a[0], a[1], b[0], b[1]));
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                int key = keys[slot];
+                keys[slot] = 0;
+                if (best.size() < limit) {
+                    best.add(new int[]{key, slot});
+                } else if (compare(key, slot, best.peek()[0], best.peek()[1]) > 0) {
+                    best.poll();
+                    best.add(new int[]{key, slot});
+                }
+            }
+
+            List<Candidate> ranked = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                int[] entry = best.poll();
+                int slot = entry[1];
+                Map<Long, UserSkill.ProficiencyLevel> matchedSkills = new LinkedHashMap<>();
+                int i = 0;
+                for (Long skillId : skillIds) {
+                    int level = levelOf(required.get(i++), slot, minLevel);
+                    if (level >= 0) {
+                        matchedSkills.put(skillId, LEVELS[level]);
+                    }
+                }
+                ranked.add(new Candidate(userIdBySlot[slot], entry[0] / MATCH_WEIGHT, entry[0] % MATCH_WEIGHT, matchedSkills));
+            }
+            // Only handed back on success: an exception above could leave non-zero keys behind
+            SCRATCH.offer(keys);
+            // Heap drains weakest first
+            return ranked.reversed();
+        }
+
+        // Positive when a ranks above b; equal keys go to the lower user id
+        private int compare(int keyA, int slotA, int keyB, int slotB) {
+            if (keyA != keyB) {
+                return Integer.compare(keyA, keyB);
+            }
+            return Long.compare(userIdBySlot[slotB], userIdBySlot[slotA]);
+        }
+
+        private static int levelOf(BitSet[] levels, int slot, UserSkill.ProficiencyLevel minLevel) {
+            if (levels == null) {
+                return -1;
+            }
+            for (int i = levels.length - 1; i >= minLevel.ordinal(); i--) {
+                if (levels[i] != null && levels[i].get(slot)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.buildtogether.service;
+
+import com.buildtogether.config.CacheConfig;
+import com.buildtogether.dto.SkillDTO;
+import com.buildtogether.exception.ResourceNotFoundException;
+import com.buildtogether.repository.SkillRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SkillQueryService {
+
+    private final SkillRepository skillRepository;
+
+    @Cacheable(cacheNames = CacheConfig.SKILLS, key = "'all'")
+    @Transactional(readOnly = true)
+    public List<SkillDTO> findAll() {
+        return skillRepository.findAll().stream()
+                .map(SkillDTO::fromSkill)
+                .toList();
+    }
+
+    @Cacheable(cacheNames = CacheConfig.SKILL_BY_ID, key = "#id")
+    @Transactional(readOnly = true)
+    public SkillDTO findById(Long id) {
+        return skillRepository.findById(id)
+                .map(SkillDTO::fromSkill)
+                .orElseThrow(() -> new ResourceNotFoundException("Skill", "id", id));
+    }
+}
@@ -0,0 +1,108 @@
+package com.buildtogether.service;
+
+import com.buildtogether.dto.SubmissionDTO;
+import com.buildtogether.dto.SubmissionSummaryDTO;
+import com.buildtogether.entity.Submission;
+import com.buildtogether.projection.FieldProjection;
+import com.buildtogether.projection.FieldSelection;
+import com.buildtogether.repository.SubmissionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// Submission lists. Without fields= the rows are SubmissionSummaryDTOs, which leave out the CLOB columns; with
+// fields= only the named columns are selected (a CLOB is read only when asked for) into SubmissionDTOs, and the
+// response filter writes just those fields. GET /submissions/{id} is the one read that always has everything.
+@Service
+@RequiredArgsConstructor
+public class SubmissionQueryService {
+
+    // id is always selected: the keyset page and stream endpoints take their cursor from it
+    private static final FieldProjection<SubmissionDTO> PROJECTION = FieldProjection
+            .of(SubmissionDTO::new, "FROM Submission s JOIN s.team t JOIN s.hackathon h")
+            .field("id", "s.id", SubmissionDTO::setId)
+            .field("teamId", "t.id", SubmissionDTO::setTeamId)
+            .field("teamName", "t.teamName", SubmissionDTO::setTeamName)
+            .field("hackathonId", "h.id", SubmissionDTO::setHackathonId)
+            .field("projectTitle", "s.projectTitle", SubmissionDTO::setProjectTitle)
+            .field("status", "s.status", (SubmissionDTO dto, Submission.SubmissionStatus status) ->
+                    dto.setStatus(status != null ? status.name() : null))
+            .field("score", "s.score", SubmissionDTO::setScore)
+            .field("submittedAt", "s.submittedAt", SubmissionDTO::setSubmittedAt)
+            .field("hackathonTitle", "h.title", SubmissionDTO::setHackathonTitle)
+            .field("projectDescription", "s.projectDescription", SubmissionDTO::setProjectDescription)
+            .field("githubLink", "s.githubLink", SubmissionDTO::setGithubLink)
+            .field("demoLink", "s.demoLink", SubmissionDTO::setDemoLink)
+            .field("presentationLink", "s.presentationLink", SubmissionDTO::setPresentationLink)
+            .field("technologies", "s.technologies", SubmissionDTO::setTechnologies)
+            .field("features", "s.features", SubmissionDTO::setFeatures)
+            .field("judgeComments", "s.judgeComments", SubmissionDTO::setJudgeComments)
+            .require("id");
+
+    private final SubmissionRepository submissionRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public List<SubmissionSummaryDTO> findAll(FieldSelection fields) {
+        if (fields.isAll()) {
+            return submissionRepository.findAllSummaries();
+        }
+        return query("", Map.of(), fields, 0);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SubmissionSummaryDTO> findByTeamId(Long teamId, FieldSelection fields) {
+        if (fields.isAll()) {
+            return submissionRepository.findSummariesByTeamId(teamId);
+        }
+        return query(" WHERE t.id = :teamId", Map.of("teamId", teamId), fields, 0);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SubmissionSummaryDTO> findByHackathonId(Long hackathonId, FieldSelection fields) {
+        if (fields.isAll()) {
+            return submissionRepository.findSummariesByHackathonId(hackathonId);
+        }
+        return query(" WHERE h.id = :hackathonId", Map.of("hackathonId", hackathonId), fields, 0);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SubmissionSummaryDTO> findByStatus(Submission.SubmissionStatus status, FieldSelection fields) {
+        if (fields.isAll()) {
+            return submissionRepository.findSummariesByStatus(status);
+        }
+        return query(" WHERE s.status = :status", Map.of("status", status), fields, 0);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SubmissionSummaryDTO> findByTeamIdAndHackathonId(Long teamId, Long hackathonId, FieldSelection fields) {
+        if (fields.isAll()) {
+            return submissionRepository.findSummariesByTeamIdAndHackathonId(teamId, hackathonId);
+        }
+        return query(" WHERE t.id = :teamId AND h.id = :hackathonId",
+                Map.of("teamId", teamId, "hackathonId", hackathonId), fields, 0);
+    }
+
+    // Keyset page: up to limit rows with an id above afterId, in id order
+    @Transactional(readOnly = true)
+    public List<SubmissionSummaryDTO> findPageAfter(Long afterId, int limit, FieldSelection fields) {
+        if (fields.isAll()) {
+            return submissionRepository.findSummaryPageAfter(afterId, PageRequest.ofSize(limit));
+        }
+        return query(" WHERE s.id > :id ORDER BY s.id", Map.of("id", afterId), fields, limit);
+    }
+
+    private List<SubmissionSummaryDTO> query(String where, Map<String, Object> parameters, FieldSelection fields,
+                                             int limit) {
+        return Collections.unmodifiableList(PROJECTION.select(entityManager, fields, where, parameters, limit));
+    }
+}
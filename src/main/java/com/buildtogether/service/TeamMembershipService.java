@@ -0,0 +1,115 @@
+package com.buildtogether.service;
+
+import com.buildtogether.dto.JoinApprovalDTO;
+import com.buildtogether.dto.JoinRequestDTO;
+import com.buildtogether.dto.TeamMemberDTO;
+import com.buildtogether.entity.JoinRequest;
+import com.buildtogether.entity.Team;
+import com.buildtogether.entity.TeamMember;
+import com.buildtogether.entity.TeamMemberId;
+import com.buildtogether.event.EntityChangedEvent;
+import com.buildtogether.event.MembershipEvent;
+import com.buildtogether.exception.CapacityExceededException;
+import com.buildtogether.exception.ResourceAlreadyExistsException;
+import com.buildtogether.exception.ResourceNotFoundException;
+import com.buildtogether.exception.ValidationException;
+import com.buildtogether.repository.JoinRequestRepository;
+import com.buildtogether.repository.TeamMemberRepository;
+import com.buildtogether.repository.TeamRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// Every change to team membership goes through here so that Team.memberCount stays exact and no team grows past
+// its hackathon's maxTeamSize: a join claims a seat (one conditional UPDATE, see TeamRepository.claimSeat) in the
+// same transaction as the member insert, so a failed insert gives the seat back on rollback.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TeamMembershipService {
+
+    private final JoinRequestRepository joinRequestRepository;
+    private final TeamRepository teamRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Approves a pending request, adds the applicant to the team and rejects their other pending requests in the
+    // same hackathon, all or nothing
+    @Transactional
+    public JoinApprovalDTO approveAndJoin(Long joinRequestId, TeamMember.RoleInTeam role) {
+        JoinRequest joinRequest = joinRequestRepository.findWithTeamAndUserById(joinRequestId)
+                .orElseThrow(() -> new ResourceNotFoundException("JoinRequest", "id", joinRequestId));
+        if (joinRequest.getStatus() != JoinRequest.RequestStatus.PENDING) {
+            throw new ValidationException("Join request " + joinRequestId + " is already " + joinRequest.getStatus());
+        }
+        Team team = joinRequest.getTeam();
+        Long userId = joinRequest.getUser().getId();
+        TeamMemberId memberId = new TeamMemberId(team.getId(), userId);
+        if (teamMemberRepository.existsById(memberId)) {
+            throw new ResourceAlreadyExistsException(
+                    String.format("User %d is already a member of team %d", userId, team.getId()));
+        }
+        claimSeat(team.getId());
+
+        joinRequest.setStatus(JoinRequest.RequestStatus.APPROVED);
+        TeamMember member = new TeamMember(memberId, team, joinRequest.getUser(), role, null, null);
+        // persist, not save: with its id already assigned save() would merge and SELECT the row first
+        entityManager.persist(member);
+
+        Long hackathonId = team.getHackathon().getId();
+        List<JoinRequestDTO> autoRejected = joinRequestRepository.findOtherPendingDtos(userId, hackathonId, joinRequestId);
+        if (!autoRejected.isEmpty()) {
+            joinRequestRepository.rejectPending(autoRejected.stream().map(JoinRequestDTO::getId).toList());
+            autoRejected.forEach(dto -> dto.setStatus(JoinRequest.RequestStatus.REJECTED.name()));
+        }
+        log.debug("Approved join request {}: user {} joined team {}, {} other requests rejected",
+                joinRequestId, userId, team.getId(), autoRejected.size());
+
+        JoinRequestDTO approved = JoinRequestDTO.fromJoinRequest(joinRequest);
+        TeamMemberDTO memberDTO = TeamMemberDTO.fromTeamMember(member);
+        eventPublisher.publishEvent(new EntityChangedEvent(TeamMember.class, memberId, EntityChangedEvent.Change.CREATED));
+        eventPublisher.publishEvent(new MembershipEvent(MembershipEvent.Type.JOIN_REQUEST_APPROVED, team.getId(), userId, approved));
+        eventPublisher.publishEvent(new MembershipEvent(MembershipEvent.Type.MEMBER_ADDED, team.getId(), userId, memberDTO));
+        for (JoinRequestDTO rejected : autoRejected) {
+            eventPublisher.publishEvent(new MembershipEvent(MembershipEvent.Type.JOIN_REQUEST_REJECTED,
+                    rejected.getTeamId(), userId, rejected));
+        }
+        return new JoinApprovalDTO(approved, memberDTO, autoRejected);
+    }
+
+    @Transactional
+    public TeamMember addMember(TeamMember teamMember) {
+        claimSeat(teamMember.getTeam().getId());
+        return teamMemberRepository.save(teamMember);
+    }
+
+    @Transactional
+    public void removeMember(TeamMemberId id) {
+        if (!teamMemberRepository.existsById(id)) {
+            throw new ResourceNotFoundException(String.format("TeamMember not found with teamId: %d and userId: %d",
+                    id.getTeamId(), id.getUserId()));
+        }
+        // Seat first: on Oracle, deleting the row brings a count still above the member rows down to them
+        // (tr_team_member_count_sync), and releasing the seat after that would take off a second one
+        teamRepository.releaseSeat(id.getTeamId());
+        teamMemberRepository.deleteById(id);
+    }
+
+    private void claimSeat(Long teamId) {
+        if (teamRepository.claimSeat(teamId) == 0) {
+            if (!teamRepository.existsById(teamId)) {
+                throw new ResourceNotFoundException("Team", "id", teamId);
+            }
+            throw new CapacityExceededException("Team " + teamId + " is full");
+        }
+    }
+}
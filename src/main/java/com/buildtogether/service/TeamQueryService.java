@@ -0,0 +1,43 @@
+package com.buildtogether.service;
+
+import com.buildtogether.config.CacheConfig;
+import com.buildtogether.dto.TeamDTO;
+import com.buildtogether.exception.ResourceNotFoundException;
+import com.buildtogether.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class TeamQueryService {
+
+    private final TeamRepository teamRepository;
+
+    @Cacheable(cacheNames = CacheConfig.TEAMS, key = "'all'")
+    @Transactional(readOnly = true)
+    public List<TeamDTO> findAll() {
+        return teamRepository.findAll().stream()
+                .map(TeamDTO::fromTeam)
+                .toList();
+    }
+
+    @Cacheable(cacheNames = CacheConfig.TEAM_BY_ID, key = "#id")
+    @Transactional(readOnly = true)
+    public TeamDTO findById(Long id) {
+        return teamRepository.findById(id)
+                .map(TeamDTO::fromTeam)
+                .orElseThrow(() -> new ResourceNotFoundException("Team", "id", id));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.TEAMS_BY_HACKATHON, key = "#hackathonId")
+    @Transactional(readOnly = true)
+    public List<TeamDTO> findByHackathonId(Long hackathonId) {
+        return teamRepository.findByHackathonId(hackathonId).stream()
+                .map(TeamDTO::fromTeam)
+                .toList();
+    }
+}
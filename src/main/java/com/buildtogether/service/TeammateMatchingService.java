@@ -0,0 +1,81 @@
+package com.buildtogether.service;
+
+import com.buildtogether.dto.CandidateMatchDTO;
+import com.buildtogether.entity.User;
+import com.buildtogether.entity.UserSkill;
+import com.buildtogether.exception.ResourceNotFoundException;
+import com.buildtogether.exception.ValidationException;
+import com.buildtogether.repository.TeamMemberRepository;
+import com.buildtogether.repository.TeamRepository;
+import com.buildtogether.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TeammateMatchingService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+    public static final int MAX_SKILLS = 20;
+
+    private final SkillMatchIndex skillMatchIndex;
+    private final TeamRepository teamRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final UserRepository userRepository;
+
+    // Ranking runs against the in-memory index; the database is only asked for the team's members and the
+    // profiles of the returned candidates
+    @Transactional(readOnly = true)
+    public List<CandidateMatchDTO> findCandidates(Long teamId, List<Long> skillIds, String minProficiency, Integer limit) {
+        if (skillIds == null || skillIds.isEmpty()) {
+            throw new ValidationException("At least one skillId is required");
+        }
+        Set<Long> requiredSkills = new LinkedHashSet<>(skillIds);
+        if (requiredSkills.size() > MAX_SKILLS) {
+            throw new ValidationException("At most " + MAX_SKILLS + " skills can be matched at once");
+        }
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        UserSkill.ProficiencyLevel minLevel = parseLevel(minProficiency);
+        if (!teamRepository.existsById(teamId)) {
+            throw new ResourceNotFoundException("Team", "id", teamId);
+        }
+
+        List<Long> memberIds = teamMemberRepository.findUserIdsByTeamId(teamId);
+        List<SkillMatchIndex.Candidate> ranked = skillMatchIndex.rank(requiredSkills, minLevel, memberIds, size);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, User> users = userRepository.findAllById(ranked.stream().map(SkillMatchIndex.Candidate::userId).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        // A user deleted after the ranking simply drops out
+        return ranked.stream()
+                .filter(candidate -> users.containsKey(candidate.userId()))
+                .map(candidate -> CandidateMatchDTO.fromCandidate(candidate, users.get(candidate.userId())))
+                .toList();
+    }
+
+    private static UserSkill.ProficiencyLevel parseLevel(String level) {
+        if (level == null || level.isBlank()) {
+            return UserSkill.ProficiencyLevel.BEGINNER;
+        }
+        try {
+            return UserSkill.ProficiencyLevel.valueOf(level.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid proficiency level: " + level);
+        }
+    }
+}
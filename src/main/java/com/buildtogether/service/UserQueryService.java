@@ -0,0 +1,63 @@
+package com.buildtogether.service;
+
+import com.buildtogether.dto.UserDTO;
+import com.buildtogether.entity.User;
+import com.buildtogether.projection.FieldProjection;
+import com.buildtogether.projection.FieldSelection;
+import com.buildtogether.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+// User lists. With fields= only the named columns are selected; without it the whole row is read as before.
+@Service
+@RequiredArgsConstructor
+public class UserQueryService {
+
+    // id is always selected: the keyset page and stream endpoints take their cursor from it
+    private static final FieldProjection<UserDTO> PROJECTION = FieldProjection
+            .of(UserDTO::new, "FROM User u")
+            .field("id", "u.id", UserDTO::setId)
+            .field("name", "u.name", UserDTO::setName)
+            .field("email", "u.email", UserDTO::setEmail)
+            .field("phone", "u.phone", UserDTO::setPhone)
+            .field("role", "u.role", UserDTO::setRole)
+            .field("githubLink", "u.githubLink", UserDTO::setGithubLink)
+            .field("linkedinLink", "u.linkedinLink", UserDTO::setLinkedinLink)
+            .field("createdAt", "u.createdAt", UserDTO::setCreatedAt)
+            .field("updatedAt", "u.updatedAt", UserDTO::setUpdatedAt)
+            .require("id");
+
+    private final UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public List<UserDTO> findAll(FieldSelection fields) {
+        if (fields.isAll()) {
+            return userRepository.findAll().stream()
+                    .map(UserDTO::fromUser)
+                    .toList();
+        }
+        return PROJECTION.select(entityManager, fields, "", Map.of(), 0);
+    }
+
+    // Keyset page: up to limit users with an id above afterId, in id order
+    @Transactional(readOnly = true)
+    public List<UserDTO> findPageAfter(Long afterId, int limit, FieldSelection fields) {
+        if (fields.isAll()) {
+            List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.ofSize(limit));
+            return users.stream()
+                    .map(UserDTO::fromUser)
+                    .toList();
+        }
+        return PROJECTION.select(entityManager, fields, " WHERE u.id > :id ORDER BY u.id", Map.of("id", afterId), limit);
+    }
+}
@@ -0,0 +1,172 @@
+package com.buildtogether;
+
+import com.buildtogether.config.QueryBudgetConfig;
+import com.buildtogether.entity.JoinRequest;
+import com.buildtogether.entity.Submission;
+import com.buildtogether.entity.TeamMember;
+import com.buildtogether.entity.TeamMemberId;
+import com.buildtogether.entity.UserSkill;
+import com.buildtogether.monitoring.QueryCounter;
+import com.buildtogether.repository.JoinRequestRepository;
+import com.buildtogether.repository.SubmissionRepository;
+import com.buildtogether.repository.TeamMemberRepository;
+import com.buildtogether.repository.UserSkillRepository;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+
+// Pins the @EntityGraph fetch plans: each finder loads its entities and their graph associations in one statement,
+// and the associations are usable with no session open (a missing attribute node would throw
+// LazyInitializationException here, or show up as one extra statement per row). The endpoints built on the finders
+// are held to their exact statement counts.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SampleDataConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class FetchPlanTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JoinRequestRepository joinRequestRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Test
+    @Order(1)
+    void joinRequestWithTeamAndUser() {
+        assertSingleStatement("findWithTeamAndUserById", () -> List.of(joinRequestRepository.findWithTeamAndUserById(1L).orElseThrow()),
+                FetchPlanTest::touch);
+        assertSingleStatement("findByTeamId", () -> joinRequestRepository.findByTeamId(1L), FetchPlanTest::touch);
+        assertSingleStatement("findByUserId", () -> joinRequestRepository.findByUserId(3L), FetchPlanTest::touch);
+        assertSingleStatement("findByStatus", () -> joinRequestRepository.findByStatus(JoinRequest.RequestStatus.PENDING),
+                FetchPlanTest::touch);
+        assertSingleStatement("findByTeamIdAndUserId", () -> List.of(joinRequestRepository.findByTeamIdAndUserId(1L, 3L).orElseThrow()),
+                FetchPlanTest::touch);
+    }
+
+    @Test
+    @Order(1)
+    void teamMemberWithTeamAndUser() {
+        assertSingleStatement("findWithTeamAndUserById",
+                () -> List.of(teamMemberRepository.findWithTeamAndUserById(new TeamMemberId(1L, 1L)).orElseThrow()), FetchPlanTest::touch);
+        assertSingleStatement("findByTeamId", () -> teamMemberRepository.findByTeamId(1L), FetchPlanTest::touch);
+        assertSingleStatement("findByUserId", () -> teamMemberRepository.findByUserId(1L), FetchPlanTest::touch);
+    }
+
+    @Test
+    @Order(1)
+    void submissionWithTeamAndHackathon() {
+        assertSingleStatement("findWithTeamAndHackathonById", () -> List.of(submissionRepository.findWithTeamAndHackathonById(1L).orElseThrow()),
+                FetchPlanTest::touch);
+        assertSingleStatement("findByTeamId", () -> submissionRepository.findByTeamId(1L), FetchPlanTest::touch);
+        assertSingleStatement("findByHackathonId", () -> submissionRepository.findByHackathonId(1L), FetchPlanTest::touch);
+        assertSingleStatement("findByStatus", () -> submissionRepository.findByStatus(Submission.SubmissionStatus.UNDER_REVIEW),
+                FetchPlanTest::touch);
+        assertSingleStatement("findByTeamIdAndHackathonId", () -> submissionRepository.findByTeamIdAndHackathonId(1L, 1L),
+                FetchPlanTest::touch);
+    }
+
+    @Test
+    @Order(1)
+    void userSkillWithUserAndSkill() {
+        assertSingleStatement("findByUserId", () -> userSkillRepository.findByUserId(1L), FetchPlanTest::touch);
+        assertSingleStatement("findBySkillId", () -> userSkillRepository.findBySkillId(1L), FetchPlanTest::touch);
+        assertSingleStatement("findByProficiencyLevel", () -> userSkillRepository.findByProficiencyLevel(UserSkill.ProficiencyLevel.EXPERT),
+                FetchPlanTest::touch);
+    }
+
+    @Test
+    @Order(2)
+    void endpointsLoadThroughTheirFetchPlan() throws Exception {
+        assertStatements(2, HttpMethod.PUT, "/api/v1/submissions/1/score?score=88.5", null);
+        assertStatements(2, HttpMethod.PUT, "/api/v1/submissions/1/status?status=APPROVED", null);
+        assertStatements(2, HttpMethod.PUT, "/api/v1/submissions/1",
+                "{\"team\":{\"id\":1},\"hackathon\":{\"id\":1},\"projectTitle\":\"Smart Task Manager\","
+                        + "\"projectDescription\":\"Reworded\",\"status\":\"UNDER_REVIEW\",\"submittedBy\":{\"id\":1}}");
+        assertStatements(2, HttpMethod.PUT, "/api/v1/join-requests/4/reject", null);
+        assertStatements(2, HttpMethod.PUT, "/api/v1/join-requests/3/approve", null);
+        assertStatements(2, HttpMethod.PUT, "/api/v1/join-requests/4",
+                "{\"team\":{\"id\":4},\"user\":{\"id\":2},\"status\":\"PENDING\"}");
+        assertStatements(2, HttpMethod.PUT, "/api/v1/team-members/1/7", "{\"roleInTeam\":\"DESIGNER\"}");
+        assertStatements(2, HttpMethod.PUT, "/api/v1/user-skills/1", "{\"proficiencyLevel\":\"INTERMEDIATE\"}");
+        assertStatements(6, HttpMethod.PUT, "/api/v1/join-requests/1/approve-and-join", null);
+    }
+
+    private static <T> void assertSingleStatement(String finder, Supplier<List<T>> load, Consumer<T> touch) {
+        QueryCounter.begin(finder, -1, -1, false);
+        QueryCounter.Scope scope;
+        try {
+            List<T> loaded = load.get();
+            assertThat(loaded).as(finder).isNotEmpty();
+            loaded.forEach(touch);
+        } finally {
+            scope = QueryCounter.end();
+        }
+        assertThat(scope.getStatements()).as("statements of %s", scope).isEqualTo(1);
+    }
+
+    private void assertStatements(int expected, HttpMethod method, String url, String json) throws Exception {
+        MockHttpServletRequestBuilder builder = request(method, url);
+        if (json != null) {
+            builder.contentType(MediaType.APPLICATION_JSON).content(json);
+        }
+        MvcResult result = mockMvc.perform(builder).andReturn();
+        String label = method + " " + url;
+        assertThat(result.getResponse().getStatus())
+                .as("%s -> %s %s", label, result.getResponse().getContentAsString(), result.getResolvedException())
+                .isEqualTo(200);
+        QueryCounter.Scope scope = (QueryCounter.Scope) result.getRequest().getAttribute(QueryBudgetConfig.SCOPE_ATTRIBUTE);
+        assertThat(scope).as("%s was not counted", label).isNotNull();
+        assertThat(scope.getStatements()).as("statements of %s", scope).isEqualTo(expected);
+    }
+
+    private static void touch(JoinRequest joinRequest) {
+        assertThat(joinRequest.getTeam().getHackathon().getTitle()).isNotNull();
+        assertThat(joinRequest.getUser().getName()).isNotNull();
+    }
+
+    private static void touch(TeamMember teamMember) {
+        assertThat(teamMember.getTeam().getHackathon().getTitle()).isNotNull();
+        assertThat(teamMember.getUser().getName()).isNotNull();
+    }
+
+    private static void touch(Submission submission) {
+        assertThat(submission.getTeam().getTeamName()).isNotNull();
+        assertThat(submission.getHackathon().getTitle()).isNotNull();
+    }
+
+    private static void touch(UserSkill userSkill) {
+        assertThat(userSkill.getUser().getName()).isNotNull();
+        assertThat(userSkill.getSkill().getSkillName()).isNotNull();
+    }
+}
@@ -0,0 +1,62 @@
+package com.buildtogether;
+
+import com.buildtogether.dto.HackathonStatsDTO;
+import com.buildtogether.entity.Hackathon;
+import com.buildtogether.service.HackathonQueryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Dashboard aggregates over the sample data, where hackathon 1 has submissions 1 (UNDER_REVIEW, 85.50) and
+// 2 (APPROVED, 92.00), and hackathon 2 has team 3 with members 3 and 4
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SampleDataConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class HackathonStatsTest {
+
+    @Autowired
+    private HackathonQueryService hackathonQueryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void unscoredSubmissionsStayOutOfTheAverage() {
+        // Same status as the scored one, so both land in one SUBMISSION row
+        jdbcTemplate.update("UPDATE dr_submission SET status = 'APPROVED', score = NULL WHERE id = 1");
+
+        HackathonStatsDTO stats = hackathonQueryService.findStats(1L);
+
+        assertThat(stats.getSubmissionCount()).isEqualTo(2);
+        assertThat(stats.getSubmissions()).containsEntry("APPROVED", 2L);
+        assertThat(stats.getAverageScore()).isEqualByComparingTo(new BigDecimal("92.00"));
+        assertThat(stats.getMinScore()).isEqualByComparingTo(new BigDecimal("92.00"));
+        assertThat(stats.getMaxScore()).isEqualByComparingTo(new BigDecimal("92.00"));
+        assertThat(stats.getScoreDistribution()).containsOnlyKeys(92);
+    }
+
+    @Test
+    void unsizedHackathonReportsTheEnforcedDefault() {
+        jdbcTemplate.update("UPDATE dr_hackathon SET max_team_size = NULL WHERE id = 2");
+        for (long userId : new long[]{1, 2, 5}) {
+            jdbcTemplate.update("INSERT INTO dr_team_member (team_id, user_id, role_in_team, created_at, updated_at) " +
+                    "VALUES (3, ?, 'DEVELOPER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", userId);
+        }
+
+        HackathonStatsDTO stats = hackathonQueryService.findStats(2L);
+
+        assertThat(stats.getMaxTeamSize()).isEqualTo(Hackathon.DEFAULT_MAX_TEAM_SIZE);
+        assertThat(stats.getTeamCount()).isEqualTo(1);
+        assertThat(stats.getMemberCount()).isEqualTo(Hackathon.DEFAULT_MAX_TEAM_SIZE);
+        assertThat(stats.getFullTeamCount()).isEqualTo(1);
+    }
+}
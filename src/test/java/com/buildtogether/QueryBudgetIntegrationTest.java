@@ -0,0 +1,326 @@
+package com.buildtogether;
+
+import com.buildtogether.config.QueryBudgetConfig;
+import com.buildtogether.monitoring.QueryBudget;
+import com.buildtogether.monitoring.QueryCounter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+
+// Every /api mapping, run against the sample data with the JDBC statements and rows it causes counted by
+// CountingDataSource. A request over its @QueryBudget (or the default budget when it has none) fails the build, and
+// so does a mapping this class never calls. NDJSON stream bodies run on another thread and are counted there only
+// for their request thread's share.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SampleDataConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class QueryBudgetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Value("${app.query-budget.default-statements}")
+    private int defaultStatements;
+
+    private final Set<Method> exercised = new HashSet<>();
+
+    @Test
+    @Order(1)
+    void userReads() throws Exception {
+        get("/api/v1/users");
+        get("/api/v1/users?fields=id,name");
+        get("/api/v1/users/page?limit=3");
+        get("/api/v1/users/stream");
+        get("/api/v1/users/1");
+        get("/api/v1/users/email/john.smith@email.com");
+        get("/api/v1/users/role/DEVELOPER");
+        get("/api/v1/users/search?query=john");
+        get("/api/v1/users/team/1");
+        get("/api/v1/users/999", 404);
+    }
+
+    @Test
+    @Order(1)
+    void hackathonReads() throws Exception {
+        revalidate("/api/v1/hackathons");
+        get("/api/v1/hackathons/page?limit=2");
+        get("/api/v1/hackathons/stream");
+        get("/api/v1/hackathons/1");
+        get("/api/v1/hackathons/1/stats");
+        revalidate("/api/v1/hackathons/active");
+        get("/api/v1/hackathons/1/leaderboard");
+        sse("/api/v1/hackathons/1/leaderboard/stream");
+    }
+
+    @Test
+    @Order(1)
+    void skillReads() throws Exception {
+        revalidate("/api/v1/skills");
+        get("/api/v1/skills/page?limit=5");
+        get("/api/v1/skills/stream");
+        get("/api/v1/skills/1");
+        get("/api/v1/skills/search?query=java");
+    }
+
+    @Test
+    @Order(1)
+    void teamReads() throws Exception {
+        get("/api/v1/teams");
+        get("/api/v1/teams/page?limit=2");
+        get("/api/v1/teams/stream");
+        get("/api/v1/teams/1");
+        get("/api/v1/teams/hackathon/1");
+        get("/api/v1/teams/user/1");
+        get("/api/v1/teams/1/candidates?skillIds=1,3");
+    }
+
+    @Test
+    @Order(1)
+    void teamMemberReads() throws Exception {
+        get("/api/v1/team-members");
+        get("/api/v1/team-members/page?limit=3");
+        get("/api/v1/team-members/stream");
+        get("/api/v1/team-members/1/1");
+        get("/api/v1/team-members/team/1");
+        // fields= is checked against the declared element type, so an empty list rejects unknown fields too
+        get("/api/v1/team-members/team/999?fields=teamId,userName");
+        get("/api/v1/team-members/team/999?fields=bogus", 400);
+        get("/api/v1/team-members/user/1");
+        get("/api/v1/team-members/check?teamId=1&userId=1");
+    }
+
+    @Test
+    @Order(1)
+    void joinRequestReads() throws Exception {
+        get("/api/v1/join-requests");
+        get("/api/v1/join-requests/page?limit=2");
+        get("/api/v1/join-requests/stream");
+        get("/api/v1/join-requests/1");
+        get("/api/v1/join-requests/team/1");
+        get("/api/v1/join-requests/user/3");
+        get("/api/v1/join-requests/status/pending");
+        get("/api/v1/join-requests/check?teamId=1&userId=3");
+    }
+
+    @Test
+    @Order(1)
+    void submissionReads() throws Exception {
+        get("/api/v1/submissions");
+        get("/api/v1/submissions?fields=id,teamName,status");
+        get("/api/v1/submissions/page?limit=2");
+        get("/api/v1/submissions/stream");
+        get("/api/v1/submissions/1");
+        get("/api/v1/submissions/team/1");
+        get("/api/v1/submissions/hackathon/1");
+        get("/api/v1/submissions/status/submitted");
+        get("/api/v1/submissions/team-hackathon?teamId=1&hackathonId=1");
+    }
+
+    @Test
+    @Order(1)
+    void userSkillReads() throws Exception {
+        get("/api/v1/user-skills");
+        get("/api/v1/user-skills/page?limit=5");
+        get("/api/v1/user-skills/stream");
+        get("/api/v1/user-skills/1");
+        get("/api/v1/user-skills/user/1");
+        get("/api/v1/user-skills/skill/1");
+        get("/api/v1/user-skills/proficiency/EXPERT");
+        get("/api/v1/user-skills/check?userId=1&skillId=1");
+    }
+
+    @Test
+    @Order(1)
+    void searchAndNotificationReads() throws Exception {
+        get("/api/v1/search?q=java");
+        get("/api/v1/search/autocomplete?q=co");
+        sse("/api/v1/users/1/notifications");
+    }
+
+    @Test
+    @Order(2)
+    void writes() throws Exception {
+        long userId = id(send(HttpMethod.POST, "/api/v1/users",
+                "{\"name\":\"Budget Tester\",\"email\":\"budget.tester@email.com\",\"password\":\"secret123\",\"role\":\"DEVELOPER\"}"));
+        send(HttpMethod.PUT, "/api/v1/users/" + userId,
+                "{\"name\":\"Budget Tester 2\",\"email\":\"budget.tester@email.com\",\"password\":\"secret123\",\"role\":\"DEVELOPER\"}");
+        send(HttpMethod.POST, "/api/v1/users/bulk",
+                "[{\"name\":\"Bulk One\",\"email\":\"bulk.one@email.com\",\"password\":\"secret123\",\"role\":\"DEVELOPER\"},"
+                        + "{\"name\":\"Bulk Two\",\"email\":\"bulk.two@email.com\",\"password\":\"secret123\",\"role\":\"DESIGNER\"}]");
+
+        long skillId = id(send(HttpMethod.POST, "/api/v1/skills", "{\"skillName\":\"Kotlin\"}"));
+        send(HttpMethod.PUT, "/api/v1/skills/" + skillId, "{\"skillName\":\"Kotlin Multiplatform\"}");
+        send(HttpMethod.POST, "/api/v1/skills/bulk", "[{\"skillName\":\"Rust\"},{\"skillName\":\"Go\"}]");
+
+        send(HttpMethod.POST, "/api/v1/user-skills",
+                "{\"id\":{\"userId\":" + userId + ",\"skillId\":" + skillId + "},\"user\":{\"id\":" + userId
+                        + "},\"skill\":{\"id\":" + skillId + "},\"proficiencyLevel\":\"BEGINNER\"}");
+        send(HttpMethod.PUT, "/api/v1/user-skills/" + userId, "{\"proficiencyLevel\":\"ADVANCED\"}");
+        send(HttpMethod.POST, "/api/v1/user-skills/bulk",
+                "[{\"user\":{\"id\":" + userId + "},\"skill\":{\"id\":1},\"proficiencyLevel\":\"EXPERT\"}]");
+
+        String start = LocalDate.now().plusDays(10).toString();
+        String end = LocalDate.now().plusDays(12).toString();
+        String hackathon = "{\"title\":\"Budget Hack\",\"startDate\":\"" + start + "\",\"endDate\":\"" + end
+                + "\",\"maxTeamSize\":3,\"createdBy\":{\"id\":" + userId + "}}";
+        long hackathonId = id(send(HttpMethod.POST, "/api/v1/hackathons", hackathon));
+        send(HttpMethod.PUT, "/api/v1/hackathons/" + hackathonId, hackathon.replace("Budget Hack", "Budget Hack 2"));
+
+        String team = "{\"teamName\":\"Budget Team\",\"hackathon\":{\"id\":" + hackathonId + "},\"createdBy\":{\"id\":" + userId + "}}";
+        long teamId = id(send(HttpMethod.POST, "/api/v1/teams", team));
+        send(HttpMethod.PUT, "/api/v1/teams/" + teamId, team.replace("Budget Team", "Budget Team 2"));
+
+        send(HttpMethod.POST, "/api/v1/team-members",
+                "{\"id\":{\"teamId\":" + teamId + ",\"userId\":" + userId + "},\"team\":{\"id\":" + teamId
+                        + "},\"user\":{\"id\":" + userId + "},\"roleInTeam\":\"TEAM_LEAD\"}");
+        send(HttpMethod.PUT, "/api/v1/team-members/" + teamId + "/" + userId, "{\"roleInTeam\":\"DEVELOPER\"}");
+
+        long approved = id(send(HttpMethod.POST, "/api/v1/join-requests",
+                "{\"team\":{\"id\":" + teamId + "},\"user\":{\"id\":5}}"));
+        send(HttpMethod.PUT, "/api/v1/join-requests/" + approved,
+                "{\"team\":{\"id\":" + teamId + "},\"user\":{\"id\":5},\"status\":\"PENDING\"}");
+        send(HttpMethod.PUT, "/api/v1/join-requests/" + approved + "/approve", null);
+        long joined = id(send(HttpMethod.POST, "/api/v1/join-requests",
+                "{\"team\":{\"id\":" + teamId + "},\"user\":{\"id\":6}}"));
+        send(HttpMethod.PUT, "/api/v1/join-requests/" + joined + "/approve-and-join", null);
+        long rejected = id(send(HttpMethod.POST, "/api/v1/join-requests",
+                "{\"team\":{\"id\":" + teamId + "},\"user\":{\"id\":7}}"));
+        send(HttpMethod.PUT, "/api/v1/join-requests/" + rejected + "/reject", null);
+
+        String submission = "{\"team\":{\"id\":" + teamId + "},\"hackathon\":{\"id\":" + hackathonId + "},"
+                + "\"projectTitle\":\"Budget Project\",\"projectDescription\":\"Counts statements\",\"submittedBy\":{\"id\":" + userId + "}}";
+        long submissionId = id(send(HttpMethod.POST, "/api/v1/submissions", submission));
+        send(HttpMethod.PUT, "/api/v1/submissions/" + submissionId, submission.replace("Budget Project", "Budget Project 2"));
+        send(HttpMethod.PUT, "/api/v1/submissions/" + submissionId + "/score?score=8.5&judgeComments=Solid", null);
+        send(HttpMethod.PUT, "/api/v1/submissions/" + submissionId + "/status?status=APPROVED", null);
+
+        send(HttpMethod.DELETE, "/api/v1/submissions/" + submissionId, null);
+        send(HttpMethod.DELETE, "/api/v1/join-requests/" + rejected, null);
+        send(HttpMethod.DELETE, "/api/v1/team-members/" + teamId + "/6", null);
+        send(HttpMethod.DELETE, "/api/v1/user-skills/" + userId, null);
+        send(HttpMethod.DELETE, "/api/v1/teams/" + teamId, null);
+        send(HttpMethod.DELETE, "/api/v1/hackathons/" + hackathonId, null);
+        send(HttpMethod.DELETE, "/api/v1/skills/" + skillId, null);
+        send(HttpMethod.DELETE, "/api/v1/users/" + userId, null);
+    }
+
+    @AfterAll
+    void everyMappingIsCovered() {
+        List<String> missing = handlerMapping.getHandlerMethods().entrySet().stream()
+                .filter(entry -> entry.getKey().getPatternValues().stream().anyMatch(pattern -> pattern.startsWith("/api/")))
+                .filter(entry -> !exercised.contains(entry.getValue().getMethod()))
+                .map(entry -> entry.getKey().toString())
+                .sorted()
+                .toList();
+        assertThat(missing).as("Mappings without a query budget check").isEmpty();
+    }
+
+    private MvcResult get(String url) throws Exception {
+        return get(url, 200);
+    }
+
+    private MvcResult get(String url, int expectedStatus) throws Exception {
+        return perform(request(HttpMethod.GET, url), expectedStatus);
+    }
+
+    // Pre-encoded payload endpoints: the 304 for a matching ETag must carry the same Vary as the 200
+    private void revalidate(String url) throws Exception {
+        MvcResult full = get(url);
+        assertThat(full.getResponse().getHeader(HttpHeaders.VARY)).as(url).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        MvcResult notModified = perform(request(HttpMethod.GET, url)
+                .header(HttpHeaders.IF_NONE_MATCH, full.getResponse().getHeader(HttpHeaders.ETAG)), 304);
+        assertThat(notModified.getResponse().getHeader(HttpHeaders.VARY)).as(url).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    private MvcResult send(HttpMethod method, String url, String json) throws Exception {
+        MockHttpServletRequestBuilder builder = request(method, url);
+        if (json != null) {
+            builder.contentType(MediaType.APPLICATION_JSON).content(json);
+        }
+        return perform(builder, method == HttpMethod.DELETE ? 204 : 200);
+    }
+
+    // Server-sent event streams stay open, so only the subscribing request is checked
+    private void sse(String url) throws Exception {
+        MvcResult result = mockMvc.perform(request(HttpMethod.GET, url).accept(MediaType.TEXT_EVENT_STREAM)).andReturn();
+        assertThat(result.getRequest().isAsyncStarted()).as(url).isTrue();
+        checkBudget(url, result);
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder builder, int expectedStatus) throws Exception {
+        MvcResult result = mockMvc.perform(builder).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        String label = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+        assertThat(result.getResponse().getStatus())
+                .as("%s -> %s %s", label, result.getResponse().getContentAsString(), result.getResolvedException())
+                .isEqualTo(expectedStatus);
+        checkBudget(label, result);
+        return result;
+    }
+
+    private void checkBudget(String label, MvcResult result) {
+        HandlerMethod handler = (HandlerMethod) result.getHandler();
+        assertThat(handler).as("%s has no handler", label).isNotNull();
+        exercised.add(handler.getMethod());
+
+        QueryCounter.Scope scope = (QueryCounter.Scope) result.getRequest().getAttribute(QueryBudgetConfig.SCOPE_ATTRIBUTE);
+        assertThat(scope).as("%s was not counted", label).isNotNull();
+        QueryBudget budget = handler.getMethodAnnotation(QueryBudget.class);
+        int statementBudget = budget != null ? budget.statements() : defaultStatements;
+        if (statementBudget >= 0) {
+            assertThat(scope.getStatements()).as("statements of %s", scope).isLessThanOrEqualTo(statementBudget);
+        }
+        if (budget != null && budget.rows() >= 0) {
+            assertThat(scope.getRows()).as("rows of %s", scope).isLessThanOrEqualTo(budget.rows());
+        }
+    }
+
+    private long id(MvcResult result) throws Exception {
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsByteArray());
+        return body.get("id").asLong();
+    }
+}
@@ -0,0 +1,54 @@
+package com.buildtogether;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+// Loads oracle-db/oracle_sample_data.sql into the test database. Runners go before ApplicationReadyEvent, so the
+// in-memory indexes (search, leaderboard, skill match, active snapshot) warm up from the sample rows.
+@TestConfiguration
+public class SampleDataConfig {
+
+    public static final Path SAMPLE_DATA = Path.of("oracle-db", "oracle_sample_data.sql");
+
+    private static final List<String> SEQUENCE_TABLES =
+            List.of("dr_users", "dr_skill", "dr_hackathon", "dr_team", "dr_join_request", "dr_submission");
+
+    @Bean
+    public ApplicationRunner sampleDataLoader(JdbcTemplate jdbcTemplate) {
+        return args -> load(jdbcTemplate);
+    }
+
+    // Runs the script's DELETE/INSERT/UPDATE statements (the SQL*Plus include, COMMIT and verification queries are
+    // Oracle tooling) and then moves the id sequences past the explicit ids, as resync_id_sequences.sql does
+    public static void load(JdbcTemplate jdbcTemplate) {
+        String script;
+        try {
+            script = Files.readAllLines(SAMPLE_DATA).stream()
+                    .filter(line -> !line.startsWith("--") && !line.startsWith("@@"))
+                    .collect(Collectors.joining("\n"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (String statement : script.split(";")) {
+            String sql = statement.trim();
+            String verb = sql.split("\\s+", 2)[0].toUpperCase(Locale.ROOT);
+            if (verb.equals("DELETE") || verb.equals("INSERT") || verb.equals("UPDATE")) {
+                jdbcTemplate.update(sql);
+            }
+        }
+        for (String table : SEQUENCE_TABLES) {
+            Long next = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+            jdbcTemplate.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " + next);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.buildtogether;
+
+import com.buildtogether.entity.Hackathon;
+import com.buildtogether.entity.Team;
+import com.buildtogether.entity.TeamMember;
+import com.buildtogether.entity.TeamMemberId;
+import com.buildtogether.entity.User;
+import com.buildtogether.exception.CapacityExceededException;
+import com.buildtogether.service.TeamMembershipService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Join burst: JOINS users try to get into TEAMS teams at the same instant, half through approveAndJoin and half
+// through addMember. Teams 1..TEAMS-1 belong to a hackathon of SEATS seats, the last one to a hackathon with no
+// max_team_size, which counts as Hackathon.DEFAULT_MAX_TEAM_SIZE. Every team must end up exactly full, with
+// member_count equal to its member rows, and every refused join must have been refused for capacity.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:capacity;MODE=Oracle;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=60000")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TeamCapacityConcurrencyTest {
+
+    private static final int JOINS = 500;
+    private static final int TEAMS = 5;
+    private static final int SEATS = 4;
+
+    @Autowired
+    private TeamMembershipService teamMembershipService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Users 1..TEAMS create the teams; users TEAMS+1.. are the joiners. Even joiners have a pending join request
+    // (with the same id as the joiner's index) and go through approveAndJoin, odd ones are added directly.
+    @BeforeAll
+    void seed() {
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= TEAMS + JOINS; i++) {
+            users.add(new Object[]{i, "User " + i, "user" + i + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO dr_users (id, name, email, password, role, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 'secret1', 'DEVELOPER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", users);
+        jdbcTemplate.update("INSERT INTO dr_hackathon (id, title, start_date, end_date, max_team_size, created_by, created_at, updated_at) " +
+                "VALUES (1, 'Join Burst', CURRENT_DATE, CURRENT_DATE + 2, ?, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", SEATS);
+        jdbcTemplate.update("INSERT INTO dr_hackathon (id, title, start_date, end_date, max_team_size, created_by, created_at, updated_at) " +
+                "VALUES (2, 'Unsized Burst', CURRENT_DATE, CURRENT_DATE + 2, NULL, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        List<Object[]> teams = new ArrayList<>();
+        for (int t = 1; t <= TEAMS; t++) {
+            teams.add(new Object[]{t, t < TEAMS ? 1 : 2, t, "Team " + t});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO dr_team (id, hackathon_id, created_by, team_name, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", teams);
+        List<Object[]> requests = new ArrayList<>();
+        for (int j = 0; j < JOINS; j += 2) {
+            requests.add(new Object[]{j + 1, teamOf(j), joinerOf(j)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO dr_join_request (id, team_id, user_id, status, requested_at, updated_at) " +
+                "VALUES (?, ?, ?, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", requests);
+    }
+
+    @Test
+    void concurrentJoinsNeverOverfillATeam() throws Exception {
+        Map<String, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+        CountDownLatch ready = new CountDownLatch(JOINS);
+        CountDownLatch go = new CountDownLatch(1);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int j = 0; j < JOINS; j++) {
+                int join = j;
+                workers.submit(() -> {
+                    ready.countDown();
+                    String outcome;
+                    try {
+                        go.await();
+                        join(join);
+                        outcome = "joined";
+                    } catch (CapacityExceededException e) {
+                        outcome = "full";
+                    } catch (Exception e) {
+                        outcome = e.getClass().getSimpleName() + ": " + e.getMessage();
+                    }
+                    outcomes.computeIfAbsent(outcome, o -> new AtomicInteger()).incrementAndGet();
+                });
+            }
+            ready.await();
+            go.countDown();
+        }
+
+        int admitted = 0;
+        for (Map<String, Object> row : jdbcTemplate.queryForList("SELECT t.id, t.member_count, " +
+                "COALESCE(h.max_team_size, " + Hackathon.DEFAULT_MAX_TEAM_SIZE + ") AS seats, " +
+                "(SELECT COUNT(*) FROM dr_team_member m WHERE m.team_id = t.id) AS members " +
+                "FROM dr_team t JOIN dr_hackathon h ON h.id = t.hackathon_id ORDER BY t.id")) {
+            long teamId = ((Number) row.get("ID")).longValue();
+            int memberCount = ((Number) row.get("MEMBER_COUNT")).intValue();
+            int members = ((Number) row.get("MEMBERS")).intValue();
+            int seats = ((Number) row.get("SEATS")).intValue();
+            assertThat(memberCount).as("member_count of team %d", teamId).isEqualTo(members).isLessThanOrEqualTo(seats);
+            // Joins are spread round-robin over far more candidates than seats, so every team fills up
+            assertThat(members).as("members of team %d", teamId).isEqualTo(seats);
+            admitted += members;
+        }
+        assertThat(outcomes.keySet()).as("outcomes %s", outcomes).containsOnly("joined", "full");
+        assertThat(outcomes.get("joined").get()).isEqualTo(admitted);
+        assertThat(outcomes.get("full").get()).isEqualTo(JOINS - admitted);
+        // No request was approved without its member row
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dr_join_request r WHERE r.status = 'APPROVED' " +
+                "AND NOT EXISTS (SELECT 1 FROM dr_team_member m WHERE m.team_id = r.team_id AND m.user_id = r.user_id)",
+                Integer.class)).isZero();
+    }
+
+    private void join(int join) {
+        if (join % 2 == 0) {
+            teamMembershipService.approveAndJoin(join + 1L, TeamMember.RoleInTeam.DEVELOPER);
+        } else {
+            Team team = new Team();
+            team.setId(teamOf(join));
+            User user = new User();
+            user.setId(joinerOf(join));
+            teamMembershipService.addMember(new TeamMember(new TeamMemberId(team.getId(), user.getId()), team, user,
+                    TeamMember.RoleInTeam.DEVELOPER, null, null));
+        }
+    }
+
+    private static long teamOf(int join) {
+        return join % TEAMS + 1;
+    }
+
+    private static long joinerOf(int join) {
+        return TEAMS + join + 1L;
+    }
+}